@@ -3,6 +3,7 @@ package com.maze;
 import com.maze.di.ServiceProvider;
 import com.maze.service.GameEngine;
 import com.maze.cli.CLIApplication;
+import com.maze.cli.PathFinderBenchmark;
 
 /**
  * Ana entry point.
@@ -15,6 +16,8 @@ import com.maze.cli.CLIApplication;
             if (args.length > 0 && args[0].equals("--gui")) {
                 // Launch GUI properly
                 javafx.application.Application.launch(com.maze.gui.MazeApplication.class, args);
+            } else if (args.length > 0 && args[0].equals("--benchmark")) {
+                PathFinderBenchmark.main(java.util.Arrays.copyOfRange(args, 1, args.length));
             } else {
                 runCLI();
             }
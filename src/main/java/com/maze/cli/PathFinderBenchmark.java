@@ -0,0 +1,207 @@
+package com.maze.cli;
+
+import com.maze.core.IPathFinder;
+import com.maze.generator.KruskalMazeGenerator;
+import com.maze.model.*;
+import com.maze.pathfinder.*;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+
+/**
+ * PathFinder'ları farklı labirent boyutlarında karşılaştıran basit benchmark.
+ *
+ * İki labirent türü ölçülür:
+ * - perfect: Kruskal ile üretilen labirent (dar koridorlar, küçük frontier)
+ * - open:    rastgele duvarlı açık alan (geniş frontier, paralel BFS'in hedefi)
+ *
+ * Her ölçüm birkaç ısınma turundan sonra tekrarlanır ve medyan süre raporlanır.
+ * Tüm finder'ların aynı uzunlukta yol döndürdüğü de kontrol edilir.
+ *
+ * --memory modu A*'ı IDA* (O(yol uzunluğu) bellek) ve Fringe Search ile
+ * karşılaştırır: süreye ek olarak sorgu başına thread'in ayırdığı heap
+ * (medyan) ve ölçüm boyunca çalışan GC sayısı raporlanır. Fringe Search
+ * bellek kısıtlı değildir (hücre başına O(V) int dizileri); dizileri sorgular
+ * arasında yeniden kullandığı için sorgu başına ayırması düşük görünür, kalıcı
+ * bellek kullanımı ise A* ile aynı mertebededir. Transposition'sız IDA* açık
+ * alanlarda üstel büyüdüğü için bu modda sadece perfect labirentler ölçülür.
+ *
+ * Kullanım: java com.maze.Main --benchmark [--memory] [boyut ...]
+ */
+public class PathFinderBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {501, 1001, 2001, 3163};
+    private static final int[] DEFAULT_MEMORY_SIZES = {201, 501, 1001, 2001};
+
+    /** Bu hücre sayısının üzerinde Kruskal üretimi (Edge nesneleri) çok bellek ister */
+    private static final long PERFECT_MAZE_LIMIT = 4_100_000L;
+
+    private static final double OPEN_WALL_RATIO = 0.25;
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 5;
+
+    private final List<IPathFinder> pathFinders;
+    private final boolean measureMemory;
+    private final Random random = new Random(42);
+
+    public PathFinderBenchmark() {
+        this(List.of(new BFSPathFinder(), new ParallelBFSPathFinder()));
+    }
+
+    public PathFinderBenchmark(List<IPathFinder> pathFinders) {
+        this(pathFinders, false);
+    }
+
+    /**
+     * @param measureMemory true ise sorgu başına ayrılan heap ve GC sayısı da ölçülür
+     */
+    public PathFinderBenchmark(List<IPathFinder> pathFinders, boolean measureMemory) {
+        this.pathFinders = new ArrayList<>(pathFinders);
+        this.measureMemory = measureMemory;
+    }
+
+    public static void main(String[] args) {
+        boolean memory = args.length > 0 && args[0].equals("--memory");
+        int offset = memory ? 1 : 0;
+
+        int[] sizes = args.length == offset
+                ? (memory ? DEFAULT_MEMORY_SIZES : DEFAULT_SIZES)
+                : new int[args.length - offset];
+        for (int i = offset; i < args.length; i++) {
+            sizes[i - offset] = Integer.parseInt(args[i]);
+        }
+
+        PathFinderBenchmark benchmark = memory
+                ? new PathFinderBenchmark(List.of(new AStarPathFinder(),
+                        new IDAStarPathFinder(), new FringeSearchPathFinder()), true)
+                : new PathFinderBenchmark();
+        benchmark.run(sizes);
+    }
+
+    public void run(int[] sizes) {
+        System.out.println("PathFinder benchmark (" +
+                Runtime.getRuntime().availableProcessors() + " cores)");
+        if (measureMemory) {
+            System.out.printf("%-8s %-10s %-34s %10s %12s %14s %6s%n",
+                    "maze", "cells", "algorithm", "length", "median ms", "alloc KB/query", "GCs");
+        } else {
+            System.out.printf("%-8s %-10s %-34s %10s %12s%n",
+                    "maze", "cells", "algorithm", "length", "median ms");
+        }
+
+        for (int size : sizes) {
+            if ((long) size * size <= PERFECT_MAZE_LIMIT) {
+                Maze perfect = new KruskalMazeGenerator().generate(size, size);
+                benchmark("perfect", perfect);
+            }
+
+            if (!measureMemory) {
+                benchmark("open", createOpenMaze(size, size));
+            }
+        }
+    }
+
+    private void benchmark(String kind, Maze maze) {
+        Position start = new Position(1, 1);
+        Position end = new Position(maze.getRows() - 2, maze.getCols() - 2);
+        maze.setCell(start.getRow(), start.getCol(), Cell.Type.PATH);
+        maze.setCell(end.getRow(), end.getCol(), Cell.Type.PATH);
+
+        int expectedLength = -1;
+
+        for (IPathFinder finder : pathFinders) {
+            for (int i = 0; i < WARMUP_RUNS; i++) {
+                finder.findPath(maze, start, end);
+            }
+
+            long[] times = new long[MEASURED_RUNS];
+            long[] allocated = new long[MEASURED_RUNS];
+            long gcBefore = gcCount();
+            int length = 0;
+            for (int i = 0; i < MEASURED_RUNS; i++) {
+                long allocBefore = allocatedBytes();
+                long begin = System.nanoTime();
+                Path path = finder.findPath(maze, start, end);
+                times[i] = System.nanoTime() - begin;
+                allocated[i] = allocatedBytes() - allocBefore;
+                length = path.getLength();
+            }
+            long gcs = gcCount() - gcBefore;
+            Arrays.sort(times);
+            Arrays.sort(allocated);
+
+            String note = "";
+            if (expectedLength < 0) {
+                expectedLength = length;
+            } else if (length != expectedLength) {
+                note = "  (MISMATCH, expected " + expectedLength + ")";
+            }
+
+            if (measureMemory) {
+                System.out.printf("%-8s %-10d %-34s %10d %12.2f %14s %6d%s%n",
+                        kind,
+                        maze.getCellCount(),
+                        finder.getAlgorithmName(),
+                        length,
+                        times[MEASURED_RUNS / 2] / 1_000_000.0,
+                        allocated[0] < 0 ? "n/a" : String.valueOf(allocated[MEASURED_RUNS / 2] / 1024),
+                        gcs,
+                        note);
+            } else {
+                System.out.printf("%-8s %-10d %-34s %10d %12.2f%s%n",
+                        kind,
+                        maze.getCellCount(),
+                        finder.getAlgorithmName(),
+                        length,
+                        times[MEASURED_RUNS / 2] / 1_000_000.0,
+                        note);
+            }
+        }
+    }
+
+    /**
+     * Mevcut thread'in şimdiye kadar ayırdığı heap byte'ı (JVM desteklemiyorsa -1).
+     * Tek thread'li finder'lar için sorgunun heap kullanımının doğrudan ölçüsüdür.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+            if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+                return hotspot.getCurrentThreadAllocatedBytes();
+            }
+        }
+        return -1;
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Rastgele duvarlı açık labirent (kenarlar duvar).
+     * Start/end köşelerinin iç komşuları açık bırakılır ki uçlar izole kalmasın.
+     */
+    private Maze createOpenMaze(int rows, int cols) {
+        Maze maze = Maze.create(rows, cols);
+        for (int r = 1; r < rows - 1; r++) {
+            for (int c = 1; c < cols - 1; c++) {
+                if (random.nextDouble() >= OPEN_WALL_RATIO) {
+                    maze.setCell(r, c, Cell.Type.PATH);
+                }
+            }
+        }
+
+        maze.setCell(1, 2, Cell.Type.PATH);
+        maze.setCell(2, 1, Cell.Type.PATH);
+        maze.setCell(rows - 2, cols - 3, Cell.Type.PATH);
+        maze.setCell(rows - 3, cols - 2, Cell.Type.PATH);
+        return maze;
+    }
+}
@@ -0,0 +1,25 @@
+package com.maze.core;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+import java.util.List;
+
+/**
+ * Aramalar arasında durum tutan (incremental) yol bulma algoritmaları için.
+ * Engel değişiklikleri bildirildiğinde sonraki findPath sadece etkilenen
+ * kısmı yeniden hesaplar.
+ */
+public interface IIncrementalPathFinder extends IPathFinder {
+
+    /**
+     * Hücrelerin walkable durumu değişti (engel eklendi/kaldırıldı)
+     * @param maze Değişiklik sonrası labirent
+     * @param changed Değişen pozisyonlar
+     */
+    void onCellsChanged(Maze maze, List<Position> changed);
+
+    /**
+     * Tutulan arama durumunu bırakır; sonraki findPath sıfırdan başlar
+     */
+    void reset();
+}
@@ -61,4 +61,14 @@ public interface IObstacleManager {
      * @return Engel sayısı
      */
     int getObstacleCount(Maze maze);
+
+    /**
+     * İki pozisyon arasında engeller/duvarlar dışında bir yol var mı?
+     * Engel ekleme/kaldırma sonrası tüm labirenti yeniden taramadan cevaplanmalıdır.
+     * @param maze Labirent
+     * @param a Birinci pozisyon
+     * @param b İkinci pozisyon
+     * @return true ise bağlı
+     */
+    boolean areConnected(Maze maze, Position a, Position b);
 }
\ No newline at end of file
@@ -50,6 +50,17 @@ public interface IPathFinder {
      */
     boolean isOptimal();
 
+    /**
+     * Yolun hücre hücre mi yoksa sadece dönüş noktalarından (waypoint) mı
+     * oluştuğunu belirtir. Waypoint yollarında ardışık pozisyonlar komşu
+     * değildir: PathUtils.isValidPath yerine isValidWaypointPath kullanılır,
+     * getLength() waypoint sayısıdır ve uzunluk getCost()'tur.
+     * @return true ise any-angle waypoint yolu döner
+     */
+    default boolean returnsWaypoints() {
+        return false;
+    }
+
     /**
      * Algoritmanın time complexity'sini döndürür
      * @return Big-O notasyonu
@@ -16,6 +16,7 @@ public class DefaultModule implements Module {
         // Core interfaces
         container.bind(IMazeGenerator.class, KruskalMazeGenerator.class);
         container.bind(IPathFinder.class, AStarPathFinder.class);
+        container.bind(IIncrementalPathFinder.class, LPAStarPathFinder.class);
         container.bind(IObstacleManager.class, ObstacleManager.class);
 
         // Services (Singleton)
@@ -28,6 +28,9 @@ public class ServiceProvider {
         // PathFinder bindings (Strategy Pattern)
         container.bind(IPathFinder.class, AStarPathFinder.class);
 
+        // Aynı start/end düzenleme sonrası tekrar çözülürken kullanılan replanner
+        container.bind(IIncrementalPathFinder.class, LPAStarPathFinder.class);
+
         // ObstacleManager binding
         container.bind(IObstacleManager.class, ObstacleManager.class);
 
@@ -58,7 +61,8 @@ public class ServiceProvider {
         IPathFinder pathFinder = container.resolve(IPathFinder.class);
         IObstacleManager obstacleManager = container.resolve(IObstacleManager.class);
 
-        return new GameEngine(generator, pathFinder, obstacleManager);
+        return new GameEngine(generator, pathFinder, obstacleManager,
+                container.resolve(IIncrementalPathFinder.class));
     }
 
     /**
@@ -69,7 +73,7 @@ public class ServiceProvider {
         IPathFinder pathFinder = createPathFinder(type);
         IObstacleManager obstacleManager = container.resolve(IObstacleManager.class);
 
-        return new GameEngine(generator, pathFinder, obstacleManager);
+        return new GameEngine(generator, pathFinder, obstacleManager, createReplanner(type, pathFinder));
     }
 
     /**
@@ -80,7 +84,7 @@ public class ServiceProvider {
         IPathFinder pathFinder = createPathFinder(pathType);
         IObstacleManager obstacleManager = container.resolve(IObstacleManager.class);
 
-        return new GameEngine(generator, pathFinder, obstacleManager);
+        return new GameEngine(generator, pathFinder, obstacleManager, createReplanner(pathType, pathFinder));
     }
 
     /**
@@ -106,15 +110,59 @@ public class ServiceProvider {
         switch (type) {
             case BFS:
                 return new BFSPathFinder();
+            case PARALLEL_BFS:
+                return new ParallelBFSPathFinder();
+            case BIDIRECTIONAL_BFS:
+                return new BidirectionalBFSPathFinder();
             case DFS:
                 return new DFSPathFinder();
             case ASTAR:
                 return new AStarPathFinder();
+            case INDEXED_ASTAR:
+                return new IndexedAStarPathFinder();
+            case JPS:
+                return new JPSPathFinder(JPSPathFinder.Movement.FOUR_WAY);
+            case JPS_EIGHT_WAY:
+                return new JPSPathFinder(JPSPathFinder.Movement.EIGHT_WAY);
+            case DSTAR_LITE:
+                return new DStarLitePathFinder();
+            case LPA_STAR:
+                return new LPAStarPathFinder();
+            case HPA_STAR:
+                return new HPAStarPathFinder();
+            case CONTRACTION_HIERARCHY:
+                return new ContractionHierarchyPathFinder();
+            case JUNCTION_GRAPH:
+                return new JunctionGraphPathFinder();
+            case ALT_ASTAR:
+                return new ALTAStarPathFinder();
+            case ARA_STAR:
+                return new ARAStarPathFinder();
+            case IDA_STAR:
+                return new IDAStarPathFinder();
+            case FRINGE_SEARCH:
+                return new FringeSearchPathFinder();
+            case THETA_STAR:
+                return new ThetaStarPathFinder(ThetaStarPathFinder.Variant.THETA);
+            case LAZY_THETA_STAR:
+                return new ThetaStarPathFinder(ThetaStarPathFinder.Variant.LAZY_THETA);
             default:
                 return new AStarPathFinder();
         }
     }
 
+    /**
+     * Replanner factory: 4-yönlü en kısa yolu veren pathfinder'lar için LPA*.
+     * 8-yönlü JPS farklı uzunlukta, waypoint döndüren finder'lar farklı
+     * biçimde yol bulacağı için replanner almaz.
+     */
+    private IIncrementalPathFinder createReplanner(PathFinderType type, IPathFinder pathFinder) {
+        if (type == PathFinderType.JPS_EIGHT_WAY || pathFinder.returnsWaypoints()) {
+            return null;
+        }
+        return new LPAStarPathFinder();
+    }
+
     /**
      * Container'a erişim (advanced usage)
      */
@@ -145,7 +193,23 @@ public class ServiceProvider {
 
     public enum PathFinderType {
         BFS,
+        BIDIRECTIONAL_BFS,
+        PARALLEL_BFS,
         DFS,
-        ASTAR
+        ASTAR,
+        INDEXED_ASTAR,
+        JPS,
+        JPS_EIGHT_WAY,
+        DSTAR_LITE,
+        LPA_STAR,
+        HPA_STAR,
+        CONTRACTION_HIERARCHY,
+        JUNCTION_GRAPH,
+        ALT_ASTAR,
+        ARA_STAR,
+        IDA_STAR,
+        FRINGE_SEARCH,
+        THETA_STAR,
+        LAZY_THETA_STAR
     }
 }
\ No newline at end of file
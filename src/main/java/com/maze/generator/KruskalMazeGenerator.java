@@ -48,7 +48,7 @@ public class KruskalMazeGenerator implements IMazeGenerator {
         if (rows % 2 == 0) rows++;
         if (cols % 2 == 0) cols++;
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
         initializeWalls(maze);
 
         // Union-Find over entire grid (only odd cells are used)
@@ -94,7 +94,7 @@ public class KruskalMazeGenerator implements IMazeGenerator {
         if (rows % 2 == 0) rows++;
         if (cols % 2 == 0) cols++;
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
         initializeWalls(maze);
 
         UnionFind uf = new UnionFind(rows * cols);
@@ -47,7 +47,7 @@ public class PrimMazeGenerator implements IMazeGenerator {
         if (rows % 2 == 0) rows++;
         if (cols % 2 == 0) cols++;
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
         Random random = new Random();
 
         initializeWalls(maze);
@@ -65,8 +65,7 @@ public class PrimMazeGenerator implements IMazeGenerator {
         while (!walls.isEmpty()) {
             Wall wall = walls.remove(random.nextInt(walls.size()));
 
-            Cell target = maze.getCell(wall.to);
-            if (target.getType() == Cell.Type.WALL) {
+            if (maze.getCellType(wall.to.getRow(), wall.to.getCol()) == Cell.Type.WALL) {
 
                 // Carve passage
                 maze.setCell(wall.between.getRow(), wall.between.getCol(), Cell.Type.PATH);
@@ -92,7 +91,7 @@ public class PrimMazeGenerator implements IMazeGenerator {
         if (rows % 2 == 0) rows++;
         if (cols % 2 == 0) cols++;
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
         Random random = new Random();
 
         initializeWalls(maze);
@@ -118,7 +117,7 @@ public class PrimMazeGenerator implements IMazeGenerator {
         while (!walls.isEmpty()) {
             Wall wall = walls.remove(random.nextInt(walls.size()));
 
-            if (maze.getCell(wall.to).getType() == Cell.Type.WALL) {
+            if (maze.getCellType(wall.to.getRow(), wall.to.getCol()) == Cell.Type.WALL) {
 
                 maze.setCell(wall.between.getRow(), wall.between.getCol(), Cell.Type.PATH);
                 maze.setCell(wall.to.getRow(), wall.to.getCol(), Cell.Type.PATH);
@@ -173,7 +172,7 @@ public class PrimMazeGenerator implements IMazeGenerator {
                         cell.getCol() + d[1] / 2
                 );
 
-                if (maze.getCell(to).getType() == Cell.Type.WALL) {
+                if (maze.getCellType(nr, nc) == Cell.Type.WALL) {
                     walls.add(new Wall(cell, to, between));
                 }
             }
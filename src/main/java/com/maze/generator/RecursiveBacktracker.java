@@ -34,7 +34,7 @@ public class RecursiveBacktracker implements IMazeGenerator {
         if (rows % 2 == 0) rows++;
         if (cols % 2 == 0) cols++;
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
         initializeWalls(maze);
         visited = new boolean[rows][cols];
 
@@ -60,7 +60,7 @@ public class RecursiveBacktracker implements IMazeGenerator {
         if (rows % 2 == 0) rows++;
         if (cols % 2 == 0) cols++;
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
         initializeWalls(maze);
         visited = new boolean[rows][cols];
 
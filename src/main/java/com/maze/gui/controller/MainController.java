@@ -95,14 +95,46 @@ public class MainController implements IVisualizationListener {
 
         Menu pathFinderMenu = new Menu("PathFinder");
         MenuItem bfs = new MenuItem("BFS");
+        MenuItem bidirectionalBfs = new MenuItem("Bidirectional BFS");
+        MenuItem parallelBfs = new MenuItem("Parallel BFS");
         MenuItem dfs = new MenuItem("DFS");
         MenuItem astar = new MenuItem("A*");
+        MenuItem indexedAstar = new MenuItem("A* (Indexed Heap)");
+        MenuItem jps = new MenuItem("Jump Point Search");
+        MenuItem jps8 = new MenuItem("Jump Point Search (8-way)");
+        MenuItem dstarLite = new MenuItem("D* Lite");
+        MenuItem lpaStar = new MenuItem("Lifelong Planning A*");
+        MenuItem hpaStar = new MenuItem("HPA* (Hierarchical)");
+        MenuItem contractionHierarchy = new MenuItem("Contraction Hierarchy");
+        MenuItem junctionGraph = new MenuItem("A* (Junction Graph)");
+        MenuItem altAstar = new MenuItem("A* (ALT Landmarks)");
+        MenuItem araStar = new MenuItem("ARA* (Anytime)");
+        MenuItem idaStar = new MenuItem("IDA* (Iterative Deepening)");
+        MenuItem fringeSearch = new MenuItem("Fringe Search");
+        MenuItem thetaStar = new MenuItem("Theta* (Any-Angle)");
+        MenuItem lazyThetaStar = new MenuItem("Lazy Theta* (Any-Angle)");
 
         bfs.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.BFS));
+        bidirectionalBfs.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.BIDIRECTIONAL_BFS));
+        parallelBfs.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.PARALLEL_BFS));
         dfs.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.DFS));
         astar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.ASTAR));
-
-        pathFinderMenu.getItems().addAll(bfs, dfs, astar);
+        indexedAstar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.INDEXED_ASTAR));
+        jps.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.JPS));
+        jps8.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.JPS_EIGHT_WAY));
+        dstarLite.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.DSTAR_LITE));
+        lpaStar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.LPA_STAR));
+        hpaStar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.HPA_STAR));
+        contractionHierarchy.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.CONTRACTION_HIERARCHY));
+        junctionGraph.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.JUNCTION_GRAPH));
+        altAstar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.ALT_ASTAR));
+        araStar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.ARA_STAR));
+        idaStar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.IDA_STAR));
+        fringeSearch.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.FRINGE_SEARCH));
+        thetaStar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.THETA_STAR));
+        lazyThetaStar.setOnAction(e -> changePathFinder(ServiceProvider.PathFinderType.LAZY_THETA_STAR));
+
+        pathFinderMenu.getItems().addAll(bfs, bidirectionalBfs, parallelBfs, dfs, astar, indexedAstar, jps, jps8, dstarLite, lpaStar, hpaStar, contractionHierarchy, junctionGraph, altAstar, araStar, idaStar, fringeSearch, thetaStar, lazyThetaStar);
 
         algorithmMenu.getItems().addAll(generatorMenu, pathFinderMenu);
 
@@ -155,6 +187,16 @@ public class MainController implements IVisualizationListener {
                 Position start = currentMaze.getStartPosition();
                 Position end = currentMaze.getEndPosition();
 
+                // Farklı bileşenlerdeyse arama yapmaya gerek yok
+                if (!currentMaze.getComponentIndex().areConnected(start, end)) {
+                    Platform.runLater(() -> {
+                        mazeCanvas.setPath(null);
+                        updateStatistics();
+                        statusBar.setStatus("No path found! Start and end are not connected.");
+                    });
+                    return;
+                }
+
                 currentPath = engine.findPath(start, end);
 
                 Platform.runLater(() -> {
@@ -232,7 +274,7 @@ public class MainController implements IVisualizationListener {
 
         for (int r = 0; r < currentMaze.getRows(); r++) {
             for (int c = 0; c < currentMaze.getCols(); c++) {
-                if (currentMaze.getCell(r, c).isWalkable()) {
+                if (currentMaze.isWalkable(r, c)) {
                     walkable++;
                 } else {
                     walls++;
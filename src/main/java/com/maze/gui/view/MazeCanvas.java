@@ -1,6 +1,7 @@
 package com.maze.gui.view;
 
 import com.maze.model.*;
+import com.maze.util.PathUtils;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
@@ -14,6 +15,12 @@ public class MazeCanvas extends Canvas {
     private Path path;
     private GraphicsContext gc;
 
+    // Çizilecek yol köşeleri (hücre koordinatı); düz koridorlar setPath'te birleştirilir
+    private int[] pathRows = new int[0];
+    private int[] pathCols = new int[0];
+    private double[] pathXs = new double[0];
+    private double[] pathYs = new double[0];
+
     // Renkler
     private static final Color COLOR_WALL = Color.rgb(44, 62, 80);
     private static final Color COLOR_PATH = Color.rgb(236, 240, 241);
@@ -39,12 +46,40 @@ public class MazeCanvas extends Canvas {
 
     public void setPath(Path path) {
         this.path = path;
+        preparePath();
         draw();
     }
 
+    /**
+     * Yolu çizim köşelerine indirger: aynı doğrultudaki ardışık hücreler tek
+     * segment olur (any-angle yollar zaten sadece waypoint içerir). Her
+     * çizimde tüm hücreler yerine sadece köşeler ölçeklenir.
+     */
+    private void preparePath() {
+        if (path == null || path.isEmpty()) {
+            pathRows = new int[0];
+            pathCols = new int[0];
+            return;
+        }
+
+        var vertices = PathUtils.optimizePath(path).getPositions();
+        int count = vertices.size();
+        pathRows = new int[count];
+        pathCols = new int[count];
+        for (int i = 0; i < count; i++) {
+            pathRows[i] = vertices.get(i).getRow();
+            pathCols[i] = vertices.get(i).getCol();
+        }
+        if (pathXs.length < count) {
+            pathXs = new double[count];
+            pathYs = new double[count];
+        }
+    }
+
     public void clear() {
         this.maze = null;
         this.path = null;
+        preparePath();
         gc.setFill(COLOR_PATH);
         gc.fillRect(0, 0, getWidth(), getHeight());
     }
@@ -65,18 +100,18 @@ public class MazeCanvas extends Canvas {
         // Draw cells
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
-                Cell cell = maze.getCell(r, c);
+                Cell.Type type = maze.getCellType(r, c);
                 double x = c * cellWidth;
                 double y = r * cellHeight;
 
                 // Cell color
-                if (cell.getType() == Cell.Type.WALL) {
+                if (type == Cell.Type.WALL) {
                     gc.setFill(COLOR_WALL);
-                } else if (cell.getType() == Cell.Type.START) {
+                } else if (type == Cell.Type.START) {
                     gc.setFill(COLOR_START);
-                } else if (cell.getType() == Cell.Type.END) {
+                } else if (type == Cell.Type.END) {
                     gc.setFill(COLOR_END);
-                } else if (cell.getType() == Cell.Type.OBSTACLE) {
+                } else if (type == Cell.Type.OBSTACLE) {
                     gc.setFill(COLOR_OBSTACLE);
                 } else {
                     gc.setFill(COLOR_PATH);
@@ -92,22 +127,16 @@ public class MazeCanvas extends Canvas {
         }
 
         // Draw path
-        if (path != null && !path.isEmpty()) {
+        if (pathRows.length > 1) {
             gc.setStroke(COLOR_SOLUTION);
             gc.setLineWidth(cellWidth * 0.3);
 
-            var positions = path.getPositions();
-            for (int i = 0; i < positions.size() - 1; i++) {
-                Position current = positions.get(i);
-                Position next = positions.get(i + 1);
-
-                double x1 = (current.getCol() + 0.5) * cellWidth;
-                double y1 = (current.getRow() + 0.5) * cellHeight;
-                double x2 = (next.getCol() + 0.5) * cellWidth;
-                double y2 = (next.getRow() + 0.5) * cellHeight;
-
-                gc.strokeLine(x1, y1, x2, y2);
+            int count = pathRows.length;
+            for (int i = 0; i < count; i++) {
+                pathXs[i] = (pathCols[i] + 0.5) * cellWidth;
+                pathYs[i] = (pathRows[i] + 0.5) * cellHeight;
             }
+            gc.strokePolyline(pathXs, pathYs, count);
         }
     }
 }
\ No newline at end of file
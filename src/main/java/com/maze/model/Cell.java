@@ -10,6 +10,7 @@ public class Cell {
         OBSTACLE
     }
     private final Position position;
+    private final Maze maze;  // Sahibi olan labirent (bağımsız hücrelerde null)
     private Type type;
     private boolean visited;
     private int gCost;
@@ -18,6 +19,7 @@ public class Cell {
 
     public Cell(Position position, Type type) {
         this.position = position;
+        this.maze = null;
         this.type = type;
         this.visited = false;
         this.gCost = Integer.MAX_VALUE;;
@@ -27,6 +29,7 @@ public class Cell {
 
     public Cell(int x, int y, Type type) {
         this.position = new Position(x, y);
+        this.maze = null;
         this.type = type;
         this.visited = false;
         this.gCost = Integer.MAX_VALUE;
@@ -34,21 +37,43 @@ public class Cell {
         this.parent = null;
     }
 
+    /**
+     * Labirentin byte[] grid'i üzerinde view oluşturur.
+     * Tip okuma/yazma doğrudan labirente yönlendirilir.
+     */
+    Cell(Maze maze, int row, int col) {
+        this.position = new Position(row, col);
+        this.maze = maze;
+        this.visited = false;
+        this.gCost = Integer.MAX_VALUE;
+        this.hCost = 0;
+        this.parent = null;
+    }
+
     public Position getPosition() { return position; }
-    public Type getType() { return type; }
+    public Type getType() {
+        return maze != null ? maze.getCellType(position.getRow(), position.getCol()) : type;
+    }
     public boolean isVisited() { return visited; }
     public int getGCost() { return gCost; }
     public int getHCost() { return hCost; }
     public int getFCost() { return gCost + hCost; } // A* için f = g + h
     public Cell getParent() { return parent; }
 
-    public void setType(Type type) { this.type = type; }
+    public void setType(Type type) {
+        if (maze != null) {
+            maze.setCell(position.getRow(), position.getCol(), type);
+        } else {
+            this.type = type;
+        }
+    }
     public void setVisited(boolean visited) { this.visited = visited; }
     public void setGCost(int gCost) { this.gCost = gCost; }
     public void setHCost(int hCost) { this.hCost = hCost; }
     public void setParent(Cell parent) { this.parent = parent; }
 
     public boolean isWalkable() {
+        Type type = getType();
         return type != Type.WALL && type != Type.OBSTACLE;
     }
 
@@ -61,6 +86,6 @@ public class Cell {
 
     @Override
     public String toString() {
-        return "Cell{pos=" + position + ", type=" + type + "}";
+        return "Cell{pos=" + position + ", type=" + getType() + "}";
     }
 }
@@ -0,0 +1,238 @@
+package com.maze.model;
+
+import java.util.Arrays;
+
+/**
+ * Walkable hücrelerin 4-yönlü bağlı bileşen (connected component) etiketleri.
+ *
+ * Tek bir row-major taramada her walkable hücre sol ve üst komşusunun
+ * geçici etiketiyle birleştirilir (union-find), ardından etiketler
+ * sıkıştırılır. Sonrasında iki pozisyonun birbirine erişebilmesi tek bir
+ * int karşılaştırmasıdır.
+ *
+ * Maze.getComponentIndex() ile alınır; Maze değiştikçe (version) yeniden
+ * kurulur. addObstacle/removeObstacle için bölünme/birleşme gerektirmeyen
+ * durumlar yerinde güncellenir.
+ *
+ * Time Complexity: Kurulum O(V α(V)), sorgu O(1)
+ * Space Complexity: O(V)
+ */
+public final class ComponentIndex {
+
+    /** Walkable olmayan veya sınır dışı hücrelerin bileşeni */
+    public static final int NO_COMPONENT = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int[] labels;
+    private int[] sizes;
+    private int idCount;        // kullanılmış bileşen id sayısı (boşalanlar dahil)
+    private int componentCount; // boş olmayan bileşen sayısı
+    private int version;
+
+    private ComponentIndex(int rows, int cols, int[] labels, int[] sizes,
+                           int idCount, int version) {
+        this.rows = rows;
+        this.cols = cols;
+        this.labels = labels;
+        this.sizes = sizes;
+        this.idCount = idCount;
+        this.componentCount = idCount;
+        this.version = version;
+    }
+
+    /**
+     * Labirentin bileşen etiketlerini hesaplar
+     * @param maze Labirent
+     * @return Yeni index
+     */
+    public static ComponentIndex build(Maze maze) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int[] labels = new int[maze.getCellCount()];
+
+        // Geçici etiketler için union-find (en fazla hücre sayısı kadar etiket)
+        int[] parent = new int[Math.max(1, (maze.getCellCount() + 1) / 2 + cols)];
+        int next = 0;
+
+        for (int r = 0; r < rows; r++) {
+            int rowStart = r * cols;
+            for (int c = 0; c < cols; c++) {
+                int index = rowStart + c;
+                if (!maze.isWalkable(index)) {
+                    labels[index] = NO_COMPONENT;
+                    continue;
+                }
+
+                int left = c > 0 ? labels[index - 1] : NO_COMPONENT;
+                int up = r > 0 ? labels[index - cols] : NO_COMPONENT;
+
+                if (left == NO_COMPONENT && up == NO_COMPONENT) {
+                    if (next == parent.length) {
+                        parent = Arrays.copyOf(parent, parent.length * 2);
+                    }
+                    parent[next] = next;
+                    labels[index] = next++;
+                } else if (up == NO_COMPONENT) {
+                    labels[index] = left;
+                } else if (left == NO_COMPONENT) {
+                    labels[index] = up;
+                } else {
+                    int rootLeft = find(parent, left);
+                    int rootUp = find(parent, up);
+                    if (rootLeft != rootUp) {
+                        // Küçük kök büyüğe bağlanır -> kökler tarama sırasında hep en küçük etiket
+                        parent[Math.max(rootLeft, rootUp)] = Math.min(rootLeft, rootUp);
+                    }
+                    labels[index] = left;
+                }
+            }
+        }
+
+        // Kökleri 0..k-1 aralığına sıkıştır
+        int[] compact = new int[next];
+        int idCount = 0;
+        for (int label = 0; label < next; label++) {
+            int root = find(parent, label);
+            compact[label] = root == label ? idCount++ : compact[root];
+        }
+
+        int[] sizes = new int[Math.max(1, idCount)];
+        for (int i = 0; i < labels.length; i++) {
+            if (labels[i] != NO_COMPONENT) {
+                int id = compact[labels[i]];
+                labels[i] = id;
+                sizes[id]++;
+            }
+        }
+
+        return new ComponentIndex(rows, cols, labels, sizes, idCount, maze.getVersion());
+    }
+
+    private static int find(int[] parent, int label) {
+        while (parent[label] != label) {
+            parent[label] = parent[parent[label]];
+            label = parent[label];
+        }
+        return label;
+    }
+
+    /**
+     * @return Hücrenin bileşen id'si (walkable değilse NO_COMPONENT)
+     */
+    public int getComponent(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return NO_COMPONENT;
+        }
+        return labels[row * cols + col];
+    }
+
+    public int getComponent(Position pos) {
+        return pos == null ? NO_COMPONENT : getComponent(pos.getRow(), pos.getCol());
+    }
+
+    /**
+     * İki pozisyon arasında walkable bir yol var mı? - O(1)
+     */
+    public boolean areConnected(Position a, Position b) {
+        int component = getComponent(a);
+        return component != NO_COMPONENT && component == getComponent(b);
+    }
+
+    /**
+     * Boş olmayan bileşen sayısı
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    /**
+     * @return Bileşendeki hücre sayısı (geçersiz id için 0)
+     */
+    public int getComponentSize(int component) {
+        return component >= 0 && component < idCount ? sizes[component] : 0;
+    }
+
+    public int getLargestComponentSize() {
+        int largest = 0;
+        for (int i = 0; i < idCount; i++) {
+            largest = Math.max(largest, sizes[i]);
+        }
+        return largest;
+    }
+
+    /**
+     * Index'in kurulduğu / en son güncellendiği Maze versiyonu
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Tek hücrenin walkable durumu değiştikten sonra index'i yerinde günceller.
+     * Sadece bileşen bölünmesi veya birleşmesi gerektirmeyen durumlar desteklenir.
+     * @param maze Değişiklik sonrası labirent
+     * @param index Değişen hücre indeksi
+     * @return true ise güncellendi (index yeni versiyona taşındı); false ise yeniden kurulmalı
+     */
+    boolean applyCellChange(Maze maze, int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int[] neighborComponents = new int[4];
+        int neighborCount = 0;
+
+        if (row > 0 && labels[index - cols] != NO_COMPONENT) neighborComponents[neighborCount++] = labels[index - cols];
+        if (row < rows - 1 && labels[index + cols] != NO_COMPONENT) neighborComponents[neighborCount++] = labels[index + cols];
+        if (col > 0 && labels[index - 1] != NO_COMPONENT) neighborComponents[neighborCount++] = labels[index - 1];
+        if (col < cols - 1 && labels[index + 1] != NO_COMPONENT) neighborComponents[neighborCount++] = labels[index + 1];
+
+        if (maze.isWalkable(index)) {
+            if (labels[index] != NO_COMPONENT) {
+                return false;
+            }
+
+            // Açılan hücre: komşu yoksa yeni bileşen, hepsi aynı bileşendeyse ona katılır
+            for (int i = 1; i < neighborCount; i++) {
+                if (neighborComponents[i] != neighborComponents[0]) {
+                    return false;  // birleşme
+                }
+            }
+
+            int component;
+            if (neighborCount == 0) {
+                if (idCount == sizes.length) {
+                    sizes = Arrays.copyOf(sizes, sizes.length * 2);
+                }
+                component = idCount++;
+                componentCount++;
+            } else {
+                component = neighborComponents[0];
+            }
+            labels[index] = component;
+            sizes[component]++;
+        } else {
+            int component = labels[index];
+            if (component == NO_COMPONENT) {
+                return false;
+            }
+
+            // Kapanan hücre: en fazla bir walkable komşusu varsa bileşen bölünemez
+            if (neighborCount > 1) {
+                return false;
+            }
+
+            labels[index] = NO_COMPONENT;
+            if (--sizes[component] == 0) {
+                componentCount--;
+            }
+        }
+
+        version = maze.getVersion();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentIndex{components=" + componentCount + ", version=" + version + "}";
+    }
+}
@@ -1,34 +1,85 @@
 package com.maze.model;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class Maze {
+
+    /**
+     * Hücre saklama modu.
+     * Her iki modda da hücre tipleri row-major byte[] içinde tutulur.
+     */
+    public enum StorageMode {
+        OBJECT,  // Her hücre için kalıcı Cell nesnesi (getGrid() ucuz)
+        PACKED   // Sadece byte[] - Cell view'ları talep üzerine üretilir
+    }
+
+    /** Bu hücre sayısının üzerinde create() PACKED modu seçer */
+    public static final int PACKED_THRESHOLD = 1_000_000;
+
+    private static final Cell.Type[] TYPES = Cell.Type.values();
+    private static final byte WALL = (byte) Cell.Type.WALL.ordinal();
+    private static final byte OBSTACLE = (byte) Cell.Type.OBSTACLE.ordinal();
+
     private final int rows;
     private final int cols;
-    private final Cell[][] grid;
+    private final StorageMode storageMode;
+    private final byte[] cells;   // row-major: index = row * cols + col
+    private final long[] walkable; // walkable hücre bitset'i (bit index = hücre indeksi)
+    private int walkableCount;
+    private int version;          // walkable yapısı her değiştiğinde artar
+    private ComponentIndex componentIndex;  // ilk sorguda kurulur
+    private final Cell[][] grid;  // sadece OBJECT modda dolu
     private Position startPosition;
     private Position endPosition;
     private final List<Position> obstacles;
 
     public Maze(int rows, int cols) {
+        this(rows, cols, StorageMode.OBJECT);
+    }
+
+    /**
+     * @throws IllegalArgumentException Boyut negatifse veya hücre sayısı int'e sığmıyorsa
+     */
+    public Maze(int rows, int cols, StorageMode storageMode) {
+        long cellCount = (long) rows * cols;
+        if (rows < 0 || cols < 0 || cellCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid maze size: " + rows + "x" + cols);
+        }
         this.rows = rows;
         this.cols = cols;
-        this.grid = new Cell[rows][cols];
+        this.storageMode = storageMode;
+        this.cells = new byte[(int) cellCount];
+        this.walkable = new long[(cells.length + 63) >>> 6];
+        this.grid = storageMode == StorageMode.OBJECT ? new Cell[rows][cols] : null;
         this.obstacles = new ArrayList<>();
         initializeGrid();
     }
 
+    /**
+     * Boyuta göre uygun saklama modunu seçerek labirent oluşturur
+     */
+    public static Maze create(int rows, int cols) {
+        long cellCount = (long) rows * cols;
+        return new Maze(rows, cols,
+                cellCount > PACKED_THRESHOLD ? StorageMode.PACKED : StorageMode.OBJECT);
+    }
+
     private void initializeGrid() {
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                grid[r][c] = new Cell(r, c, Cell.Type.WALL);
+        Arrays.fill(cells, WALL);
+
+        if (grid != null) {
+            for (int r = 0; r < rows; r++) {
+                for (int c = 0; c < cols; c++) {
+                    grid[r][c] = new Cell(this, r, c);
+                }
             }
         }
     }
 
     public Cell getCell(int row, int col) {
         if (isValid(row, col)) {
-            return grid[row][col];
+            return grid != null ? grid[row][col] : new Cell(this, row, col);
         }
         return null;
     }
@@ -39,10 +90,34 @@ public class Maze {
 
     public void setCell(int row, int col, Cell.Type type) {
         if (isValid(row, col)) {
-            grid[row][col].setType(type);
+            int index = row * cols + col;
+            boolean wasWalkable = isWalkable(index);
+            cells[index] = (byte) type.ordinal();
+
+            boolean nowWalkable = isWalkable(index);
+            if (nowWalkable != wasWalkable) {
+                walkable[index >>> 6] ^= 1L << index;
+                walkableCount += nowWalkable ? 1 : -1;
+                version++;
+            }
         }
     }
 
+    /**
+     * Hücre tipini Cell nesnesi oluşturmadan döndürür
+     * @return Tip (geçersiz pozisyonda null)
+     */
+    public Cell.Type getCellType(int row, int col) {
+        if (isValid(row, col)) {
+            return TYPES[cells[row * cols + col]];
+        }
+        return null;
+    }
+
+    public Cell.Type getCellType(int index) {
+        return TYPES[cells[index]];
+    }
+
     public boolean isValid(int row, int col) {
         return row >= 0 && row < rows && col >= 0 && col < cols;
     }
@@ -51,6 +126,90 @@ public class Maze {
         return isValid(pos.getRow(), pos.getCol());
     }
 
+    /**
+     * Hücrenin walkable olup olmadığını byte[] üzerinden kontrol eder
+     * @return true ise walkable (sınır dışı ise false)
+     */
+    public boolean isWalkable(int row, int col) {
+        return isValid(row, col) && isWalkable(row * cols + col);
+    }
+
+    public boolean isWalkable(int index) {
+        byte type = cells[index];
+        return type != WALL && type != OBSTACLE;
+    }
+
+    /**
+     * Walkable hücre bitset'i: hücre i walkable ise (words[i >>> 6] >>> i) & 1 == 1.
+     * setCell ile güncel tutulan canlı dizidir; değiştirilmemelidir.
+     * Kelime düzeyinde (64 hücre birden) çalışan algoritmalar içindir.
+     */
+    public long[] getWalkableBits() {
+        return walkable;
+    }
+
+    /**
+     * Walkable hücre sayısı - O(1)
+     */
+    public int getWalkableCount() {
+        return walkableCount;
+    }
+
+    /**
+     * Walkable yapısının versiyonu. Bir hücre walkable <-> duvar/engel arasında
+     * her değiştiğinde artar; türetilmiş index'lerin (bileşen vb.) güncelliğini
+     * kontrol etmek için kullanılır.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Güncel bağlı bileşen index'ini döndürür; labirent değiştiyse yeniden kurar
+     */
+    public ComponentIndex getComponentIndex() {
+        ComponentIndex index = componentIndex;
+        if (index == null || index.getVersion() != version) {
+            index = ComponentIndex.build(this);
+            componentIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Pozisyonu row-major hücre indeksine çevirir
+     */
+    public int toIndex(int row, int col) {
+        return row * cols + col;
+    }
+
+    public int toIndex(Position pos) {
+        return pos.getRow() * cols + pos.getCol();
+    }
+
+    public Position toPosition(int index) {
+        return new Position(index / cols, index % cols);
+    }
+
+    /**
+     * Walkable 4-komşu indekslerini yazar (yukarı, aşağı, sol, sağ sırası)
+     * @param index Hücre indeksi
+     * @param out En az 4 elemanlı hedef dizi
+     * @return Yazılan komşu sayısı
+     */
+    public int getWalkableNeighbors(int index, int[] out) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int count = 0;
+
+        if (row > 0 && isWalkable(index - cols)) out[count++] = index - cols;
+        if (row < rows - 1 && isWalkable(index + cols)) out[count++] = index + cols;
+        if (col > 0 && isWalkable(index - 1)) out[count++] = index - 1;
+        if (col < cols - 1 && isWalkable(index + 1)) out[count++] = index + 1;
+
+        return count;
+    }
+
     public List<Cell> getNeighbors(Position pos) {
         List<Cell> neighbors = new ArrayList<>();
         int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
@@ -59,7 +218,7 @@ public class Maze {
             int newRow = pos.getRow() + dir[0];
             int newCol = pos.getCol() + dir[1];
             if (isValid(newRow, newCol)) {
-                neighbors.add(grid[newRow][newCol]);
+                neighbors.add(getCell(newRow, newCol));
             }
         }
         return neighbors;
@@ -76,13 +235,22 @@ public class Maze {
             int newRow = pos.getRow() + dir[0];
             int newCol = pos.getCol() + dir[1];
             if (isValid(newRow, newCol)) {
-                neighbors.add(grid[newRow][newCol]);
+                neighbors.add(getCell(newRow, newCol));
             }
         }
         return neighbors;
     }
 
+    /**
+     * Cell nesnelerindeki arama alanlarını (gCost, parent...) sıfırlar.
+     * Pathfinder'lar arama durumunu SearchContext'te tuttuğu için buna ihtiyaç duymaz.
+     */
     public void resetCells() {
+        // PACKED modda view'lar her seferinde yeni üretildiği için sıfırlanacak durum yok
+        if (grid == null) {
+            return;
+        }
+
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
                 grid[r][c].reset();
@@ -93,20 +261,57 @@ public class Maze {
     public void addObstacle(Position pos) {
         if (isValid(pos) && !obstacles.contains(pos)) {
             obstacles.add(pos);
-            getCell(pos).setType(Cell.Type.OBSTACLE);
+            setCellTracked(pos.getRow(), pos.getCol(), Cell.Type.OBSTACLE);
         }
     }
 
     public void removeObstacle(Position pos) {
         obstacles.remove(pos);
         if (isValid(pos)) {
-            getCell(pos).setType(Cell.Type.PATH);
+            setCellTracked(pos.getRow(), pos.getCol(), Cell.Type.PATH);
+        }
+    }
+
+    /**
+     * setCell + güncel bileşen index'ini mümkünse yerinde günceller,
+     * mümkün değilse bir sonraki sorguda yeniden kurulmak üzere bırakır
+     */
+    private void setCellTracked(int row, int col, Cell.Type type) {
+        ComponentIndex index = componentIndex;
+        boolean indexCurrent = index != null && index.getVersion() == version;
+        int before = version;
+
+        setCell(row, col, type);
+
+        if (indexCurrent && version != before
+                && !index.applyCellChange(this, row * cols + col)) {
+            componentIndex = null;
         }
     }
 
     public int getRows() { return rows; }
     public int getCols() { return cols; }
-    public Cell[][] getGrid() { return grid; }
+    public int getCellCount() { return cells.length; }
+    public StorageMode getStorageMode() { return storageMode; }
+
+    /**
+     * Hücre matrisini döndürür.
+     * PACKED modda her çağrıda yeni view matrisi üretilir (pahalı).
+     */
+    public Cell[][] getGrid() {
+        if (grid != null) {
+            return grid;
+        }
+
+        Cell[][] views = new Cell[rows][cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                views[r][c] = new Cell(this, r, c);
+            }
+        }
+        return views;
+    }
+
     public Position getStartPosition() { return startPosition; }
     public void setStartPosition(Position pos) { this.startPosition = pos; }
     public Position getEndPosition() { return endPosition; }
@@ -118,8 +323,7 @@ public class Maze {
         StringBuilder sb = new StringBuilder();
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < cols; c++) {
-                Cell.Type type = grid[r][c].getType();
-                sb.append(type == Cell.Type.WALL ? "█" : " ");
+                sb.append(cells[r * cols + c] == WALL ? "█" : " ");
             }
             sb.append("\n");
         }
@@ -0,0 +1,112 @@
+package com.maze.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Çok ajanlı planlama sonucu.
+ *
+ * Her ajanın Path'i zaman indekslidir: positions[t] ajanın t. tick'teki
+ * konumudur, bekleme aynı pozisyonun tekrarı olarak görünür. Hedefe ulaşan
+ * ajanın yolu son varış tick'inde biter (sonrasında hedefte bekler).
+ */
+public class MultiAgentResult {
+    private final List<Path> paths;
+    private final boolean[] solved;
+    private final int makespan;
+    private final int sumOfCosts;
+    private final int replanRounds;
+    private final long expandedStates;
+    private final long computationTimeMs;
+
+    public MultiAgentResult(List<Path> paths, boolean[] solved, int makespan, int sumOfCosts,
+                            int replanRounds, long expandedStates, long computationTimeMs) {
+        this.paths = paths;
+        this.solved = solved.clone();
+        this.makespan = makespan;
+        this.sumOfCosts = sumOfCosts;
+        this.replanRounds = replanRounds;
+        this.expandedStates = expandedStates;
+        this.computationTimeMs = computationTimeMs;
+    }
+
+    public List<Path> getPaths() {
+        return Collections.unmodifiableList(paths);
+    }
+
+    public Path getPath(int agent) {
+        return paths.get(agent);
+    }
+
+    public int getAgentCount() {
+        return paths.size();
+    }
+
+    /**
+     * Ajan hedefine ulaşıp orada kaldı mı?
+     */
+    public boolean isSolved(int agent) {
+        return solved[agent];
+    }
+
+    public int getSolvedCount() {
+        int count = 0;
+        for (boolean s : solved) {
+            if (s) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Son ajanın hedefe vardığı tick (çözülen ajanlar üzerinden)
+     */
+    public int getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * Çözülen ajanların varış tick'leri toplamı
+     */
+    public int getSumOfCosts() {
+        return sumOfCosts;
+    }
+
+    public int getReplanRounds() {
+        return replanRounds;
+    }
+
+    public long getExpandedStates() {
+        return expandedStates;
+    }
+
+    public long getComputationTimeMs() {
+        return computationTimeMs;
+    }
+
+    /**
+     * Saniyede planlanan ajan sayısı
+     */
+    public double getAgentsPerSecond() {
+        return paths.size() * 1000.0 / Math.max(1, computationTimeMs);
+    }
+
+    /**
+     * Saniyede genişletilen space-time durum sayısı
+     */
+    public double getStatesPerSecond() {
+        return expandedStates * 1000.0 / Math.max(1, computationTimeMs);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiAgentResult{agents=" + paths.size() +
+                ", solved=" + getSolvedCount() +
+                ", makespan=" + makespan +
+                ", sumOfCosts=" + sumOfCosts +
+                ", rounds=" + replanRounds +
+                ", expanded=" + expandedStates +
+                ", time=" + computationTimeMs + "ms}";
+    }
+}
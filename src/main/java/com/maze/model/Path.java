@@ -8,12 +8,22 @@ public class Path {
     private final double cost;
     private final int length;
     private final long computationTimeMs;
+    private final double suboptimalityBound;
 
     public Path(List<Position> positions, double cost, long computationTimeMs) {
+        this(positions, cost, computationTimeMs, 1.0);
+    }
+
+    /**
+     * @param suboptimalityBound cost <= bound * optimal cost garantisi
+     *                           (anytime aramalar; tam çözümde 1.0)
+     */
+    public Path(List<Position> positions, double cost, long computationTimeMs, double suboptimalityBound) {
         this.positions = positions;
         this.cost = cost;
         this.length = positions.size();
         this.computationTimeMs = computationTimeMs;
+        this.suboptimalityBound = suboptimalityBound;
     }
 
     public Path(List<Position> positions) {
@@ -56,10 +66,19 @@ public class Path {
         return computationTimeMs;
     }
 
+    /**
+     * Yolun optimalden en fazla kaç kat uzun olabileceği (1.0: optimal).
+     * Sınır bildirmeyen (optimal olmayan) finder'larda varsayılan 1.0'dır.
+     */
+    public double getSuboptimalityBound() {
+        return suboptimalityBound;
+    }
+
     @Override
     public String toString() {
         return "Path{length=" + length +
                 ", cost=" + cost +
-                ", time=" + computationTimeMs + "ms}";
+                ", time=" + computationTimeMs + "ms" +
+                (suboptimalityBound > 1.0 ? ", bound=" + suboptimalityBound : "") + "}";
     }
 }
@@ -0,0 +1,308 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.LandmarkIndex;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * ALT: A* + Landmarks + Triangle inequality
+ *
+ * IndexedAStarPathFinder ile aynı arama (IndexedMinHeap + SearchContext),
+ * heuristic olarak max(Manhattan, landmark alt sınırı) kullanır:
+ *   h(v) = max(|dr| + |dc|, max_L |d(L, end) - d(L, v)|)
+ * İki consistent heuristic'in maksimumu da consistent olduğundan yol yine
+ * optimaldir; labirentlerde landmark sınırı Manhattan'dan çok daha sıkı
+ * olduğu için genişletilen hücre sayısı belirgin şekilde düşer.
+ *
+ * LandmarkIndex Maze nesnesi ve versiyonu başına bir kez (paralel) kurulur
+ * ve aynı labirentteki sonraki sorgularda yeniden kullanılır. Landmark'lardan
+ * biri başlangıç/hedeften sadece birine ulaşıyorsa arama hiç başlamaz.
+ *
+ * Time Complexity: O(E log V) sorgu (k landmark ile heuristic O(k)), kurulum O(k * V)
+ * Space Complexity: O(k * V)
+ */
+public class ALTAStarPathFinder implements IPathFinder {
+
+    private final int landmarkCount;
+    private final ForkJoinPool pool;
+
+    private LandmarkIndex landmarks;
+    private Maze maze;
+
+    public ALTAStarPathFinder() {
+        this(LandmarkIndex.DEFAULT_LANDMARKS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param landmarkCount Landmark sayısı (k)
+     * @param pool Landmark tablolarını kuracak pool
+     */
+    public ALTAStarPathFinder(int landmarkCount, ForkJoinPool pool) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("Landmark count must be positive: " + landmarkCount);
+        }
+        this.landmarkCount = landmarkCount;
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    /**
+     * Labirent için güncel landmark tabloları (gerekirse kurar)
+     */
+    public synchronized LandmarkIndex getLandmarks(Maze maze) {
+        if (maze != this.maze || landmarks == null || !landmarks.isCurrent(maze)) {
+            landmarks = LandmarkIndex.build(maze, landmarkCount, pool);
+            this.maze = maze;
+        }
+        return landmarks;
+    }
+
+    /**
+     * max(Manhattan, landmark alt sınırı)
+     */
+    private int heuristic(int index, int cols, Position end,
+                          LandmarkIndex alt, int[] endDistances) {
+        int manhattan = Math.abs(index / cols - end.getRow()) +
+                Math.abs(index % cols - end.getCol());
+        return Math.max(manhattan, alt.lowerBound(index, endDistances));
+    }
+
+    private long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        if (!maze.isWalkable(startIndex) || !maze.isWalkable(endIndex)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        LandmarkIndex alt = getLandmarks(maze);
+        if (!alt.mayBeConnected(startIndex, endIndex)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+        int[] endDistances = alt.distancesTo(endIndex);
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+
+            IndexedMinHeap openSet = ctx.getOpenHeap();
+            int[] neighbors = new int[4];
+
+            ctx.setGCost(startIndex, 0);
+            openSet.insert(startIndex, priority(0, heuristic(startIndex, cols, end, alt, endDistances)));
+
+            while (!openSet.isEmpty()) {
+
+                // En düşük fCost'lu hücre
+                int current = openSet.poll();
+                int g = ctx.getGCost(current);
+
+                if (current == endIndex) {
+                    long endTime = System.currentTimeMillis();
+                    return new Path(
+                            ctx.reconstructPositions(current),
+                            g,
+                            endTime - startTime
+                    );
+                }
+
+                ctx.markVisited(current);
+
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+
+                    if (ctx.isVisited(neighbor)) {
+                        continue;
+                    }
+
+                    int tentativeG = g + 1;
+
+                    if (tentativeG < ctx.getGCost(neighbor)) {
+                        ctx.setParent(neighbor, current);
+                        ctx.setGCost(neighbor, tentativeG);
+
+                        long key = priority(tentativeG, heuristic(neighbor, cols, end, alt, endDistances));
+                        if (openSet.contains(neighbor)) {
+                            openSet.decreaseKey(neighbor, key);
+                        } else {
+                            openSet.insert(neighbor, key);
+                        }
+                    }
+                }
+            }
+
+            long endTime = System.currentTimeMillis();
+            return new Path(new ArrayList<>(), 0, endTime - startTime);
+        }
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(
+            Maze maze, Position start, Position end) {
+
+        List<AlgorithmStep> steps = new ArrayList<>();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return steps;
+        }
+
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        LandmarkIndex alt = getLandmarks(maze);
+        int[] endDistances = alt.distancesTo(endIndex);
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+
+            IndexedMinHeap openSet = ctx.getOpenHeap();
+            int[] neighbors = new int[4];
+
+            ctx.setGCost(startIndex, 0);
+            openSet.insert(startIndex, priority(0, heuristic(startIndex, cols, end, alt, endDistances)));
+
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    "ALT A* started at " + start +
+                            " (h=" + heuristic(startIndex, cols, end, alt, endDistances) + ", "
+                            + alt.getLandmarkCount() + " landmarks)"
+            ));
+
+            int stepCount = 0;
+
+            while (!openSet.isEmpty()) {
+
+                int current = openSet.poll();
+                Position currentPos = maze.toPosition(current);
+                int g = ctx.getGCost(current);
+                int h = heuristic(current, cols, end, alt, endDistances);
+
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        currentPos,
+                        new ArrayList<>(),
+                        String.format(
+                                "Step %d: Exploring %s (g=%d, h=%d, f=%d)",
+                                ++stepCount,
+                                currentPos,
+                                g,
+                                h,
+                                g + h
+                        )
+                ));
+
+                // Goal bulundu
+                if (current == endIndex) {
+                    Path path = new Path(ctx.reconstructPositions(current));
+                    steps.add(new AlgorithmStep(
+                            AlgorithmStep.StepType.COMPLETE,
+                            end,
+                            path.getPositions(),
+                            "Path found! Length: " +
+                                    path.getLength() +
+                                    ", Cost: " + g
+                    ));
+                    return steps;
+                }
+
+                ctx.markVisited(current);
+
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+
+                    if (ctx.isVisited(neighbor)) {
+                        continue;
+                    }
+
+                    int tentativeG = g + 1;
+
+                    if (tentativeG < ctx.getGCost(neighbor)) {
+                        ctx.setParent(neighbor, current);
+                        ctx.setGCost(neighbor, tentativeG);
+
+                        int nh = heuristic(neighbor, cols, end, alt, endDistances);
+                        long key = priority(tentativeG, nh);
+                        boolean decreased = openSet.contains(neighbor);
+                        if (decreased) {
+                            openSet.decreaseKey(neighbor, key);
+                        } else {
+                            openSet.insert(neighbor, key);
+                        }
+
+                        Position np = maze.toPosition(neighbor);
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                np,
+                                new ArrayList<>(),
+                                String.format(
+                                        "%s: %s (g=%d, h=%d, f=%d)",
+                                        decreased ? "Decreased key" : "Added to open set",
+                                        np,
+                                        tentativeG,
+                                        nh,
+                                        tentativeG + nh
+                                )
+                        ));
+                    }
+                }
+            }
+        }
+
+        // Yol bulunamadı
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                new ArrayList<>(),
+                "No path found!"
+        ));
+
+        return steps;
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "A* Search (ALT Landmarks)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(E (k + log V))";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(k * V)";
+    }
+}
@@ -0,0 +1,372 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * ARA* (Anytime Repairing A*) - deadline ile sınırlı anytime arama
+ *
+ * Önce şişirilmiş heuristic (f = g + ε·h, ε > 1) ile hızlıca bir yol bulur,
+ * sonra süre kaldıkça ε'u düşürüp önceki aramanın durumunu yeniden
+ * kullanarak yolu iyileştirir:
+ *  - Bir iterasyonda kapanmış bir hücrenin g'si düşerse tekrar açılmaz,
+ *    INCONS listesine alınır; sonraki iterasyonun OPEN'ına eklenir
+ *  - Her çözümde gerçekleşen sınır: ε' = min(ε, g(goal) / min_{OPEN ∪ INCONS}(g + h))
+ *    yani cost <= ε' · optimal; ε' = 1 olunca yol optimaldir
+ *
+ * Deadline dolduğunda o ana kadarki en iyi yol ve sınırı döner; ilk
+ * çözümden önce dolarsa Path boştur (sınır +∞).
+ *
+ * Öncelik: (g + ε·h) 1/1024 hassasiyetle üst bitlerde, h alt 21 bitte
+ * (eşit f'de hedefe yakın olan önce)
+ *
+ * Time Complexity: Her iterasyon O(E log V), iterasyon sayısı ≈ (ε0 - 1) / adım
+ * Space Complexity: O(V)
+ */
+public class ARAStarPathFinder implements IPathFinder {
+
+    public static final double DEFAULT_INITIAL_EPSILON = 3.0;
+    public static final double DEFAULT_EPSILON_STEP = 0.5;
+
+    /** Bu kadar genişletmede bir deadline kontrol edilir */
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private static final int H_BITS = 21;
+    private static final int H_MASK = (1 << H_BITS) - 1;
+
+    private final double initialEpsilon;
+    private final double epsilonStep;
+
+    // İterasyon başına CLOSED ve INCONS üyeliği (damga eşitliği = üye)
+    private int[] closedStamp = new int[0];
+    private int[] inconsStamp = new int[0];
+    private int stamp;
+    private int[] touched = new int[64];    // g'si atanmış hücreler (sınır hesabı için)
+    private int touchedCount;
+    private int[] incons = new int[64];
+    private int inconsCount;
+
+    private List<AlgorithmStep> steps;      // null: adım kaydı yok
+    private int iterations;
+
+    public ARAStarPathFinder() {
+        this(DEFAULT_INITIAL_EPSILON, DEFAULT_EPSILON_STEP);
+    }
+
+    /**
+     * @param initialEpsilon İlk aramanın heuristic ağırlığı (>= 1)
+     * @param epsilonStep Her iyileştirmede ε'un azaltılacağı miktar (> 0)
+     */
+    public ARAStarPathFinder(double initialEpsilon, double epsilonStep) {
+        if (initialEpsilon < 1.0) {
+            throw new IllegalArgumentException("Initial epsilon must be at least 1: " + initialEpsilon);
+        }
+        if (epsilonStep <= 0.0) {
+            throw new IllegalArgumentException("Epsilon step must be positive: " + epsilonStep);
+        }
+        this.initialEpsilon = initialEpsilon;
+        this.epsilonStep = epsilonStep;
+    }
+
+    private int heuristic(int index, int cols, Position end) {
+        return Math.abs(index / cols - end.getRow()) +
+                Math.abs(index % cols - end.getCol());
+    }
+
+    private static long priority(int g, int h, double epsilon) {
+        long f = (long) ((g + epsilon * h) * 1024);
+        return (f << H_BITS) | Math.min(h, H_MASK);
+    }
+
+    /**
+     * Süre sınırı olmadan: ε = 1'e kadar iyileştirir (optimal yol)
+     */
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        return findPath(maze, start, end, Long.MAX_VALUE, null);
+    }
+
+    /**
+     * @param deadlineMillis System.currentTimeMillis() cinsinden mutlak son an
+     * @return Deadline'a kadarki en iyi yol; sınırı getSuboptimalityBound()
+     */
+    public Path findPath(Maze maze, Position start, Position end, long deadlineMillis) {
+        return findPath(maze, start, end, deadlineMillis, null);
+    }
+
+    /**
+     * @param onSolution Her yeni (daha iyi sınırlı) çözümde çağrılır (null olabilir)
+     */
+    public Path findPath(Maze maze, Position start, Position end, long deadlineMillis,
+                         Consumer<Path> onSolution) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+        iterations = 0;
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            prepare(maze.getCellCount());
+            IndexedMinHeap open = ctx.getOpenHeap();
+
+            double epsilon = initialEpsilon;
+            ctx.setGCost(startIndex, 0);
+            addTouched(startIndex);
+            open.insert(startIndex, priority(0, heuristic(startIndex, cols, end), epsilon));
+
+            Path best = new Path(new ArrayList<>(), 0,
+                    System.currentTimeMillis() - startTime, Double.POSITIVE_INFINITY);
+
+            while (true) {
+                nextIteration();
+                iterations++;
+                if (!improvePath(maze, ctx, open, endIndex, end, epsilon, deadlineMillis)) {
+                    break;  // deadline
+                }
+
+                int goalCost = ctx.getGCost(endIndex);
+                if (goalCost == SearchContext.INFINITY) {
+                    // OPEN tükendi: yol yok
+                    return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+                }
+
+                double bound = Math.min(epsilon, achievedBound(ctx, open, goalCost, cols, end));
+                best = new Path(ctx.reconstructPositions(endIndex), goalCost,
+                        System.currentTimeMillis() - startTime, bound);
+                recordSolution(end, best, epsilon);
+                if (onSolution != null) {
+                    onSolution.accept(best);
+                }
+
+                if (bound <= 1.0 || System.currentTimeMillis() >= deadlineMillis) {
+                    break;
+                }
+
+                // ε'u düşür; INCONS'u OPEN'a taşı ve OPEN'ı yeni ε ile yeniden anahtarla
+                epsilon = Math.max(1.0, Math.min(epsilon - epsilonStep, bound));
+                reopen(ctx, open, cols, end, epsilon);
+            }
+
+            return best;
+        }
+    }
+
+    /**
+     * Bir ε iterasyonu: hedefin f'i OPEN'daki en küçük f'ten büyük olmadıkça genişlet
+     * @return Deadline dolduysa false
+     */
+    private boolean improvePath(Maze maze, SearchContext ctx, IndexedMinHeap open,
+                                int endIndex, Position end, double epsilon, long deadlineMillis) {
+        int cols = maze.getCols();
+        int[] neighbors = new int[4];
+        int expansions = 0;
+
+        while (!open.isEmpty()) {
+            int goalCost = ctx.getGCost(endIndex);
+            if (goalCost != SearchContext.INFINITY
+                    && priority(goalCost, 0, epsilon) <= open.peekKey()) {
+                return true;
+            }
+            if (++expansions % DEADLINE_CHECK_INTERVAL == 0
+                    && System.currentTimeMillis() >= deadlineMillis) {
+                return false;
+            }
+
+            int current = open.poll();
+            closedStamp[current] = stamp;
+            int g = ctx.getGCost(current);
+            recordExpansion(maze, current, g, heuristic(current, cols, end), epsilon);
+
+            int count = maze.getWalkableNeighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+                int tentativeG = g + 1;
+                int oldG = ctx.getGCost(neighbor);
+
+                if (tentativeG < oldG) {
+                    if (oldG == SearchContext.INFINITY) {
+                        addTouched(neighbor);
+                    }
+                    ctx.setGCost(neighbor, tentativeG);
+                    ctx.setParent(neighbor, current);
+
+                    if (closedStamp[neighbor] == stamp) {
+                        if (inconsStamp[neighbor] != stamp) {
+                            inconsStamp[neighbor] = stamp;
+                            incons = push(incons, inconsCount++, neighbor);
+                        }
+                    } else {
+                        open.update(neighbor, priority(tentativeG, heuristic(neighbor, cols, end), epsilon));
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * g(goal) / min_{OPEN ∪ INCONS}(g + h); OPEN ∪ INCONS boşsa 1
+     */
+    private double achievedBound(SearchContext ctx, IndexedMinHeap open, int goalCost,
+                                 int cols, Position end) {
+        long lowest = Long.MAX_VALUE;
+        for (int i = 0; i < touchedCount; i++) {
+            int cell = touched[i];
+            if (open.contains(cell) || inconsStamp[cell] == stamp) {
+                lowest = Math.min(lowest, (long) ctx.getGCost(cell) + heuristic(cell, cols, end));
+            }
+        }
+        if (lowest == Long.MAX_VALUE || lowest >= goalCost) {
+            return 1.0;
+        }
+        return (double) goalCost / lowest;
+    }
+
+    private void reopen(SearchContext ctx, IndexedMinHeap open, int cols, Position end, double epsilon) {
+        for (int i = 0; i < touchedCount; i++) {
+            int cell = touched[i];
+            if (open.contains(cell)) {
+                open.update(cell, priority(ctx.getGCost(cell), heuristic(cell, cols, end), epsilon));
+            }
+        }
+        for (int i = 0; i < inconsCount; i++) {
+            int cell = incons[i];
+            open.update(cell, priority(ctx.getGCost(cell), heuristic(cell, cols, end), epsilon));
+        }
+        inconsCount = 0;
+    }
+
+    private void prepare(int cellCount) {
+        if (closedStamp.length < cellCount) {
+            closedStamp = new int[cellCount];
+            inconsStamp = new int[cellCount];
+            stamp = 0;
+        }
+        touchedCount = 0;
+        inconsCount = 0;
+    }
+
+    private void nextIteration() {
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(closedStamp, 0);
+            Arrays.fill(inconsStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    private void addTouched(int cell) {
+        touched = push(touched, touchedCount++, cell);
+    }
+
+    private static int[] push(int[] array, int index, int value) {
+        if (index == array.length) {
+            array = Arrays.copyOf(array, array.length * 2);
+        }
+        array[index] = value;
+        return array;
+    }
+
+    private void recordExpansion(Maze maze, int cell, int g, int h, double epsilon) {
+        if (steps == null) {
+            return;
+        }
+        Position pos = maze.toPosition(cell);
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.EXPLORE,
+                pos,
+                new ArrayList<>(),
+                String.format("ε=%.2f: Exploring %s (g=%d, h=%d, f=%.1f)",
+                        epsilon, pos, g, h, g + epsilon * h)
+        ));
+    }
+
+    private void recordSolution(Position end, Path path, double epsilon) {
+        if (steps == null) {
+            return;
+        }
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.PATH,
+                end,
+                path.getPositions(),
+                String.format("Iteration %d (ε=%.2f): Length %d, bound %.3f",
+                        iterations, epsilon, path.getLength(), path.getSuboptimalityBound())
+        ));
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        steps = recorded;
+        try {
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    String.format("ARA* started at %s (ε0=%.2f, step %.2f)",
+                            start, initialEpsilon, epsilonStep)
+            ));
+
+            Path path = findPath(maze, start, end);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.COMPLETE,
+                    end,
+                    path.getPositions(),
+                    path.isEmpty()
+                            ? "No path found!"
+                            : "Path found! Length: " + path.getLength() + ", Iterations: " + iterations
+            ));
+            return recorded;
+        } finally {
+            steps = null;
+        }
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    /**
+     * Son aramadaki ε iterasyonu sayısı
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "ARA* (Anytime)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(k * E log V)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
@@ -2,7 +2,6 @@ package com.maze.pathfinder;
 
 import com.maze.core.IPathFinder;
 import com.maze.model.*;
-import com.maze.util.PathUtils;
 
 import java.util.*;
 
@@ -10,8 +9,8 @@ import java.util.*;
  * A* (A-Star) Search - TreeSet (Red-Black Tree) kullanarak
  *
  * Open Set:
- *  - TreeSet<Cell>  -> O(log n) ekleme / silme
- *  - Map<Position, Cell> -> hızlı erişim
+ *  - TreeSet<Integer> (hücre indeksleri) -> O(log n) ekleme / silme
+ *  - g-cost, parent ve closed set -> SearchContext (Cell'e yazılmaz)
  *
  * Time Complexity: O(E log V)
  * Space Complexity: O(V)
@@ -26,84 +25,94 @@ public class AStarPathFinder implements IPathFinder {
                 Math.abs(a.getCol() - b.getCol());
     }
 
+    private int heuristic(int index, int cols, Position end) {
+        return Math.abs(index / cols - end.getRow()) +
+                Math.abs(index % cols - end.getCol());
+    }
+
     /**
-     * TreeSet için comparator (tie-breaker)
+     * TreeSet için comparator (tie-breaker): f, h, row, col
      */
-    private final Comparator<Cell> cellComparator =
-            Comparator.comparingInt(Cell::getFCost)
-                    .thenComparingInt(Cell::getHCost)
-                    .thenComparingInt(a -> a.getPosition().getRow())
-                    .thenComparingInt(a -> a.getPosition().getCol());
+    private Comparator<Integer> cellComparator(SearchContext ctx, int cols, Position end) {
+        return (a, b) -> {
+            int ha = heuristic(a, cols, end);
+            int hb = heuristic(b, cols, end);
+            int cmp = Integer.compare(ctx.getGCost(a) + ha, ctx.getGCost(b) + hb);
+            if (cmp != 0) return cmp;
+            cmp = Integer.compare(ha, hb);
+            if (cmp != 0) return cmp;
+            // Row-major indeks sırası = (row, col) sırası
+            return Integer.compare(a, b);
+        };
+    }
 
     @Override
     public Path findPath(Maze maze, Position start, Position end) {
 
         long startTime = System.currentTimeMillis();
-        maze.resetCells();
-
-        // Open Set (Red-Black Tree)
-        TreeSet<Cell> openSet = new TreeSet<>(cellComparator);
-        Map<Position, Cell> openMap = new HashMap<>();
-
-        // Closed Set
-        Set<Position> closedSet = new HashSet<>();
-
-        Cell startCell = maze.getCell(start);
-        startCell.setGCost(0);
-        startCell.setHCost(heuristic(start, end));
-        startCell.setParent(null);
-
-        openSet.add(startCell);
-        openMap.put(start, startCell);
-
-        while (!openSet.isEmpty()) {
-
-            // En düşük fCost'lu hücre
-            Cell current = openSet.pollFirst();
-            Position currentPos = current.getPosition();
-            openMap.remove(currentPos);
-
-            if (currentPos.equals(end)) {
-                long endTime = System.currentTimeMillis();
-                Path path = PathUtils.reconstructPath(current);
-                return new Path(
-                        path.getPositions(),
-                        current.getGCost(),
-                        endTime - startTime
-                );
-            }
 
-            closedSet.add(currentPos);
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
 
-            for (Cell neighbor : maze.getNeighbors(currentPos)) {
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
 
-                Position np = neighbor.getPosition();
+            // Open Set (Red-Black Tree); closed set = ctx visit damgası (epoch)
+            TreeSet<Integer> openSet = new TreeSet<>(cellComparator(ctx, cols, end));
+            int[] neighbors = new int[4];
 
-                if (!neighbor.isWalkable() || closedSet.contains(np)) {
-                    continue;
+            ctx.setGCost(startIndex, 0);
+            openSet.add(startIndex);
+
+            while (!openSet.isEmpty()) {
+
+                // En düşük fCost'lu hücre
+                int current = openSet.pollFirst();
+
+                if (current == endIndex) {
+                    long endTime = System.currentTimeMillis();
+                    return new Path(
+                            ctx.reconstructPositions(current),
+                            ctx.getGCost(current),
+                            endTime - startTime
+                    );
                 }
 
-                int tentativeG = current.getGCost() + 1;
+                ctx.markVisited(current);
 
-                if (tentativeG < neighbor.getGCost()) {
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
 
-                    // Eğer openSet içindeyse eski halini çıkar
-                    if (openMap.containsKey(np)) {
-                        openSet.remove(neighbor);
+                    if (ctx.isVisited(neighbor)) {
+                        continue;
                     }
 
-                    neighbor.setParent(current);
-                    neighbor.setGCost(tentativeG);
-                    neighbor.setHCost(heuristic(np, end));
+                    int tentativeG = ctx.getGCost(current) + 1;
+
+                    if (tentativeG < ctx.getGCost(neighbor)) {
+
+                        // Eğer openSet içindeyse eski halini çıkar (g değişmeden önce)
+                        if (ctx.getGCost(neighbor) != SearchContext.INFINITY) {
+                            openSet.remove(neighbor);
+                        }
 
-                    openSet.add(neighbor);
-                    openMap.put(np, neighbor);
+                        ctx.setParent(neighbor, current);
+                        ctx.setGCost(neighbor, tentativeG);
+
+                        openSet.add(neighbor);
+                    }
                 }
             }
-        }
 
-        long endTime = System.currentTimeMillis();
-        return new Path(new ArrayList<>(), 0, endTime - startTime);
+            long endTime = System.currentTimeMillis();
+            return new Path(new ArrayList<>(), 0, endTime - startTime);
+        }
     }
 
     @Override
@@ -112,110 +121,108 @@ public class AStarPathFinder implements IPathFinder {
 
         List<AlgorithmStep> steps = new ArrayList<>();
 
-        if (maze == null || start == null || end == null) {
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
             return steps;
         }
 
-        maze.resetCells();
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
 
-        // Open Set (Red-Black Tree)
-        TreeSet<Cell> openSet = new TreeSet<>(cellComparator);
-        Map<Position, Cell> openMap = new HashMap<>();
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
 
-        // Closed Set
-        Set<Position> closedSet = new HashSet<>();
+            // Open Set (Red-Black Tree); closed set = ctx visit damgası (epoch)
+            TreeSet<Integer> openSet = new TreeSet<>(cellComparator(ctx, cols, end));
+            int[] neighbors = new int[4];
 
-        Cell startCell = maze.getCell(start);
-        startCell.setGCost(0);
-        startCell.setHCost(heuristic(start, end));
-        startCell.setParent(null);
-
-        openSet.add(startCell);
-        openMap.put(start, startCell);
-
-        steps.add(new AlgorithmStep(
-                AlgorithmStep.StepType.VISIT,
-                start,
-                List.of(start),
-                "A* started at " + start +
-                        " (h=" + startCell.getHCost() + ")"
-        ));
-
-        int stepCount = 0;
-
-        while (!openSet.isEmpty()) {
-
-            // En düşük fCost'lu hücre
-            Cell current = openSet.pollFirst();
-            Position currentPos = current.getPosition();
-            openMap.remove(currentPos);
+            ctx.setGCost(startIndex, 0);
+            openSet.add(startIndex);
 
             steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.EXPLORE,
-                    currentPos,
-                    new ArrayList<>(),
-                    String.format(
-                            "Step %d: Exploring %s (g=%d, h=%d, f=%d)",
-                            ++stepCount,
-                            currentPos,
-                            current.getGCost(),
-                            current.getHCost(),
-                            current.getFCost()
-                    )
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    "A* started at " + start +
+                            " (h=" + heuristic(start, end) + ")"
             ));
 
-            // Goal bulundu
-            if (currentPos.equals(end)) {
-                Path path = PathUtils.reconstructPath(current);
-                steps.add(new AlgorithmStep(
-                        AlgorithmStep.StepType.COMPLETE,
-                        end,
-                        path.getPositions(),
-                        "Path found! Length: " +
-                                path.getLength() +
-                                ", Cost: " + current.getGCost()
-                ));
-                return steps;
-            }
+            int stepCount = 0;
 
-            closedSet.add(currentPos);
+            while (!openSet.isEmpty()) {
 
-            for (Cell neighbor : maze.getNeighbors(currentPos)) {
+                // En düşük fCost'lu hücre
+                int current = openSet.pollFirst();
+                Position currentPos = maze.toPosition(current);
+                int g = ctx.getGCost(current);
+                int h = heuristic(current, cols, end);
 
-                Position np = neighbor.getPosition();
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        currentPos,
+                        new ArrayList<>(),
+                        String.format(
+                                "Step %d: Exploring %s (g=%d, h=%d, f=%d)",
+                                ++stepCount,
+                                currentPos,
+                                g,
+                                h,
+                                g + h
+                        )
+                ));
 
-                if (!neighbor.isWalkable() || closedSet.contains(np)) {
-                    continue;
+                // Goal bulundu
+                if (current == endIndex) {
+                    Path path = new Path(ctx.reconstructPositions(current));
+                    steps.add(new AlgorithmStep(
+                            AlgorithmStep.StepType.COMPLETE,
+                            end,
+                            path.getPositions(),
+                            "Path found! Length: " +
+                                    path.getLength() +
+                                    ", Cost: " + g
+                    ));
+                    return steps;
                 }
 
-                int tentativeG = current.getGCost() + 1;
+                ctx.markVisited(current);
 
-                if (tentativeG < neighbor.getGCost()) {
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
 
-                    // Eğer openSet'te varsa eski kaydı çıkar
-                    if (openMap.containsKey(np)) {
-                        openSet.remove(neighbor);
+                    if (ctx.isVisited(neighbor)) {
+                        continue;
                     }
 
-                    neighbor.setParent(current);
-                    neighbor.setGCost(tentativeG);
-                    neighbor.setHCost(heuristic(np, end));
-
-                    openSet.add(neighbor);
-                    openMap.put(np, neighbor);
-
-                    steps.add(new AlgorithmStep(
-                            AlgorithmStep.StepType.VISIT,
-                            np,
-                            new ArrayList<>(),
-                            String.format(
-                                    "Added to open set: %s (g=%d, h=%d, f=%d)",
-                                    np,
-                                    neighbor.getGCost(),
-                                    neighbor.getHCost(),
-                                    neighbor.getFCost()
-                            )
-                    ));
+                    int tentativeG = g + 1;
+
+                    if (tentativeG < ctx.getGCost(neighbor)) {
+
+                        // Eğer openSet'te varsa eski kaydı çıkar
+                        if (ctx.getGCost(neighbor) != SearchContext.INFINITY) {
+                            openSet.remove(neighbor);
+                        }
+
+                        ctx.setParent(neighbor, current);
+                        ctx.setGCost(neighbor, tentativeG);
+
+                        openSet.add(neighbor);
+
+                        int nh = heuristic(neighbor, cols, end);
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                maze.toPosition(neighbor),
+                                new ArrayList<>(),
+                                String.format(
+                                        "Added to open set: %s (g=%d, h=%d, f=%d)",
+                                        maze.toPosition(neighbor),
+                                        tentativeG,
+                                        nh,
+                                        tentativeG + nh
+                                )
+                        ));
+                    }
                 }
             }
         }
@@ -2,7 +2,7 @@ package com.maze.pathfinder;
 
 import com.maze.core.IPathFinder;
 import com.maze.model.*;
-import com.maze.util.PathUtils;
+import com.maze.util.DirectionOptimizingBFS;
 import java.util.*;
 
 /**
@@ -19,144 +19,127 @@ import java.util.*;
  * - OPTIMAL: Her zaman en kısa yolu bulur
  * - Unweighted graph için ideal
  * - Level-by-level arama
+ * - findPath: direction-optimizing motor (DirectionOptimizingBFS);
+ *   findPathWithSteps: adım kaydı için klasik kuyruk tabanlı BFS
  *
  * Time Complexity: O(V + E)
  * Space Complexity: O(V)
  */
 public class BFSPathFinder implements IPathFinder {
 
+    // Thread başına yeniden kullanılan BFS motoru
+    private static final ThreadLocal<DirectionOptimizingBFS> ENGINE =
+            ThreadLocal.withInitial(DirectionOptimizingBFS::new);
+
     @Override
     public Path findPath(Maze maze, Position start, Position end) {
         long startTime = System.currentTimeMillis();
 
-        if (maze == null || start == null || end == null) {
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
             return new Path(new ArrayList<>());
         }
 
-        maze.resetCells();
-
-        Queue<Cell> queue = new LinkedList<>();
-        Set<Position> visited = new HashSet<>();
-
-        Cell startCell = maze.getCell(start);
-        queue.offer(startCell);
-        visited.add(start);
-        startCell.setParent(null);
+        int endIndex = maze.toIndex(end);
 
-        Cell endCell = null;
-
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            Position currentPos = current.getPosition();
-
-            // Hedefe ulaştık mı?
-            if (currentPos.equals(end)) {
-                endCell = current;
-                break;
-            }
-
-            // Komşuları işle
-            List<Cell> neighbors = maze.getNeighbors(currentPos);
-            for (Cell neighbor : neighbors) {
-                Position neighborPos = neighbor.getPosition();
-
-                if (neighbor.isWalkable() && !visited.contains(neighborPos)) {
-                    visited.add(neighborPos);
-                    neighbor.setParent(current);
-                    queue.offer(neighbor);
-                }
-            }
-        }
+        // Geniş frontier'larda bitset bottom-up sweep'e geçen BFS motoru
+        DirectionOptimizingBFS bfs = ENGINE.get();
+        int distance = bfs.search(maze, maze.toIndex(start), endIndex, true);
 
         long endTime = System.currentTimeMillis();
 
         // Yol bulunamadı
-        if (endCell == null) {
+        if (distance == DirectionOptimizingBFS.UNREACHABLE) {
             return new Path(new ArrayList<>(), 0, endTime - startTime);
         }
 
         // Path'i reconstruct et
-        return PathUtils.reconstructPath(endCell);
+        return new Path(bfs.reconstructPath(maze, endIndex));
     }
 
     @Override
     public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
         List<AlgorithmStep> steps = new ArrayList<>();
 
-        if (maze == null || start == null || end == null) {
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
             return steps;
         }
 
-        maze.resetCells();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
 
-        Queue<Cell> queue = new LinkedList<>();
-        Set<Position> visited = new HashSet<>();
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            int[] queue = ctx.getQueue();
+            int head = 0;
+            int tail = 0;
+            int[] neighbors = new int[4];
 
-        Cell startCell = maze.getCell(start);
-        queue.offer(startCell);
-        visited.add(start);
-        startCell.setParent(null);
+            queue[tail++] = startIndex;
+            ctx.markVisited(startIndex);
 
-        steps.add(new AlgorithmStep(
-                AlgorithmStep.StepType.VISIT,
-                start,
-                Arrays.asList(start),
-                "BFS started at " + start
-        ));
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    Arrays.asList(start),
+                    "BFS started at " + start
+            ));
 
-        Cell endCell = null;
-        int stepCount = 0;
+            boolean found = false;
+            int stepCount = 0;
 
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            Position currentPos = current.getPosition();
+            while (head < tail) {
+                int current = queue[head++];
+                Position currentPos = maze.toPosition(current);
 
-            steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.EXPLORE,
-                    currentPos,
-                    new ArrayList<>(),
-                    "Step " + (++stepCount) + ": Exploring " + currentPos
-            ));
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        currentPos,
+                        new ArrayList<>(),
+                        "Step " + (++stepCount) + ": Exploring " + currentPos
+                ));
 
-            if (currentPos.equals(end)) {
-                endCell = current;
-                break;
-            }
+                if (current == endIndex) {
+                    found = true;
+                    break;
+                }
 
-            List<Cell> neighbors = maze.getNeighbors(currentPos);
-            for (Cell neighbor : neighbors) {
-                Position neighborPos = neighbor.getPosition();
-
-                if (neighbor.isWalkable() && !visited.contains(neighborPos)) {
-                    visited.add(neighborPos);
-                    neighbor.setParent(current);
-                    queue.offer(neighbor);
-
-                    steps.add(new AlgorithmStep(
-                            AlgorithmStep.StepType.VISIT,
-                            neighborPos,
-                            new ArrayList<>(),
-                            "Discovered " + neighborPos
-                    ));
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+
+                    if (!ctx.isVisited(neighbor)) {
+                        ctx.markVisited(neighbor);
+                        ctx.setParent(neighbor, current);
+                        queue[tail++] = neighbor;
+
+                        Position neighborPos = maze.toPosition(neighbor);
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                neighborPos,
+                                new ArrayList<>(),
+                                "Discovered " + neighborPos
+                        ));
+                    }
                 }
             }
-        }
 
-        if (endCell != null) {
-            Path path = PathUtils.reconstructPath(endCell);
-            steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.COMPLETE,
-                    end,
-                    path.getPositions(),
-                    "Path found! Length: " + path.getLength()
-            ));
-        } else {
-            steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.COMPLETE,
-                    end,
-                    new ArrayList<>(),
-                    "No path found!"
-            ));
+            if (found) {
+                Path path = new Path(ctx.reconstructPositions(endIndex));
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.COMPLETE,
+                        end,
+                        path.getPositions(),
+                        "Path found! Length: " + path.getLength()
+                ));
+            } else {
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.COMPLETE,
+                        end,
+                        new ArrayList<>(),
+                        "No path found!"
+                ));
+            }
         }
 
         return steps;
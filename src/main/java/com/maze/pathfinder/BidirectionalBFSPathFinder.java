@@ -0,0 +1,263 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.PathUtils;
+import java.util.*;
+
+/**
+ * Çift yönlü (bidirectional) Breadth-First Search ile yol bulma.
+ *
+ * Algoritma:
+ * 1. Start'tan ileri, end'den geri iki BFS frontier'ı başlat
+ * 2. Her turda daha küçük frontier'ın bir seviyesinin tamamını genişlet
+ * 3. Genişletilen hücrenin komşusu diğer taraf tarafından ziyaret edilmişse
+ *    buluşma adayıdır; seviye bitince en kısa toplamı veren aday seçilir
+ * 4. İki parent zinciri buluşma hücresinde birleştirilir
+ *
+ * Özellikler:
+ * - OPTIMAL: Seviye tamamlanmadan durulmadığı için en kısa yolu bulur
+ * - Her iki taraf da yaklaşık d/2 derinliğe iner; açık alanlarda
+ *   tek yönlü BFS'e göre çok daha az hücre ziyaret edilir
+ *
+ * Time Complexity: O(V + E)
+ * Space Complexity: O(V)
+ */
+public class BidirectionalBFSPathFinder implements IPathFinder {
+
+    private static final int NONE = -1;
+
+    /**
+     * Bir yönün arama durumu
+     */
+    private static class Frontier {
+        final SearchContext ctx;
+        final int[] queue;
+        final boolean forward;
+        int head;
+        int tail;
+
+        Frontier(SearchContext ctx, int root, boolean forward) {
+            this.ctx = ctx;
+            this.queue = ctx.getQueue();
+            this.forward = forward;
+            ctx.markVisited(root);
+            ctx.setGCost(root, 0);
+            queue[tail++] = root;
+        }
+
+        int size() {
+            return tail - head;
+        }
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        try (SearchContext forwardCtx = SearchContext.acquire(maze);
+             SearchContext backwardCtx = SearchContext.acquire(maze)) {
+
+            Frontier forward = new Frontier(forwardCtx, maze.toIndex(start), true);
+            Frontier backward = new Frontier(backwardCtx, maze.toIndex(end), false);
+
+            int meet = search(maze, start, end, forward, backward, null);
+            long endTime = System.currentTimeMillis();
+
+            if (meet == NONE) {
+                return new Path(new ArrayList<>(), 0, endTime - startTime);
+            }
+
+            return new Path(joinPath(forwardCtx, backwardCtx, meet, maze));
+        }
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> steps = new ArrayList<>();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return steps;
+        }
+
+        try (SearchContext forwardCtx = SearchContext.acquire(maze);
+             SearchContext backwardCtx = SearchContext.acquire(maze)) {
+
+            Frontier forward = new Frontier(forwardCtx, maze.toIndex(start), true);
+            Frontier backward = new Frontier(backwardCtx, maze.toIndex(end), false);
+
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    Arrays.asList(start),
+                    "Bidirectional BFS started at " + start
+            ));
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    end,
+                    Arrays.asList(end),
+                    "Backward search started at " + end
+            ));
+
+            int meet = search(maze, start, end, forward, backward, steps);
+
+            if (meet != NONE) {
+                Path path = new Path(joinPath(forwardCtx, backwardCtx, meet, maze));
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.COMPLETE,
+                        end,
+                        path.getPositions(),
+                        "Frontiers met at " + maze.toPosition(meet) +
+                                "! Length: " + path.getLength()
+                ));
+                return steps;
+            }
+        }
+
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                new ArrayList<>(),
+                "No path found!"
+        ));
+        return steps;
+    }
+
+    /**
+     * Frontier'lar buluşana kadar küçük olanı seviye seviye genişletir
+     * @return Buluşma hücresi (yoksa NONE)
+     */
+    private int search(Maze maze, Position start, Position end,
+                       Frontier forward, Frontier backward, List<AlgorithmStep> steps) {
+        if (start.equals(end)) {
+            return maze.toIndex(start);
+        }
+
+        // Geri arama end'in komşularından başlar; end geçilemezse ileri BFS de ulaşamaz
+        if (!maze.isWalkable(maze.toIndex(end))) {
+            return NONE;
+        }
+
+        int[] stepCount = {0};
+        int meet = NONE;
+
+        while (meet == NONE && forward.size() > 0 && backward.size() > 0) {
+            if (forward.size() <= backward.size()) {
+                meet = expandLevel(maze, forward, backward, steps, stepCount);
+            } else {
+                meet = expandLevel(maze, backward, forward, steps, stepCount);
+            }
+        }
+
+        return meet;
+    }
+
+    /**
+     * Bir frontier'ın mevcut seviyesinin tamamını genişletir
+     * @return Bu seviyede bulunan en iyi buluşma hücresi (yoksa NONE)
+     */
+    private int expandLevel(Maze maze, Frontier own, Frontier other,
+                            List<AlgorithmStep> steps, int[] stepCount) {
+        int[] neighbors = new int[4];
+        int levelEnd = own.tail;
+        int bestMeet = NONE;
+        int bestLength = Integer.MAX_VALUE;
+        String side = own.forward ? "Forward" : "Backward";
+
+        while (own.head < levelEnd) {
+            int current = own.queue[own.head++];
+
+            if (steps != null) {
+                Position currentPos = maze.toPosition(current);
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        currentPos,
+                        new ArrayList<>(),
+                        "Step " + (++stepCount[0]) + ": " + side + " exploring " + currentPos
+                ));
+            }
+
+            int count = maze.getWalkableNeighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int neighbor = neighbors[i];
+
+                if (!own.ctx.isVisited(neighbor)) {
+                    own.ctx.markVisited(neighbor);
+                    own.ctx.setParent(neighbor, current);
+                    own.ctx.setGCost(neighbor, own.ctx.getGCost(current) + 1);
+                    own.queue[own.tail++] = neighbor;
+
+                    if (steps != null) {
+                        Position neighborPos = maze.toPosition(neighbor);
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                neighborPos,
+                                new ArrayList<>(),
+                                side + " discovered " + neighborPos
+                        ));
+                    }
+                }
+
+                // Diğer taraf buraya ulaştıysa buluşma adayı
+                if (other.ctx.isVisited(neighbor)) {
+                    int length = own.ctx.getGCost(neighbor) + other.ctx.getGCost(neighbor);
+                    if (length < bestLength) {
+                        bestLength = length;
+                        bestMeet = neighbor;
+                    }
+                }
+            }
+        }
+
+        return bestMeet;
+    }
+
+    /**
+     * start -> meet (ileri zincir) ve meet -> end (geri zincir) birleştirir
+     */
+    private List<Position> joinPath(SearchContext forward, SearchContext backward,
+                                    int meet, Maze maze) {
+        List<Position> positions = forward.reconstructPositions(meet);
+
+        for (int current = backward.getParent(meet);
+             current != SearchContext.NO_PARENT;
+             current = backward.getParent(current)) {
+            positions.add(maze.toPosition(current));
+        }
+
+        return positions;
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        // BFSPathFinder gibi maliyet pozisyon sayısıdır (segment maliyetleri toplanmaz)
+        return new Path(PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to)).getPositions());
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Bidirectional BFS";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V + E)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
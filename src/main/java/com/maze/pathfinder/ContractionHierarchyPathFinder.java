@@ -0,0 +1,125 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.ContractionHierarchy;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Contraction Hierarchy üzerinden yol bulma (statik labirentler için)
+ *
+ * İlk sorguda labirentin hiyerarşisi kurulur (veya usePreprocessed ile
+ * diskten yüklenmiş olan kullanılır); sonraki sorgular bidirectional
+ * yukarı aramadır. Maze nesnesi veya versiyonu değişirse hiyerarşi
+ * labirentle tekrar eşleştirilir, eşleşmiyorsa yeniden kurulur.
+ *
+ * Time Complexity: İlk sorgu O(V * w log w), sonraki sorgular O(k log k)
+ * Space Complexity: O(V + S)
+ */
+public class ContractionHierarchyPathFinder implements IPathFinder {
+
+    private ContractionHierarchy hierarchy;
+    private Maze maze;       // hiyerarşinin en son doğrulandığı labirent
+    private int version;
+
+    /**
+     * Önceden kurulmuş (ör. MazeService.loadHierarchy ile okunmuş) hiyerarşiyi kullanır.
+     * Sorgulanan labirentle eşleşmezse ilk sorguda yeniden kurulur.
+     */
+    public void usePreprocessed(ContractionHierarchy hierarchy) {
+        this.hierarchy = hierarchy;
+        this.maze = null;
+    }
+
+    /**
+     * Labirent için güncel hiyerarşi (gerekirse kurar)
+     */
+    public ContractionHierarchy getHierarchy(Maze maze) {
+        if (maze != this.maze || version != maze.getVersion()) {
+            if (hierarchy == null || !hierarchy.matches(maze)) {
+                hierarchy = ContractionHierarchy.build(maze);
+            }
+            this.maze = maze;
+            this.version = maze.getVersion();
+        }
+        return hierarchy;
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        List<Position> positions = getHierarchy(maze).shortestPath(start, end);
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> steps = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return steps;
+        }
+
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.VISIT,
+                start,
+                List.of(start),
+                "Contraction hierarchy query from " + start
+        ));
+
+        Path path = findPath(maze, start, end);
+        ContractionHierarchy ch = getHierarchy(maze);
+
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                path.getPositions(),
+                path.isEmpty()
+                        ? "No path found!"
+                        : "Path found! Length: " + path.getLength()
+                        + " (" + ch.getNodeCount() + " nodes, " + ch.getShortcutCount() + " shortcuts)"
+        ));
+        return steps;
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        if (maze == null) {
+            return new Path(new ArrayList<>());
+        }
+
+        // Sıradaki hedef gerçek (hiyerarşi) mesafesine göre seçilir; mesafe sorguları ucuz
+        ContractionHierarchy ch = getHierarchy(maze);
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                ch::distance, (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Contraction Hierarchy";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(k log k) query";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V + S)";
+    }
+}
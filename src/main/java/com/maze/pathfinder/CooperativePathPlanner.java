@@ -0,0 +1,404 @@
+package com.maze.pathfinder;
+
+import com.maze.model.*;
+import com.maze.util.DistanceField;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.LongIntHashMap;
+
+import java.util.*;
+
+/**
+ * Windowed Hierarchical Cooperative A* (WHCA*) - çok ajanlı planlama
+ *
+ * Ajanlar öncelik sırasıyla tek tek planlanır; her ajan space-time A* ile
+ * (hücre, tick) durumları üzerinde arar ve bulduğu pencereyi ortak
+ * reservation table'a yazar. Sonraki ajanlar bu rezervasyonları aşamaz:
+ *  - Vertex çakışması: (hücre, t + 1) başka ajana ayrılmış
+ *  - Swap çakışması: iki ajan aynı tick'te yer değiştiriyor
+ *
+ * Reservation table: LongIntHashMap, anahtar (tick << 32) | hücre, değer ajan id.
+ * Heuristic: hedeften DistanceField (ajanları yok sayan gerçek mesafe), bu
+ * yüzden pencere sonundaki tahmin hiyerarşik (abstract) aramanın yerini tutar.
+ *
+ * Pencere: her turda W tick planlanır, W/2 tick uygulanır, sonra herkes
+ * yeniden planlar. Her turda öncelik döndürülür ve hedefteki ajanlar en sona
+ * alınır (yol açmak için kenara çekilebilirler). Penceresini planlayamayan
+ * ajan öne alınıp tur yeniden planlanır.
+ *
+ * Time Complexity: Tur başına O(n * W * b log(W * b)) (b: pencere içi dallanma)
+ * Space Complexity: O(n * W) rezervasyon + O(W * b) arama durumu
+ */
+public class CooperativePathPlanner {
+
+    public static final int DEFAULT_WINDOW = 16;
+
+    private final int window;
+
+    // Hedef hücresi başına heuristic alanları
+    private final Map<Integer, DistanceField> fields = new HashMap<>();
+    private Maze fieldMaze;
+
+    private final LongIntHashMap reservations = new LongIntHashMap();
+
+    // Space-time arama düğümleri (pencere başına yeniden kullanılır)
+    private final LongIntHashMap nodeOf = new LongIntHashMap();
+    private int[] nodeCell = new int[0];
+    private int[] nodeDepth = new int[0];
+    private int[] nodeG = new int[0];
+    private int[] nodeParent = new int[0];
+    private boolean[] nodeClosed = new boolean[0];
+    private int nodeCount;
+    private final IndexedMinHeap open = new IndexedMinHeap(16);
+    private final int[] neighbors = new int[4];
+    private long expanded;
+
+    public CooperativePathPlanner() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window Pencere uzunluğu (tick), en az 2
+     */
+    public CooperativePathPlanner(int window) {
+        if (window < 2) {
+            throw new IllegalArgumentException("Window must be at least 2: " + window);
+        }
+        this.window = window;
+    }
+
+    /**
+     * Tüm ajanları tek seferde planlar
+     * @param maze Labirent
+     * @param starts Ajan başlangıçları
+     * @param goals Ajan hedefleri (starts ile aynı sırada)
+     * @return Ajan başına zaman indeksli Path ve metrikler
+     */
+    public MultiAgentResult plan(Maze maze, List<Position> starts, List<Position> goals) {
+        long startTime = System.currentTimeMillis();
+        Objects.requireNonNull(maze, "maze");
+        if (starts.size() != goals.size()) {
+            throw new IllegalArgumentException("starts and goals must have the same size");
+        }
+
+        int n = starts.size();
+        int[] position = new int[n];
+        int[] goal = new int[n];
+        boolean[] active = new boolean[n];
+        DistanceField[] heuristics = new DistanceField[n];
+        Set<Integer> usedStarts = new HashSet<>();
+        Set<Integer> usedGoals = new HashSet<>();
+        int limit = 0;
+
+        prepareFields(maze);
+        ensureNodeCapacity(maze);
+        for (int i = 0; i < n; i++) {
+            Position s = starts.get(i);
+            Position g = goals.get(i);
+            if (s == null || !maze.isValid(s) || !maze.isWalkable(s.getRow(), s.getCol())) {
+                throw new IllegalArgumentException("Invalid start for agent " + i + ": " + s);
+            }
+            position[i] = maze.toIndex(s);
+            if (!usedStarts.add(position[i])) {
+                throw new IllegalArgumentException("Agents share a start cell: " + s);
+            }
+
+            if (g == null || !maze.isValid(g)) {
+                continue;
+            }
+            goal[i] = maze.toIndex(g);
+            heuristics[i] = fieldFor(maze, g);
+            int distance = heuristics[i].distance(position[i]);
+            if (distance == DistanceField.UNREACHABLE) {
+                continue;
+            }
+            if (!usedGoals.add(goal[i])) {
+                throw new IllegalArgumentException("Agents share a goal cell: " + g);
+            }
+            active[i] = true;
+            limit = Math.max(limit, distance);
+        }
+        // Ajan etkileşimleri için pay: en uzak mesafenin iki katı + birkaç pencere
+        limit = 2 * limit + 4 * window;
+
+        int[][] trajectory = new int[n][];
+        int[] length = new int[n];
+        int[] arrival = new int[n];
+        for (int i = 0; i < n; i++) {
+            trajectory[i] = new int[16];
+            trajectory[i][0] = position[i];
+            length[i] = 1;
+            arrival[i] = position[i] == goal[i] && active[i] ? 0 : -1;
+        }
+
+        expanded = 0;
+        int[][] plans = new int[n][window + 1];
+        int tick = 0;
+        int rounds = 0;
+
+        while (tick < limit && !allArrived(active, arrival)) {
+            int[] order = priorityOrder(active, arrival, rounds);
+            planRound(maze, tick, order, position, goal, active, heuristics, plans);
+            rounds++;
+
+            int steps = Math.min(window / 2, limit - tick);
+            for (int t = 1; t <= steps; t++) {
+                for (int i = 0; i < n; i++) {
+                    int cell = plans[i][t];
+                    position[i] = cell;
+                    if (!active[i]) {
+                        continue;
+                    }
+                    if (length[i] == trajectory[i].length) {
+                        trajectory[i] = Arrays.copyOf(trajectory[i], length[i] * 2);
+                    }
+                    trajectory[i][length[i]++] = cell;
+                    if (cell != goal[i]) {
+                        arrival[i] = -1;
+                    } else if (arrival[i] < 0) {
+                        arrival[i] = tick + t;
+                    }
+                }
+            }
+            tick += steps;
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        List<Path> paths = new ArrayList<>(n);
+        boolean[] solved = new boolean[n];
+        int makespan = 0;
+        int sumOfCosts = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (!active[i]) {
+                paths.add(new Path(new ArrayList<>(), 0, elapsed));
+                continue;
+            }
+            solved[i] = arrival[i] >= 0;
+            int keep = solved[i] ? arrival[i] + 1 : length[i];
+            List<Position> positions = new ArrayList<>(keep);
+            for (int t = 0; t < keep; t++) {
+                positions.add(maze.toPosition(trajectory[i][t]));
+            }
+            paths.add(new Path(positions, keep - 1, elapsed));
+            if (solved[i]) {
+                makespan = Math.max(makespan, arrival[i]);
+                sumOfCosts += arrival[i];
+            }
+        }
+
+        return new MultiAgentResult(paths, solved, makespan, sumOfCosts, rounds, expanded, elapsed);
+    }
+
+    private static boolean allArrived(boolean[] active, int[] arrival) {
+        for (int i = 0; i < active.length; i++) {
+            if (active[i] && arrival[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Hedefe varmamış ajanlar (tur numarasıyla döndürülmüş), sonra hedefteki
+     * ajanlar, en son hareket etmeyen (erişilemez hedefli) ajanlar
+     */
+    private static int[] priorityOrder(boolean[] active, int[] arrival, int round) {
+        int n = active.length;
+        int[] order = new int[n];
+        int size = 0;
+        for (int k = 0; k < n; k++) {
+            int i = (k + round) % n;
+            if (active[i] && arrival[i] < 0) {
+                order[size++] = i;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (active[i] && arrival[i] >= 0) {
+                order[size++] = i;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (!active[i]) {
+                order[size++] = i;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Bir turun pencerelerini öncelik sırasıyla planlar. Planlayamayan ajan
+     * öne alınır ve tur baştan planlanır (en fazla ajan sayısı kadar).
+     */
+    private void planRound(Maze maze, int tick, int[] order, int[] position, int[] goal,
+                           boolean[] active, DistanceField[] heuristics, int[][] plans) {
+        int retries = 0;
+
+        restart:
+        while (true) {
+            reservations.clear();
+
+            // Hareket etmeyen ajanlar pencere boyunca yerlerini tutar
+            for (int agent : order) {
+                if (!active[agent]) {
+                    Arrays.fill(plans[agent], position[agent]);
+                    reserve(agent, tick, plans[agent]);
+                }
+            }
+
+            for (int k = 0; k < order.length; k++) {
+                int agent = order[k];
+                if (!active[agent]) {
+                    continue;
+                }
+
+                if (!planWindow(maze, agent, tick, position[agent], goal[agent],
+                        heuristics[agent], plans[agent])) {
+                    if (retries++ < order.length && k > 0) {
+                        System.arraycopy(order, 0, order, 1, k);
+                        order[0] = agent;
+                        continue restart;
+                    }
+                    // Çıkış yok: yerinde bekler
+                    Arrays.fill(plans[agent], position[agent]);
+                }
+                reserve(agent, tick, plans[agent]);
+            }
+            return;
+        }
+    }
+
+    private void reserve(int agent, int tick, int[] plan) {
+        for (int d = 0; d <= window; d++) {
+            reservations.put(key(plan[d], tick + d), agent);
+        }
+    }
+
+    private static long key(int cell, int tick) {
+        return ((long) tick << 32) | cell;
+    }
+
+    /**
+     * Space-time A*: (hücre, tick) durumları, hamleler 4 komşu + bekleme.
+     * Hedefte bekleme bedava, diğer her hamle 1. Pencere sonundaki (derinlik W)
+     * ilk çıkarılan durum en iyisidir: f = g + h(hücre).
+     * @return Pencere bulunduysa true (plan[d] = tick + d'deki hücre)
+     */
+    private boolean planWindow(Maze maze, int agent, int tick, int start, int goal,
+                               DistanceField heuristic, int[] plan) {
+        nodeOf.clear();
+        open.clear();
+        nodeCount = 0;
+
+        int root = addNode(start, 0, 0, -1);
+        int h0 = heuristic.distance(start);
+        open.insert(root, priority(h0, h0));
+
+        while (!open.isEmpty()) {
+            int node = open.poll();
+            nodeClosed[node] = true;
+            expanded++;
+
+            int cell = nodeCell[node];
+            int depth = nodeDepth[node];
+            if (depth == window) {
+                for (int x = node; x >= 0; x = nodeParent[x]) {
+                    plan[nodeDepth[x]] = nodeCell[x];
+                }
+                return true;
+            }
+
+            int now = tick + depth;
+            int found = maze.getWalkableNeighbors(cell, neighbors);
+            for (int i = -1; i < found; i++) {
+                int next = i < 0 ? cell : neighbors[i];
+
+                int holder = reservations.get(key(next, now + 1), -1);
+                if (holder >= 0 && holder != agent) {
+                    continue;
+                }
+                if (next != cell) {
+                    // Swap: next'teki ajan aynı anda bizim hücremize geçiyor
+                    int other = reservations.get(key(next, now), -1);
+                    if (other >= 0 && other != agent
+                            && reservations.get(key(cell, now + 1), -1) == other) {
+                        continue;
+                    }
+                }
+
+                int g = nodeG[node] + (next == cell && cell == goal ? 0 : 1);
+                long stateKey = key(next, depth + 1);
+                int existing = nodeOf.get(stateKey, -1);
+                int h = heuristic.distance(next);
+
+                if (existing < 0) {
+                    int child = addNode(next, depth + 1, g, node);
+                    nodeOf.put(stateKey, child);
+                    open.insert(child, priority(g + h, h));
+                } else if (!nodeClosed[existing] && g < nodeG[existing]) {
+                    nodeG[existing] = g;
+                    nodeParent[existing] = node;
+                    open.decreaseKey(existing, priority(g + h, h));
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long priority(int f, int h) {
+        return ((long) f << 32) | h;
+    }
+
+    /**
+     * Bir pencerede en fazla (W + 1) * min(V, W mesafesindeki hücre sayısı)
+     * durum oluşur; tamponlar buna göre bir kez ayrılır (heap arama ortasında büyütülemez)
+     */
+    private void ensureNodeCapacity(Maze maze) {
+        long diamond = 2L * window * (window + 1) + 1;
+        int capacity = (int) ((window + 1) * Math.min(maze.getCellCount(), diamond));
+        if (capacity > nodeCell.length) {
+            nodeCell = new int[capacity];
+            nodeDepth = new int[capacity];
+            nodeG = new int[capacity];
+            nodeParent = new int[capacity];
+            nodeClosed = new boolean[capacity];
+            open.ensureCapacity(capacity);
+        }
+    }
+
+    private int addNode(int cell, int depth, int g, int parent) {
+        int id = nodeCount++;
+        nodeCell[id] = cell;
+        nodeDepth[id] = depth;
+        nodeG[id] = g;
+        nodeParent[id] = parent;
+        nodeClosed[id] = false;
+        return id;
+    }
+
+    private void prepareFields(Maze maze) {
+        if (maze != fieldMaze) {
+            fields.clear();
+            fieldMaze = maze;
+        }
+    }
+
+    /**
+     * Hedef için heuristic alanı (önceki planlardan kalan alan engel
+     * değişiklikleri için artımlı güncellenir)
+     */
+    private DistanceField fieldFor(Maze maze, Position goal) {
+        int cell = maze.toIndex(goal);
+        DistanceField field = fields.get(cell);
+        if (field == null) {
+            field = DistanceField.compute(maze, goal);
+            fields.put(cell, field);
+        } else {
+            field.update(maze);
+        }
+        return field;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+}
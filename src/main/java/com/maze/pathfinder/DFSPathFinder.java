@@ -2,7 +2,6 @@ package com.maze.pathfinder;
 
 import com.maze.core.IPathFinder;
 import com.maze.model.*;
-import com.maze.util.PathUtils;
 import java.util.*;
 
 /**
@@ -29,130 +28,137 @@ public class DFSPathFinder implements IPathFinder {
     public Path findPath(Maze maze, Position start, Position end) {
         long startTime = System.currentTimeMillis();
 
-        if (maze == null || start == null || end == null) {
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
             return new Path(new ArrayList<>());
         }
 
-        maze.resetCells();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
 
-        Stack<Cell> stack = new Stack<>();
-        Set<Position> visited = new HashSet<>();
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            // Hücreler keşfedildiği anda işaretlendiği için her biri en fazla bir kez push edilir
+            int[] stack = ctx.getQueue();
+            int top = 0;
+            int[] neighbors = new int[4];
 
-        Cell startCell = maze.getCell(start);
-        stack.push(startCell);
-        visited.add(start);
-        startCell.setParent(null);
+            stack[top++] = startIndex;
+            ctx.markVisited(startIndex);
 
-        Cell endCell = null;
+            boolean found = false;
 
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-            Position currentPos = current.getPosition();
+            while (top > 0) {
+                int current = stack[--top];
 
-            if (currentPos.equals(end)) {
-                endCell = current;
-                break;
-            }
+                if (current == endIndex) {
+                    found = true;
+                    break;
+                }
 
-            List<Cell> neighbors = maze.getNeighbors(currentPos);
-            for (Cell neighbor : neighbors) {
-                Position neighborPos = neighbor.getPosition();
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
 
-                if (neighbor.isWalkable() && !visited.contains(neighborPos)) {
-                    visited.add(neighborPos);
-                    neighbor.setParent(current);
-                    stack.push(neighbor);
+                    if (!ctx.isVisited(neighbor)) {
+                        ctx.markVisited(neighbor);
+                        ctx.setParent(neighbor, current);
+                        stack[top++] = neighbor;
+                    }
                 }
             }
-        }
 
-        long endTime = System.currentTimeMillis();
+            long endTime = System.currentTimeMillis();
 
-        if (endCell == null) {
-            return new Path(new ArrayList<>(), 0, endTime - startTime);
-        }
+            if (!found) {
+                return new Path(new ArrayList<>(), 0, endTime - startTime);
+            }
 
-        return PathUtils.reconstructPath(endCell);
+            return new Path(ctx.reconstructPositions(endIndex));
+        }
     }
 
     @Override
     public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
         List<AlgorithmStep> steps = new ArrayList<>();
 
-        if (maze == null || start == null || end == null) {
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
             return steps;
         }
 
-        maze.resetCells();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
 
-        Stack<Cell> stack = new Stack<>();
-        Set<Position> visited = new HashSet<>();
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            int[] stack = ctx.getQueue();
+            int top = 0;
+            int[] neighbors = new int[4];
 
-        Cell startCell = maze.getCell(start);
-        stack.push(startCell);
-        visited.add(start);
-        startCell.setParent(null);
+            stack[top++] = startIndex;
+            ctx.markVisited(startIndex);
 
-        steps.add(new AlgorithmStep(
-                AlgorithmStep.StepType.VISIT,
-                start,
-                Arrays.asList(start),
-                "DFS started at " + start
-        ));
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    Arrays.asList(start),
+                    "DFS started at " + start
+            ));
 
-        Cell endCell = null;
-        int stepCount = 0;
+            boolean found = false;
+            int stepCount = 0;
 
-        while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-            Position currentPos = current.getPosition();
+            while (top > 0) {
+                int current = stack[--top];
+                Position currentPos = maze.toPosition(current);
 
-            steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.EXPLORE,
-                    currentPos,
-                    new ArrayList<>(),
-                    "Step " + (++stepCount) + ": Exploring " + currentPos
-            ));
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        currentPos,
+                        new ArrayList<>(),
+                        "Step " + (++stepCount) + ": Exploring " + currentPos
+                ));
 
-            if (currentPos.equals(end)) {
-                endCell = current;
-                break;
-            }
+                if (current == endIndex) {
+                    found = true;
+                    break;
+                }
 
-            List<Cell> neighbors = maze.getNeighbors(currentPos);
-            for (Cell neighbor : neighbors) {
-                Position neighborPos = neighbor.getPosition();
-
-                if (neighbor.isWalkable() && !visited.contains(neighborPos)) {
-                    visited.add(neighborPos);
-                    neighbor.setParent(current);
-                    stack.push(neighbor);
-
-                    steps.add(new AlgorithmStep(
-                            AlgorithmStep.StepType.VISIT,
-                            neighborPos,
-                            new ArrayList<>(),
-                            "Discovered " + neighborPos
-                    ));
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+
+                    if (!ctx.isVisited(neighbor)) {
+                        ctx.markVisited(neighbor);
+                        ctx.setParent(neighbor, current);
+                        stack[top++] = neighbor;
+
+                        Position neighborPos = maze.toPosition(neighbor);
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                neighborPos,
+                                new ArrayList<>(),
+                                "Discovered " + neighborPos
+                        ));
+                    }
                 }
             }
-        }
 
-        if (endCell != null) {
-            Path path = PathUtils.reconstructPath(endCell);
-            steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.COMPLETE,
-                    end,
-                    path.getPositions(),
-                    "Path found! Length: " + path.getLength()
-            ));
-        } else {
-            steps.add(new AlgorithmStep(
-                    AlgorithmStep.StepType.COMPLETE,
-                    end,
-                    new ArrayList<>(),
-                    "No path found!"
-            ));
+            if (found) {
+                Path path = new Path(ctx.reconstructPositions(endIndex));
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.COMPLETE,
+                        end,
+                        path.getPositions(),
+                        "Path found! Length: " + path.getLength()
+                ));
+            } else {
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.COMPLETE,
+                        end,
+                        new ArrayList<>(),
+                        "No path found!"
+                ));
+            }
         }
 
         return steps;
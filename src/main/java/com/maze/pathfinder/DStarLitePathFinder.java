@@ -0,0 +1,382 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IIncrementalPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * D* Lite - incremental replanning (Koenig & Likhachev, optimize edilmiş sürüm)
+ *
+ * Arama hedeften başlangıca doğru yapılır; g/rhs değerleri ve open heap
+ * findPath çağrıları arasında saklanır:
+ *  - rhs(s) = min(g(s') + 1), s' walkable komşular (hedefte 0)
+ *  - g(s) != rhs(s) olan (inconsistent) hücreler heap'te bekler
+ *  - Anahtar: [min(g, rhs) + h(start, s) + km; min(g, rhs)]
+ *    -> k1 üst 32 bit, k2 alt 32 bit (long karşılaştırması = sözlük sırası)
+ *
+ * onCellsChanged ile bildirilen hücreler ve komşuları yeniden değerlendirilir;
+ * sonraki findPath sadece bu değişikliğin ulaştığı inconsistent hücreleri işler.
+ * Başlangıç hareket ederse km, heap yeniden sıralanmadan artırılır.
+ *
+ * Aynı hedef ve aynı Maze nesnesi için durum korunur; hedef, labirent veya
+ * bildirilmemiş bir değişiklik (Maze versiyonu) olursa sıfırdan başlar.
+ * Durum tuttuğu için thread-safe değildir.
+ *
+ * Time Complexity: İlk arama O(E log V), sonraki aramalar O(k log V) (k: etkilenen hücre)
+ * Space Complexity: O(V)
+ */
+public class DStarLitePathFinder implements IIncrementalPathFinder {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private Maze maze;
+    private int rows;
+    private int cols;
+    private int goal = -1;
+    private int lastStart;
+    private int km;
+    private int knownVersion;
+
+    private int[] g;
+    private int[] rhs;
+    private IndexedMinHeap open;
+    private final int[] neighbors = new int[4];
+    private final int[] successors = new int[4];
+
+    // Bildirilen fakat henüz işlenmemiş hücreler (km güncellemesinden sonra işlenir)
+    private int[] pending = new int[16];
+    private int pendingCount;
+
+    private int lastExpandedCount;
+    private List<AlgorithmStep> steps;  // null değilse genişletmeler kaydedilir
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int startIndex = prepare(maze, start, end);
+        if (!maze.isWalkable(startIndex) || !maze.isWalkable(goal)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        computeShortestPath(startIndex);
+
+        List<Position> positions = extractPath(startIndex);
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public void onCellsChanged(Maze maze, List<Position> changed) {
+        if (maze != this.maze || changed == null) {
+            return;  // başka labirent: sonraki findPath zaten sıfırdan başlar
+        }
+
+        for (Position pos : changed) {
+            if (maze.isValid(pos)) {
+                if (pendingCount == pending.length) {
+                    pending = Arrays.copyOf(pending, pendingCount * 2);
+                }
+                pending[pendingCount++] = maze.toIndex(pos);
+            }
+        }
+        knownVersion = maze.getVersion();
+    }
+
+    @Override
+    public void reset() {
+        maze = null;
+        goal = -1;
+        g = null;
+        rhs = null;
+        open = null;
+        pendingCount = 0;
+    }
+
+    /**
+     * Son findPath'te heap'ten çıkarılan (genişletilen) hücre sayısı
+     */
+    public int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+
+    // ===================== D* Lite =====================
+
+    /**
+     * Durumu yeniden kullanılabilir hale getirir: gerekirse sıfırlar, km'yi
+     * günceller ve bekleyen değişiklikleri uygular
+     * @return Başlangıç indeksi
+     */
+    private int prepare(Maze maze, Position start, Position end) {
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        if (maze != this.maze || endIndex != goal || g == null
+                || g.length != maze.getCellCount() || knownVersion != maze.getVersion()) {
+            initialize(maze, startIndex, endIndex);
+            return startIndex;
+        }
+
+        if (startIndex != lastStart) {
+            km += heuristic(lastStart, startIndex);
+            lastStart = startIndex;
+        }
+
+        for (int i = 0; i < pendingCount; i++) {
+            int cell = pending[i];
+            updateVertex(cell, startIndex);
+            int row = cell / cols;
+            int col = cell - row * cols;
+            if (row > 0) updateVertex(cell - cols, startIndex);
+            if (row < rows - 1) updateVertex(cell + cols, startIndex);
+            if (col > 0) updateVertex(cell - 1, startIndex);
+            if (col < cols - 1) updateVertex(cell + 1, startIndex);
+        }
+        pendingCount = 0;
+
+        return startIndex;
+    }
+
+    private void initialize(Maze maze, int startIndex, int endIndex) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.goal = endIndex;
+        this.lastStart = startIndex;
+        this.km = 0;
+        this.knownVersion = maze.getVersion();
+        this.pendingCount = 0;
+
+        int cellCount = maze.getCellCount();
+        if (g == null || g.length != cellCount) {
+            g = new int[cellCount];
+            rhs = new int[cellCount];
+            open = new IndexedMinHeap(cellCount, 4);
+        } else {
+            open.clear();
+        }
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+
+        rhs[goal] = 0;
+        open.insert(goal, key(goal, startIndex));
+    }
+
+    private void computeShortestPath(int start) {
+        lastExpandedCount = 0;
+
+        while (!open.isEmpty()
+                && (open.peekKey() < key(start, start) || rhs[start] > g[start])) {
+            int u = open.peek();
+            long oldKey = open.peekKey();
+            long newKey = key(u, start);
+
+            if (oldKey < newKey) {
+                // km arttığı için anahtar eskimiş
+                open.update(u, newKey);
+                continue;
+            }
+
+            lastExpandedCount++;
+            recordStep(u);
+
+            if (g[u] > rhs[u]) {
+                // Overconsistent: g düşer, komşuların rhs'i bu hücre üzerinden iyileşebilir
+                g[u] = rhs[u];
+                open.remove(u);
+                int count = maze.getWalkableNeighbors(u, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int p = neighbors[i];
+                    if (p != goal && g[u] + 1 < rhs[p]) {
+                        rhs[p] = g[u] + 1;
+                        updateQueue(p, start);
+                    }
+                }
+            } else {
+                // Underconsistent: g sonsuza çekilir, kendisi ve komşuları yeniden hesaplanır
+                int oldG = g[u];
+                g[u] = INF;
+                updateVertex(u, start);
+                int count = maze.getWalkableNeighbors(u, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int p = neighbors[i];
+                    if (p != goal && rhs[p] == oldG + 1) {
+                        updateVertex(p, start);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * rhs'i yeniden hesaplar ve heap üyeliğini günceller
+     */
+    private void updateVertex(int u, int start) {
+        if (u != goal) {
+            rhs[u] = maze.isWalkable(u) ? minSuccessor(u) : INF;
+        }
+        updateQueue(u, start);
+    }
+
+    private void updateQueue(int u, int start) {
+        if (g[u] != rhs[u]) {
+            open.update(u, key(u, start));
+        } else {
+            open.remove(u);
+        }
+    }
+
+    private int minSuccessor(int u) {
+        int best = INF;
+        int count = maze.getWalkableNeighbors(u, successors);
+        for (int i = 0; i < count; i++) {
+            int gw = g[successors[i]];
+            if (gw != INF && gw + 1 < best) {
+                best = gw + 1;
+            }
+        }
+        return best;
+    }
+
+    private long key(int s, int start) {
+        int m = Math.min(g[s], rhs[s]);
+        if (m == INF) {
+            return Long.MAX_VALUE;
+        }
+        return ((long) (m + heuristic(start, s) + km) << 32) | m;
+    }
+
+    private int heuristic(int a, int b) {
+        return Math.abs(a / cols - b / cols) + Math.abs(a % cols - b % cols);
+    }
+
+    /**
+     * Başlangıçtan g + 1'i en küçük komşuya inerek yolu çıkarır
+     */
+    private List<Position> extractPath(int start) {
+        List<Position> positions = new ArrayList<>();
+        if (rhs[start] == INF && g[start] == INF) {
+            return positions;
+        }
+
+        int current = start;
+        positions.add(maze.toPosition(current));
+        int limit = maze.getCellCount();
+
+        while (current != goal) {
+            int next = -1;
+            int best = INF;
+            int count = maze.getWalkableNeighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int gw = g[neighbors[i]];
+                if (gw < best) {
+                    best = gw;
+                    next = neighbors[i];
+                }
+            }
+
+            if (next < 0 || --limit < 0) {
+                return new ArrayList<>();
+            }
+            current = next;
+            positions.add(maze.toPosition(current));
+        }
+
+        return positions;
+    }
+
+    private void recordStep(int u) {
+        if (steps != null) {
+            Position pos = maze.toPosition(u);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.EXPLORE,
+                    pos,
+                    new ArrayList<>(),
+                    String.format("Step %d: Updating %s (g=%s, rhs=%s)",
+                            lastExpandedCount, pos, format(g[u]), format(rhs[u]))
+            ));
+        }
+    }
+
+    private static String format(int value) {
+        return value == INF ? "∞" : String.valueOf(value);
+    }
+
+    // ===================== IPathFinder =====================
+
+    /**
+     * Aynı durum üzerinde çalışır: bir değişiklikten sonra sadece onarılan hücreler adım olarak döner
+     */
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        recorded.add(new AlgorithmStep(
+                AlgorithmStep.StepType.VISIT,
+                end,
+                List.of(end),
+                "D* Lite searching backwards from " + end
+        ));
+
+        steps = recorded;
+        Path path;
+        try {
+            path = findPath(maze, start, end);
+        } finally {
+            steps = null;
+        }
+
+        recorded.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                path.getPositions(),
+                path.isEmpty()
+                        ? "No path found!"
+                        : "Path found! Length: " + path.getLength()
+                        + ", Updated: " + lastExpandedCount + " cells"
+        ));
+        return recorded;
+    }
+
+    /**
+     * Segmentler bu aramanın kendi findPath'iyle çözülür; uç noktalar her
+     * segmentte değiştiği için incremental durum segment başına yeniden kurulur
+     */
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "D* Lite";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(E log V) first, O(k log V) replan";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
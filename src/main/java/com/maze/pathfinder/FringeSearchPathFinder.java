@@ -0,0 +1,274 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Fringe Search (Björnsson, Enzenberger, Holte, Schaeffer)
+ *
+ * IDA* gibi f eşiğiyle iterasyon yapar, fakat her iterasyonu kökten
+ * yeniden başlatmaz: sınırda kalan düğümler (fringe) tek bir çift yönlü
+ * bağlı listede tutulur ve bir sonraki eşikte kaldıkları yerden genişletilir.
+ * Genişletilen düğümün çocukları listede hemen arkasına eklenir ve aynı
+ * geçişte işlenir (derinlik öncelikli sıra); eşiği aşan düğüm listede
+ * bekler ve en küçük aşan f bir sonraki eşik olur.
+ *
+ * Heap ve sıralama yoktur. g / ebeveyn cache'i ve liste bağlantıları
+ * hücre index'iyle adreslenen primitive dizilerdir (düğüm nesnesi yok);
+ * damga (epoch) ile aramalar arasında temizlemeden yeniden kullanılır.
+ * Bellek kısıtlı bir arama DEĞİLDİR: Fringe Search genişlettiği her düğümün
+ * g değerini cache'lemek zorundadır, bu yüzden kalıcı bellek O(V)'dir
+ * (IDA*'ın O(d)'si değil). Kazanç sorgu başına ayırmanın (GC baskısının)
+ * küçük olması ve IDA*'ın iterasyonlar arası tekrar genişletmelerinin
+ * olmamasıdır.
+ *
+ * Time Complexity: O(k * F + E) (k: eşik sayısı, F: fringe boyutu)
+ * Space Complexity: O(V) primitive
+ */
+public class FringeSearchPathFinder implements IPathFinder {
+
+    private static final int NIL = -1;
+    private static final int INF = Integer.MAX_VALUE;
+
+    // Hücre başına cache ve bağlı liste (arama başına damga ile sıfırlanır)
+    private int[] g = new int[0];
+    private int[] parent = new int[0];
+    private int[] next = new int[0];
+    private int[] prev = new int[0];
+    private int[] seenStamp = new int[0];   // == stamp: g/parent geçerli
+    private int[] listStamp = new int[0];   // == stamp: fringe'de
+    private int stamp;
+
+    private List<AlgorithmStep> steps;      // null: adım kaydı yok
+    private int iterations;
+    private long expanded;
+
+    private int heuristic(int index, int cols, Position end) {
+        return Math.abs(index / cols - end.getRow()) +
+                Math.abs(index % cols - end.getCol());
+    }
+
+    private void prepare(int cellCount) {
+        if (g.length < cellCount) {
+            g = new int[cellCount];
+            parent = new int[cellCount];
+            next = new int[cellCount];
+            prev = new int[cellCount];
+            seenStamp = new int[cellCount];
+            listStamp = new int[cellCount];
+            stamp = 0;
+        }
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(listStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+        iterations = 0;
+        expanded = 0;
+
+        if (!maze.isWalkable(startIndex) || !maze.isWalkable(endIndex)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        prepare(maze.getCellCount());
+        List<Position> positions = new ArrayList<>();
+        if (search(maze, startIndex, endIndex, end)) {
+            for (int cell = endIndex; cell != NIL; cell = parent[cell]) {
+                positions.add(maze.toPosition(cell));
+            }
+            Collections.reverse(positions);
+        }
+
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    private boolean search(Maze maze, int start, int goal, Position end) {
+        int cols = maze.getCols();
+        int[] neighbors = new int[4];
+
+        g[start] = 0;
+        parent[start] = NIL;
+        seenStamp[start] = stamp;
+        int head = start;
+        next[start] = NIL;
+        prev[start] = NIL;
+        listStamp[start] = stamp;
+
+        int limit = heuristic(start, cols, end);
+
+        while (head != NIL) {
+            iterations++;
+            int fMin = INF;
+
+            int node = head;
+            while (node != NIL) {
+                int f = g[node] + heuristic(node, cols, end);
+                if (f > limit) {
+                    fMin = Math.min(fMin, f);
+                    node = next[node];
+                    continue;
+                }
+                if (node == goal) {
+                    return true;
+                }
+
+                expanded++;
+                recordExpansion(maze, node, g[node], limit);
+
+                // Çocuklar node'un hemen arkasına; ters sırada eklenir ki ilk komşu önce işlensin
+                int childG = g[node] + 1;
+                int count = maze.getWalkableNeighbors(node, neighbors);
+                for (int i = count - 1; i >= 0; i--) {
+                    int child = neighbors[i];
+                    if (seenStamp[child] == stamp && childG >= g[child]) {
+                        continue;
+                    }
+                    if (listStamp[child] == stamp) {
+                        head = unlink(child, head);
+                    }
+                    g[child] = childG;
+                    parent[child] = node;
+                    seenStamp[child] = stamp;
+
+                    // node'dan sonra ekle
+                    int after = next[node];
+                    next[child] = after;
+                    prev[child] = node;
+                    if (after != NIL) {
+                        prev[after] = child;
+                    }
+                    next[node] = child;
+                    listStamp[child] = stamp;
+                }
+
+                int following = next[node];
+                head = unlink(node, head);
+                node = following;
+            }
+
+            if (fMin == INF) {
+                return false;
+            }
+            limit = fMin;
+        }
+        return false;
+    }
+
+    /**
+     * Düğümü listeden çıkarır
+     * @return Yeni liste başı
+     */
+    private int unlink(int node, int head) {
+        int before = prev[node];
+        int after = next[node];
+        if (before != NIL) {
+            next[before] = after;
+        } else {
+            head = after;
+        }
+        if (after != NIL) {
+            prev[after] = before;
+        }
+        listStamp[node] = 0;
+        return head;
+    }
+
+    private void recordExpansion(Maze maze, int cell, int cost, int limit) {
+        if (steps == null) {
+            return;
+        }
+        Position pos = maze.toPosition(cell);
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.EXPLORE,
+                pos,
+                new ArrayList<>(),
+                String.format("Threshold %d: Exploring %s (g=%d)", limit, pos, cost)
+        ));
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        steps = recorded;
+        try {
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    "Fringe Search started at " + start
+            ));
+
+            Path path = findPath(maze, start, end);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.COMPLETE,
+                    end,
+                    path.getPositions(),
+                    path.isEmpty()
+                            ? "No path found!"
+                            : "Path found! Length: " + path.getLength() + ", Thresholds: " + iterations
+            ));
+            return recorded;
+        } finally {
+            steps = null;
+        }
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    /**
+     * Son aramadaki eşik sayısı
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getExpandedNodes() {
+        return expanded;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Fringe Search";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(k * F + E)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
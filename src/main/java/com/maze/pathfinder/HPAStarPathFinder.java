@@ -0,0 +1,713 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.LongIntHashMap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Hierarchical Path-Finding A* (HPA*, Botea et al.)
+ *
+ * Ön işleme (Maze başına bir kez, sonra yerel güncelleme):
+ *  1. Grid sabit boyutlu cluster'lara bölünür (clusterSize x clusterSize)
+ *  2. Komşu iki cluster arasındaki sınırda her iki tarafı walkable olan
+ *     ardışık hücre koşuları birer entrance'tır; kısa entrance ortasından,
+ *     uzun entrance iki ucundan birer geçiş (transition) verir
+ *  3. Geçiş hücreleri soyut graf düğümleridir; aynı cluster'daki düğümler
+ *     arası mesafeler cluster içinde BFS ile önceden hesaplanır (intra edge),
+ *     sınırın iki yanındaki komşu düğümler 1 maliyetle bağlıdır (inter edge)
+ *
+ * Sorgu:
+ *  1. Start ve end kendi cluster'larında BFS ile cluster düğümlerine bağlanır
+ *  2. Küçük soyut graf üzerinde A*
+ *  3. Sadece seçilen soyut kenarlar cluster içi BFS ile hücrelere açılır (refine)
+ *
+ * Engel değişikliği: Maze versiyonu değiştiyse walkable bitset'in kopyasıyla
+ * farkı alınır; sadece değişen hücrelerin cluster'ları, geçişleri gerçekten
+ * değişen sınırların komşu cluster'larıyla birlikte yeniden kurulur.
+ *
+ * Yol geçerlidir fakat cluster sınırlarındaki geçiş seçimi yüzünden en kısa
+ * olmayabilir (near-optimal). Durum tuttuğu için thread-safe değildir.
+ *
+ * Time Complexity: Ön işleme O(V * k), sorgu O(N log N + clusterSize^2), N: soyut düğüm sayısı
+ * Space Complexity: O(N * k + V / 64), k: cluster başına düğüm
+ */
+public class HPAStarPathFinder implements IPathFinder {
+
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int LONG_ENTRANCE = 6;  // bu uzunluk ve üstü iki geçiş verir
+    private static final int[] EMPTY = new int[0];
+
+    private final int clusterSize;
+
+    // Soyutlama (Maze nesnesine bağlı)
+    private Maze maze;
+    private int rows;
+    private int cols;
+    private int clusterRows;
+    private int clusterCols;
+    private long[] snapshot;
+    private int snapshotVersion;
+    private Cluster[] clusters;
+    private int[][] eastBorders;   // (r, c) | (r, c + 1) sınırı: [batı hücresi, doğu hücresi, ...]
+    private int[][] southBorders;  // (r, c) | (r + 1, c) sınırı: [kuzey hücresi, güney hücresi, ...]
+    private final LongIntHashMap nodeOfCell = new LongIntHashMap();
+    private int[] nodeCell = new int[64];
+    private int[] nodeCluster = new int[64];
+    private int[] nodeSlot = new int[64];   // cluster.nodes içindeki sıra
+    private int nodeCount;
+    private int freeNode = -1;
+
+    // Cluster içi BFS tamponları (clusterSize^2)
+    private final int[] localDist;
+    private final int[] localParent;
+    private final int[] localQueue;
+    private final boolean[] localWalkable;
+    private final int[] startDist;
+    private final int[] goalDist;
+
+    // Soyut arama
+    private int[] gCost = EMPTY;
+    private int[] parent = EMPTY;
+    private IndexedMinHeap open;
+    private int[] touched = EMPTY;
+    private int touchedCount;
+
+    private List<AlgorithmStep> steps;  // null değilse soyut genişletmeler kaydedilir
+
+    /**
+     * Cluster: sınırları ve soyut düğümleri
+     */
+    private static final class Cluster {
+        final int top;
+        final int left;
+        final int height;
+        final int width;
+        int[] nodes = EMPTY;
+        int[] distances = EMPTY;  // k x k, nodes sırasıyla (INF: cluster içinde erişilemez)
+
+        Cluster(int top, int left, int height, int width) {
+            this.top = top;
+            this.left = left;
+            this.height = height;
+            this.width = width;
+        }
+    }
+
+    public HPAStarPathFinder() {
+        this(DEFAULT_CLUSTER_SIZE);
+    }
+
+    /**
+     * @param clusterSize Cluster kenar uzunluğu (hücre)
+     */
+    public HPAStarPathFinder(int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("Cluster size must be at least 2");
+        }
+        this.clusterSize = clusterSize;
+        int area = clusterSize * clusterSize;
+        this.localDist = new int[area];
+        this.localParent = new int[area];
+        this.localQueue = new int[area];
+        this.localWalkable = new boolean[area];
+        this.startDist = new int[area];
+        this.goalDist = new int[area];
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        prepare(maze);
+
+        int startCell = maze.toIndex(start);
+        int goalCell = maze.toIndex(end);
+        if (!maze.isWalkable(startCell) || !maze.isWalkable(goalCell)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        List<Position> positions = search(startCell, goalCell);
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Mevcut soyut düğüm sayısı (ön işleme yapılmadıysa 0)
+     */
+    public int getAbstractNodeCount() {
+        return nodeOfCell.size();
+    }
+
+    public int getClusterSize() {
+        return clusterSize;
+    }
+
+    // ===================== Ön işleme =====================
+
+    /**
+     * Soyutlamayı kurar veya değişen cluster'ları yerel olarak günceller
+     */
+    private void prepare(Maze maze) {
+        if (maze != this.maze || rows != maze.getRows() || cols != maze.getCols()) {
+            buildAll(maze);
+            return;
+        }
+        if (snapshotVersion == maze.getVersion()) {
+            return;
+        }
+
+        // Değişen hücrelerin cluster'ları
+        long[] current = maze.getWalkableBits();
+        boolean[] dirty = new boolean[clusters.length];
+        for (int w = 0; w < current.length; w++) {
+            long diff = current[w] ^ snapshot[w];
+            while (diff != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(diff);
+                dirty[clusterOf(cell)] = true;
+                diff &= diff - 1;
+            }
+        }
+        System.arraycopy(current, 0, snapshot, 0, current.length);
+        snapshotVersion = maze.getVersion();
+
+        // Kirli cluster'ların sınırları; geçişi değişen sınırın komşusu da yeniden kurulur
+        boolean[] rebuild = new boolean[clusters.length];
+        for (int ci = 0; ci < clusters.length; ci++) {
+            if (!dirty[ci]) {
+                continue;
+            }
+            rebuild[ci] = true;
+            int r = ci / clusterCols;
+            int c = ci % clusterCols;
+            if (c > 0 && buildEastBorder(r, c - 1)) rebuild[ci - 1] = true;
+            if (c < clusterCols - 1 && buildEastBorder(r, c)) rebuild[ci + 1] = true;
+            if (r > 0 && buildSouthBorder(r - 1, c)) rebuild[ci - clusterCols] = true;
+            if (r < clusterRows - 1 && buildSouthBorder(r, c)) rebuild[ci + clusterCols] = true;
+        }
+
+        for (int ci = 0; ci < clusters.length; ci++) {
+            if (rebuild[ci]) {
+                buildCluster(ci);
+            }
+        }
+    }
+
+    private void buildAll(Maze maze) {
+        this.maze = maze;
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.clusterRows = (rows + clusterSize - 1) / clusterSize;
+        this.clusterCols = (cols + clusterSize - 1) / clusterSize;
+
+        long[] bits = maze.getWalkableBits();
+        snapshot = Arrays.copyOf(bits, bits.length);
+        snapshotVersion = maze.getVersion();
+
+        nodeOfCell.clear();
+        nodeCount = 0;
+        freeNode = -1;
+
+        int clusterTotal = clusterRows * clusterCols;
+        clusters = new Cluster[clusterTotal];
+        eastBorders = new int[clusterTotal][];
+        southBorders = new int[clusterTotal][];
+
+        for (int r = 0; r < clusterRows; r++) {
+            for (int c = 0; c < clusterCols; c++) {
+                int top = r * clusterSize;
+                int left = c * clusterSize;
+                clusters[r * clusterCols + c] = new Cluster(top, left,
+                        Math.min(clusterSize, rows - top), Math.min(clusterSize, cols - left));
+                eastBorders[r * clusterCols + c] = EMPTY;
+                southBorders[r * clusterCols + c] = EMPTY;
+            }
+        }
+
+        for (int r = 0; r < clusterRows; r++) {
+            for (int c = 0; c < clusterCols; c++) {
+                if (c < clusterCols - 1) buildEastBorder(r, c);
+                if (r < clusterRows - 1) buildSouthBorder(r, c);
+            }
+        }
+        for (int ci = 0; ci < clusterTotal; ci++) {
+            buildCluster(ci);
+        }
+    }
+
+    /**
+     * (r, c) ile (r, c + 1) arasındaki geçişleri hesaplar
+     * @return true ise geçişler değişti
+     */
+    private boolean buildEastBorder(int r, int c) {
+        Cluster cluster = clusters[r * clusterCols + c];
+        int westCol = cluster.left + cluster.width - 1;
+        int[] pairs = scanBorder(cluster.top * cols + westCol, cols, 1, cluster.height);
+        int index = r * clusterCols + c;
+        boolean changed = !Arrays.equals(pairs, eastBorders[index]);
+        eastBorders[index] = pairs;
+        return changed;
+    }
+
+    /**
+     * (r, c) ile (r + 1, c) arasındaki geçişleri hesaplar
+     * @return true ise geçişler değişti
+     */
+    private boolean buildSouthBorder(int r, int c) {
+        Cluster cluster = clusters[r * clusterCols + c];
+        int northRow = cluster.top + cluster.height - 1;
+        int[] pairs = scanBorder(northRow * cols + cluster.left, 1, cols, cluster.width);
+        int index = r * clusterCols + c;
+        boolean changed = !Arrays.equals(pairs, southBorders[index]);
+        southBorders[index] = pairs;
+        return changed;
+    }
+
+    /**
+     * Sınır boyunca iki tarafı da walkable olan koşuları geçişlere çevirir
+     * @param first Sınırın bu tarafındaki ilk hücre
+     * @param step Sınır boyunca ilerleme
+     * @param across Karşı taraftaki hücreye ofset
+     * @param length Sınır uzunluğu
+     * @return [bu taraf, karşı taraf, ...] çiftleri
+     */
+    private int[] scanBorder(int first, int step, int across, int length) {
+        int[] pairs = new int[8];
+        int count = 0;
+        int runStart = -1;
+
+        for (int i = 0; i <= length; i++) {
+            int cell = first + i * step;
+            boolean open = i < length && maze.isWalkable(cell) && maze.isWalkable(cell + across);
+
+            if (open && runStart < 0) {
+                runStart = i;
+            } else if (!open && runStart >= 0) {
+                int runEnd = i - 1;
+                if (count + 4 > pairs.length) {
+                    pairs = Arrays.copyOf(pairs, pairs.length * 2);
+                }
+                if (runEnd - runStart + 1 < LONG_ENTRANCE) {
+                    int mid = first + ((runStart + runEnd) / 2) * step;
+                    pairs[count++] = mid;
+                    pairs[count++] = mid + across;
+                } else {
+                    int a = first + runStart * step;
+                    int b = first + runEnd * step;
+                    pairs[count++] = a;
+                    pairs[count++] = a + across;
+                    pairs[count++] = b;
+                    pairs[count++] = b + across;
+                }
+                runStart = -1;
+            }
+        }
+
+        return count == 0 ? EMPTY : Arrays.copyOf(pairs, count);
+    }
+
+    /**
+     * Cluster'ın düğümlerini sınır geçişlerinden toplar ve intra mesafeleri hesaplar
+     */
+    private void buildCluster(int ci) {
+        Cluster cluster = clusters[ci];
+        for (int node : cluster.nodes) {
+            releaseNode(node);
+        }
+
+        int r = ci / clusterCols;
+        int c = ci % clusterCols;
+        int[] cells = new int[16];
+        int count = 0;
+
+        // Her sınırda bu cluster'a düşen taraf: doğu/güney sınırında ilk, batı/kuzeyde ikinci hücre
+        int[][] sides = {
+                c < clusterCols - 1 ? eastBorders[ci] : EMPTY,
+                r < clusterRows - 1 ? southBorders[ci] : EMPTY,
+                c > 0 ? eastBorders[ci - 1] : EMPTY,
+                r > 0 ? southBorders[ci - clusterCols] : EMPTY
+        };
+        for (int s = 0; s < 4; s++) {
+            int[] pairs = sides[s];
+            for (int i = s < 2 ? 0 : 1; i < pairs.length; i += 2) {
+                int cell = pairs[i];
+                if (nodeOfCell.containsKey(cell)) {
+                    continue;  // köşe hücresi iki sınırda birden geçiş olabilir
+                }
+                if (count == cells.length) {
+                    cells = Arrays.copyOf(cells, count * 2);
+                }
+                cells[count++] = cell;
+                nodeOfCell.put(cell, allocateNode(cell, ci, count - 1));
+            }
+        }
+
+        int[] nodes = new int[count];
+        for (int i = 0; i < count; i++) {
+            nodes[i] = nodeOfCell.get(cells[i], -1);
+        }
+        int[] distances = new int[count * count];
+
+        // Mesafeler simetrik: i. BFS sadece j > i için gerekir, son düğüm için BFS yok
+        loadCluster(cluster);
+        for (int i = 0; i < count - 1; i++) {
+            localBfs(cluster, cells[i], localDist, null);
+            for (int j = i + 1; j < count; j++) {
+                int d = localDist[localIndex(cluster, cells[j])];
+                distances[i * count + j] = d;
+                distances[j * count + i] = d;
+            }
+        }
+
+        cluster.nodes = nodes;
+        cluster.distances = distances;
+    }
+
+    private int allocateNode(int cell, int ci, int slot) {
+        int node;
+        if (freeNode >= 0) {
+            node = freeNode;
+            freeNode = nodeCluster[node];
+        } else {
+            if (nodeCount == nodeCell.length) {
+                nodeCell = Arrays.copyOf(nodeCell, nodeCount * 2);
+                nodeCluster = Arrays.copyOf(nodeCluster, nodeCount * 2);
+                nodeSlot = Arrays.copyOf(nodeSlot, nodeCount * 2);
+            }
+            node = nodeCount++;
+        }
+        nodeCell[node] = cell;
+        nodeCluster[node] = ci;
+        nodeSlot[node] = slot;
+        return node;
+    }
+
+    private void releaseNode(int node) {
+        nodeOfCell.remove(nodeCell[node], -1);
+        nodeCluster[node] = freeNode;
+        freeNode = node;
+    }
+
+    // ===================== Cluster içi BFS =====================
+
+    private int clusterOf(int cell) {
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    private int localIndex(Cluster cluster, int cell) {
+        return (cell / cols - cluster.top) * cluster.width + (cell % cols - cluster.left);
+    }
+
+    private int globalCell(Cluster cluster, int local) {
+        return (cluster.top + local / cluster.width) * cols + cluster.left + local % cluster.width;
+    }
+
+    /**
+     * Cluster'ın walkable maskesini yerel tampona alır (sonraki localBfs çağrıları bunu kullanır)
+     */
+    private void loadCluster(Cluster cluster) {
+        int local = 0;
+        for (int r = 0; r < cluster.height; r++) {
+            int cell = (cluster.top + r) * cols + cluster.left;
+            for (int c = 0; c < cluster.width; c++) {
+                localWalkable[local++] = maze.isWalkable(cell + c);
+            }
+        }
+    }
+
+    /**
+     * Yüklü cluster sınırları içinde BFS; dist yerel indekslidir (INF: erişilemez)
+     * @param parents null değilse yerel ebeveynler yazılır
+     */
+    private void localBfs(Cluster cluster, int source, int[] dist, int[] parents) {
+        int width = cluster.width;
+        int area = cluster.height * width;
+        Arrays.fill(dist, 0, area, INF);
+
+        int head = 0;
+        int tail = 0;
+        int sourceLocal = localIndex(cluster, source);
+        dist[sourceLocal] = 0;
+        localQueue[tail++] = sourceLocal;
+
+        while (head < tail) {
+            int current = localQueue[head++];
+            int col = current % width;
+            int next = dist[current] + 1;
+
+            if (current >= width) tail = visit(current - width, current, next, dist, parents, tail);
+            if (current + width < area) tail = visit(current + width, current, next, dist, parents, tail);
+            if (col > 0) tail = visit(current - 1, current, next, dist, parents, tail);
+            if (col < width - 1) tail = visit(current + 1, current, next, dist, parents, tail);
+        }
+    }
+
+    private int visit(int neighbor, int current, int next, int[] dist, int[] parents, int tail) {
+        if (dist[neighbor] == INF && localWalkable[neighbor]) {
+            dist[neighbor] = next;
+            if (parents != null) {
+                parents[neighbor] = current;
+            }
+            localQueue[tail++] = neighbor;
+        }
+        return tail;
+    }
+
+    // ===================== Sorgu =====================
+
+    /**
+     * Soyut A* + refine
+     * @return Hücre yolu (bulunamazsa boş)
+     */
+    private List<Position> search(int startCell, int goalCell) {
+        int startCluster = clusterOf(startCell);
+        int goalCluster = clusterOf(goalCell);
+        Cluster sc = clusters[startCluster];
+        Cluster gc = clusters[goalCluster];
+
+        loadCluster(sc);
+        localBfs(sc, startCell, startDist, null);
+        loadCluster(gc);
+        localBfs(gc, goalCell, goalDist, null);
+
+        // Geçici düğümler: start = nodeCount, goal = nodeCount + 1
+        int startId = nodeCount;
+        int goalId = nodeCount + 1;
+        ensureSearchCapacity(nodeCount + 2);
+
+        int goalRow = goalCell / cols;
+        int goalCol = goalCell % cols;
+
+        touched[touchedCount++] = startId;
+        gCost[startId] = 0;
+        parent[startId] = -1;
+        open.insert(startId, priority(0, heuristic(startCell, goalRow, goalCol)));
+
+        boolean found = false;
+        int[] adjacent = new int[4];
+
+        while (!open.isEmpty()) {
+            int u = open.poll();
+            if (u == goalId) {
+                found = true;
+                break;
+            }
+
+            int uCell = u == startId ? startCell : nodeCell[u];
+            int g = gCost[u];
+            recordStep(uCell, g);
+
+            if (u == startId) {
+                // Start cluster'ının düğümleri ve (aynı cluster ise) doğrudan hedef
+                for (int node : sc.nodes) {
+                    int d = startDist[localIndex(sc, nodeCell[node])];
+                    if (d != INF) {
+                        relax(u, node, g + d, goalRow, goalCol);
+                    }
+                }
+                if (startCluster == goalCluster && goalDist[localIndex(gc, startCell)] != INF) {
+                    relax(u, goalId, g + goalDist[localIndex(gc, startCell)], goalRow, goalCol);
+                }
+                continue;
+            }
+
+            // Intra edge'ler
+            Cluster cluster = clusters[nodeCluster[u]];
+            int k = cluster.nodes.length;
+            int base = nodeSlot[u] * k;
+            for (int j = 0; j < k; j++) {
+                int d = cluster.distances[base + j];
+                if (d != INF && cluster.nodes[j] != u) {
+                    relax(u, cluster.nodes[j], g + d, goalRow, goalCol);
+                }
+            }
+
+            // Hedef cluster'ındaysa hedefe
+            if (nodeCluster[u] == goalCluster) {
+                int d = goalDist[localIndex(gc, uCell)];
+                if (d != INF) {
+                    relax(u, goalId, g + d, goalRow, goalCol);
+                }
+            }
+
+            // Inter edge'ler: sınırın karşısındaki komşu düğümler
+            int count = maze.getWalkableNeighbors(uCell, adjacent);
+            for (int i = 0; i < count; i++) {
+                int neighborCell = adjacent[i];
+                if (clusterOf(neighborCell) != nodeCluster[u]) {
+                    int neighbor = nodeOfCell.get(neighborCell, -1);
+                    if (neighbor >= 0) {
+                        relax(u, neighbor, g + 1, goalRow, goalCol);
+                    }
+                }
+            }
+        }
+
+        List<Position> positions = new ArrayList<>();
+        if (found) {
+            // Soyut yol: goal -> start
+            int[] chain = new int[16];
+            int length = 0;
+            for (int v = goalId; v >= 0; v = parent[v]) {
+                if (length == chain.length) {
+                    chain = Arrays.copyOf(chain, length * 2);
+                }
+                chain[length++] = v == startId ? startCell : v == goalId ? goalCell : nodeCell[v];
+            }
+
+            positions.add(maze.toPosition(startCell));
+            for (int i = length - 1; i > 0; i--) {
+                refine(chain[i], chain[i - 1], positions);
+            }
+        }
+
+        clearSearch();
+        return positions;
+    }
+
+    private void relax(int u, int v, int cost, int goalRow, int goalCol) {
+        if (cost < gCost[v]) {
+            if (gCost[v] == INF) {
+                touched[touchedCount++] = v;
+            }
+            gCost[v] = cost;
+            parent[v] = u;
+            int cell = v == nodeCount + 1 ? goalRow * cols + goalCol : nodeCell[v];
+            open.update(v, priority(cost, heuristic(cell, goalRow, goalCol)));
+        }
+    }
+
+    /**
+     * Soyut kenarı hücrelere açar; from zaten listede, to ve aradakiler eklenir
+     */
+    private void refine(int from, int to, List<Position> positions) {
+        if (from == to) {
+            return;
+        }
+
+        Cluster cluster = clusters[clusterOf(from)];
+        if (clusterOf(to) != clusterOf(from)) {
+            positions.add(maze.toPosition(to));  // inter edge: komşu hücreler
+            return;
+        }
+
+        loadCluster(cluster);
+        localBfs(cluster, from, localDist, localParent);
+        int target = localIndex(cluster, to);
+        int source = localIndex(cluster, from);
+
+        int insertAt = positions.size();
+        for (int v = target; v != source; v = localParent[v]) {
+            positions.add(insertAt, maze.toPosition(globalCell(cluster, v)));
+        }
+    }
+
+    private int heuristic(int cell, int goalRow, int goalCol) {
+        return Math.abs(cell / cols - goalRow) + Math.abs(cell % cols - goalCol);
+    }
+
+    private long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    private void ensureSearchCapacity(int capacity) {
+        if (gCost.length < capacity) {
+            int size = Math.max(capacity, gCost.length * 2);
+            gCost = new int[size];
+            parent = new int[size];
+            touched = new int[size];
+            Arrays.fill(gCost, INF);
+            open = new IndexedMinHeap(size, 4);
+        }
+    }
+
+    private void clearSearch() {
+        for (int i = 0; i < touchedCount; i++) {
+            gCost[touched[i]] = INF;
+        }
+        touchedCount = 0;
+        open.clear();
+    }
+
+    private void recordStep(int cell, int g) {
+        if (steps != null) {
+            Position pos = maze.toPosition(cell);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.EXPLORE,
+                    pos,
+                    new ArrayList<>(),
+                    String.format("Abstract node %s (g=%d)", pos, g)
+            ));
+        }
+    }
+
+    // ===================== IPathFinder =====================
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        recorded.add(new AlgorithmStep(
+                AlgorithmStep.StepType.VISIT,
+                start,
+                List.of(start),
+                "HPA* started at " + start + " (cluster size " + clusterSize + ")"
+        ));
+
+        steps = recorded;
+        Path path;
+        try {
+            path = findPath(maze, start, end);
+        } finally {
+            steps = null;
+        }
+
+        recorded.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                path.getPositions(),
+                path.isEmpty() ? "No path found!" : "Path found! Length: " + path.getLength()
+        ));
+        return recorded;
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "HPA* (Hierarchical)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return false;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(N log N + C^2)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(N * k + V / 64)";
+    }
+}
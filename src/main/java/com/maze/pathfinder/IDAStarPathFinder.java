@@ -0,0 +1,324 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.LongIntHashMap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * IDA* (Iterative Deepening A*) - bellek kısıtlı arama
+ *
+ * Her iterasyon f = g + h <= eşik olan düğümleri derinlik öncelikli gezer;
+ * open/closed set, transposition table yoktur. Bellek sadece mevcut yol
+ * kadardır: açık yığın (hücre + sıradaki çocuk) ve döngü kontrolü için
+ * yoldaki hücrelerin küçük hash seti -> O(yol uzunluğu).
+ *
+ * Eşik planı: klasik IDA* eşiği en küçük budanan f'e çıkarır; labirentlerde
+ * (Manhattan heuristic çok zayıf) f her sapmada 2 arttığından bu binlerce
+ * iterasyon demektir. Burada eşik adımı iterasyonlar arası genişletme
+ * artışına göre ayarlanır: bir iterasyon öncekinin GROWTH_FACTOR katından az
+ * düğüm genişlettiyse adım ikiye katlanır, böylece toplam iş son iterasyonun
+ * sabit katında kalır ve iterasyon sayısı logaritmiktir. Eşik bu şekilde
+ * optimalin üstüne taşabileceğinden iterasyon depth-first branch-and-bound
+ * gibi çalışır: bulunan en iyi maliyete ulaşamayacak dallar budanır ve
+ * iterasyon sonundaki en iyi çözüm optimaldir.
+ *
+ * Transposition yok: döngülü (açık) alanlarda aynı hücreye çok sayıda yoldan
+ * ulaşılır ve iş üstel büyüyebilir; perfect labirentlerde (ağaç) her hücre
+ * tek yoldan gelir. Bu yüzden toplam genişletme maxExpansions ile sınırlıdır;
+ * sınır aşılırsa sonuç IndexedAStarPathFinder ile bulunur (yine optimal) ve
+ * isLimitReached() true olur. Erişilemeyen hedef için eşik hiç durmadan
+ * büyüyeceğinden aramadan önce ComponentIndex ile O(1) kontrol yapılır.
+ *
+ * Time Complexity: O(b^d) en kötü durum, ağaç labirentlerde ~O(V)
+ * Space Complexity: O(d) (d: yol uzunluğu)
+ */
+public class IDAStarPathFinder implements IPathFinder {
+
+    /** İterasyonlar arası beklenen en az genişletme artışı; altında kalınırsa eşik adımı ikiye katlanır */
+    private static final double GROWTH_FACTOR = 2.0;
+
+    /** Varsayılan genişletme bütçesi (açık alanlarda üstel patlamaya karşı) */
+    public static final long DEFAULT_MAX_EXPANSIONS = 50_000_000L;
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final long maxExpansions;
+    private final IndexedAStarPathFinder fallback = new IndexedAStarPathFinder();
+
+    private List<AlgorithmStep> steps;   // null: adım kaydı yok
+    private int iterations;
+    private long expanded;
+    private boolean limitReached;
+
+    public IDAStarPathFinder() {
+        this(DEFAULT_MAX_EXPANSIONS);
+    }
+
+    /**
+     * @param maxExpansions Tüm iterasyonlar boyunca izin verilen en fazla düğüm genişletmesi (> 0)
+     */
+    public IDAStarPathFinder(long maxExpansions) {
+        if (maxExpansions <= 0) {
+            throw new IllegalArgumentException("Expansion limit must be positive: " + maxExpansions);
+        }
+        this.maxExpansions = maxExpansions;
+    }
+
+    private int heuristic(int index, int cols, Position end) {
+        return Math.abs(index / cols - end.getRow()) +
+                Math.abs(index % cols - end.getCol());
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+        iterations = 0;
+        expanded = 0;
+        limitReached = false;
+
+        if (!maze.isWalkable(startIndex) || !maze.isWalkable(endIndex)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        if (!maze.getComponentIndex().areConnected(start, end)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        int[] best = search(maze, startIndex, endIndex, end);
+        if (limitReached) {
+            Path path = fallback.findPath(maze, start, end);
+            return new Path(path.getPositions(), path.getCost(), System.currentTimeMillis() - startTime);
+        }
+        List<Position> positions = new ArrayList<>(best.length);
+        for (int cell : best) {
+            positions.add(maze.toPosition(cell));
+        }
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * @return Optimal yol hücreleri (yoksa veya bütçe aşıldıysa boş dizi; ikincisinde limitReached)
+     */
+    private int[] search(Maze maze, int start, int goal, Position end) {
+        int cols = maze.getCols();
+
+        // Yığın: depth -> hücre ve sıradaki çocuk sırası
+        int[] cells = new int[64];
+        int[] nextChild = new int[64];
+        LongIntHashMap onPath = new LongIntHashMap();
+        int[] children = new int[4];
+        int[] order = new int[4];
+
+        int threshold = heuristic(start, cols, end);
+        int bestCost = INF;
+        int[] best = new int[0];
+        int step = 0;
+        long previousExpanded = 0;
+
+        while (true) {
+            iterations++;
+            int minPruned = INF;
+            long iterationExpanded = 0;
+
+            int depth = 0;
+            cells[0] = start;
+            nextChild[0] = 0;
+            onPath.put(start, 0);
+
+            while (depth >= 0) {
+                int cell = cells[depth];
+
+                if (nextChild[depth] == 0) {
+                    if (expanded + ++iterationExpanded > maxExpansions) {
+                        limitReached = true;
+                        expanded += iterationExpanded;
+                        return new int[0];
+                    }
+                    recordExpansion(maze, cell, depth, threshold);
+                    if (cell == goal) {
+                        // f >= bestCost budandığı için bu çözüm öncekinden kısadır
+                        bestCost = depth;
+                        best = Arrays.copyOf(cells, depth + 1);
+                        onPath.remove(cell, 0);
+                        depth--;
+                        continue;
+                    }
+                }
+
+                int count = orderedChildren(maze, cell, cols, end, children, order);
+                if (nextChild[depth] >= count) {
+                    onPath.remove(cell, 0);
+                    depth--;
+                    continue;
+                }
+
+                int child = children[order[nextChild[depth]++]];
+                if ((depth > 0 && child == cells[depth - 1]) || onPath.containsKey(child)) {
+                    continue;
+                }
+
+                int g = depth + 1;
+                int f = g + heuristic(child, cols, end);
+                if (f >= bestCost) {
+                    continue;
+                }
+                if (f > threshold) {
+                    minPruned = Math.min(minPruned, f);
+                    continue;
+                }
+
+                if (g == cells.length) {
+                    cells = Arrays.copyOf(cells, g * 2);
+                    nextChild = Arrays.copyOf(nextChild, g * 2);
+                }
+                depth = g;
+                cells[depth] = child;
+                nextChild[depth] = 0;
+                onPath.put(child, 0);
+            }
+
+            expanded += iterationExpanded;
+            if (bestCost != INF) {
+                return best;
+            }
+
+            if (minPruned == INF) {
+                return best;  // budanan düğüm yok: yol yok
+            }
+
+            // En az bir budanan düğümü içerecek adım; büyüme yavaşsa ikiye katla
+            int minStep = minPruned - threshold;
+            if (previousExpanded > 0 && iterationExpanded < GROWTH_FACTOR * previousExpanded) {
+                step = Math.max(minStep, step * 2);
+            } else {
+                step = Math.max(minStep, step);
+            }
+            threshold += step;
+            previousExpanded = iterationExpanded;
+        }
+    }
+
+    /**
+     * Walkable komşular, h'si küçük olan önce (branch-and-bound iyi çözümü erken bulur)
+     */
+    private int orderedChildren(Maze maze, int cell, int cols, Position end,
+                                int[] children, int[] order) {
+        int count = maze.getWalkableNeighbors(cell, children);
+        for (int i = 0; i < count; i++) {
+            int h = heuristic(children[i], cols, end);
+            int j = i;
+            while (j > 0 && heuristic(children[order[j - 1]], cols, end) > h) {
+                order[j] = order[j - 1];
+                j--;
+            }
+            order[j] = i;
+        }
+        return count;
+    }
+
+    private void recordExpansion(Maze maze, int cell, int g, int threshold) {
+        if (steps == null) {
+            return;
+        }
+        Position pos = maze.toPosition(cell);
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.EXPLORE,
+                pos,
+                new ArrayList<>(),
+                String.format("Iteration %d (threshold %d): Exploring %s (g=%d)",
+                        iterations, threshold, pos, g)
+        ));
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        steps = recorded;
+        try {
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    "IDA* started at " + start
+            ));
+
+            Path path = findPath(maze, start, end);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.COMPLETE,
+                    end,
+                    path.getPositions(),
+                    path.isEmpty()
+                            ? "No path found!"
+                            : "Path found! Length: " + path.getLength() + ", Iterations: " + iterations
+                            + (limitReached ? " (expansion limit reached, solved by A*)" : "")
+            ));
+            return recorded;
+        } finally {
+            steps = null;
+        }
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    /**
+     * Son aramadaki iterasyon sayısı
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Son aramada (tüm iterasyonlar boyunca) genişletilen düğüm sayısı
+     */
+    public long getExpandedNodes() {
+        return expanded;
+    }
+
+    /**
+     * Son arama genişletme bütçesini aştığı için mi A*'a devredildi?
+     */
+    public boolean isLimitReached() {
+        return limitReached;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "IDA* (Iterative Deepening)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(b^d)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(d)";
+    }
+}
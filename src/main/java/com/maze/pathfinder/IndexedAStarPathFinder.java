@@ -0,0 +1,259 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * A* (A-Star) Search - Indexed d-ary min-heap kullanarak
+ *
+ * AStarPathFinder ile aynı sonucu (aynı yol uzunluğu) üretir, fakat:
+ *  - Open Set: IndexedMinHeap (anahtar = row * cols + col)
+ *    -> gerçek decrease-key, TreeSet'ten silip tekrar ekleme yok
+ *  - Open/closed kontrolü: primitive diziler (heap pozisyonu, epoch damgası)
+ *    -> boxed Position hash'lemesi yok
+ *
+ * Öncelik: f üst 32 bit, h alt 32 bit (eşit f'de hedefe yakın olan önce)
+ *
+ * Time Complexity: O(E log V)
+ * Space Complexity: O(V)
+ */
+public class IndexedAStarPathFinder implements IPathFinder {
+
+    /**
+     * Manhattan Distance heuristic
+     */
+    private int heuristic(Position a, Position b) {
+        return Math.abs(a.getRow() - b.getRow()) +
+                Math.abs(a.getCol() - b.getCol());
+    }
+
+    private int heuristic(int index, int cols, Position end) {
+        return Math.abs(index / cols - end.getRow()) +
+                Math.abs(index % cols - end.getCol());
+    }
+
+    private long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+
+            IndexedMinHeap openSet = ctx.getOpenHeap();
+            int[] neighbors = new int[4];
+
+            ctx.setGCost(startIndex, 0);
+            openSet.insert(startIndex, priority(0, heuristic(startIndex, cols, end)));
+
+            while (!openSet.isEmpty()) {
+
+                // En düşük fCost'lu hücre
+                int current = openSet.poll();
+                int g = ctx.getGCost(current);
+
+                if (current == endIndex) {
+                    long endTime = System.currentTimeMillis();
+                    return new Path(
+                            ctx.reconstructPositions(current),
+                            g,
+                            endTime - startTime
+                    );
+                }
+
+                ctx.markVisited(current);
+
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+
+                    if (ctx.isVisited(neighbor)) {
+                        continue;
+                    }
+
+                    int tentativeG = g + 1;
+
+                    if (tentativeG < ctx.getGCost(neighbor)) {
+                        ctx.setParent(neighbor, current);
+                        ctx.setGCost(neighbor, tentativeG);
+
+                        long key = priority(tentativeG, heuristic(neighbor, cols, end));
+                        if (openSet.contains(neighbor)) {
+                            openSet.decreaseKey(neighbor, key);
+                        } else {
+                            openSet.insert(neighbor, key);
+                        }
+                    }
+                }
+            }
+
+            long endTime = System.currentTimeMillis();
+            return new Path(new ArrayList<>(), 0, endTime - startTime);
+        }
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(
+            Maze maze, Position start, Position end) {
+
+        List<AlgorithmStep> steps = new ArrayList<>();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return steps;
+        }
+
+        int cols = maze.getCols();
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+
+            IndexedMinHeap openSet = ctx.getOpenHeap();
+            int[] neighbors = new int[4];
+
+            ctx.setGCost(startIndex, 0);
+            openSet.insert(startIndex, priority(0, heuristic(startIndex, cols, end)));
+
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    "A* (indexed heap) started at " + start +
+                            " (h=" + heuristic(start, end) + ")"
+            ));
+
+            int stepCount = 0;
+
+            while (!openSet.isEmpty()) {
+
+                int current = openSet.poll();
+                Position currentPos = maze.toPosition(current);
+                int g = ctx.getGCost(current);
+                int h = heuristic(current, cols, end);
+
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        currentPos,
+                        new ArrayList<>(),
+                        String.format(
+                                "Step %d: Exploring %s (g=%d, h=%d, f=%d)",
+                                ++stepCount,
+                                currentPos,
+                                g,
+                                h,
+                                g + h
+                        )
+                ));
+
+                // Goal bulundu
+                if (current == endIndex) {
+                    Path path = new Path(ctx.reconstructPositions(current));
+                    steps.add(new AlgorithmStep(
+                            AlgorithmStep.StepType.COMPLETE,
+                            end,
+                            path.getPositions(),
+                            "Path found! Length: " +
+                                    path.getLength() +
+                                    ", Cost: " + g
+                    ));
+                    return steps;
+                }
+
+                ctx.markVisited(current);
+
+                int count = maze.getWalkableNeighbors(current, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int neighbor = neighbors[i];
+
+                    if (ctx.isVisited(neighbor)) {
+                        continue;
+                    }
+
+                    int tentativeG = g + 1;
+
+                    if (tentativeG < ctx.getGCost(neighbor)) {
+                        ctx.setParent(neighbor, current);
+                        ctx.setGCost(neighbor, tentativeG);
+
+                        int nh = heuristic(neighbor, cols, end);
+                        long key = priority(tentativeG, nh);
+                        boolean decreased = openSet.contains(neighbor);
+                        if (decreased) {
+                            openSet.decreaseKey(neighbor, key);
+                        } else {
+                            openSet.insert(neighbor, key);
+                        }
+
+                        Position np = maze.toPosition(neighbor);
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                np,
+                                new ArrayList<>(),
+                                String.format(
+                                        "%s: %s (g=%d, h=%d, f=%d)",
+                                        decreased ? "Decreased key" : "Added to open set",
+                                        np,
+                                        tentativeG,
+                                        nh,
+                                        tentativeG + nh
+                                )
+                        ));
+                    }
+                }
+            }
+        }
+
+        // Yol bulunamadı
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                new ArrayList<>(),
+                "No path found!"
+        ));
+
+        return steps;
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "A* Search (Indexed Heap)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(E log V)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
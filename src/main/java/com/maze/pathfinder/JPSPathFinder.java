@@ -0,0 +1,492 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Jump Point Search (JPS) - uniform maliyetli grid'ler için A* hızlandırması.
+ *
+ * Algoritma:
+ * 1. A* gibi çalışır, fakat open set'e sadece "jump point"ler girer
+ * 2. Bir hücreden, parent yönüne göre simetrik (gereksiz) komşular budanır
+ * 3. Kalan her yönde koridor boyunca "zıplanır"; zorunlu komşusu (forced
+ *    neighbor) olan veya hedef olan ilk hücre jump point olur
+ * 4. Hedefe ulaşınca jump point zinciri hücre hücre yola açılır
+ *
+ * Hareket modları:
+ * - FOUR_WAY: Maze.getNeighbors modeli (yukarı, aşağı, sol, sağ)
+ * - EIGHT_WAY: Maze.getNeighbors8 modeli, köşe kesme yok (diagonal adım için
+ *   iki ortogonal komşu da walkable olmalı). Diagonal adımlar sonuç yolunda
+ *   iki ortogonal adıma açılır, böylece PathUtils.isValidPath ile uyumludur.
+ *
+ * Maliyetler: arama içinde düz adım 10, diagonal adım 14 (sabit nokta octile).
+ * Path.getCost() ise döndürülen hücre hücre yolun adım sayısıdır
+ * (getLength() - 1); EIGHT_WAY'de her diagonal iki adım sayılır.
+ *
+ * Özellikler:
+ * - FOUR_WAY OPTIMAL: 4-yönlü en kısa yolu bulur
+ * - EIGHT_WAY octile-optimal yolu bulur; açılmış 4-yönlü yol ise en kısa
+ *   4-yönlü yol olmak zorunda değildir (isOptimal() false)
+ * - Uzun düz koridorlarda A*'a göre çok daha az düğüm açar
+ *
+ * Time Complexity: O(V log V) (en kötü durum)
+ * Space Complexity: O(V)
+ */
+public class JPSPathFinder implements IPathFinder {
+
+    public enum Movement {
+        FOUR_WAY,
+        EIGHT_WAY
+    }
+
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    private static final int NONE = -1;
+
+    private final Movement movement;
+
+    public JPSPathFinder() {
+        this(Movement.FOUR_WAY);
+    }
+
+    public JPSPathFinder(Movement movement) {
+        this.movement = movement;
+    }
+
+    /**
+     * Arama sırasında kullanılan salt-okunur durum
+     */
+    private static class Search {
+        final Maze maze;
+        final int cols;
+        final int endRow;
+        final int endCol;
+
+        Search(Maze maze, Position end) {
+            this.maze = maze;
+            this.cols = maze.getCols();
+            this.endRow = end.getRow();
+            this.endCol = end.getCol();
+        }
+
+        boolean walkable(int row, int col) {
+            return maze.isWalkable(row, col);
+        }
+
+        boolean isEnd(int row, int col) {
+            return row == endRow && col == endCol;
+        }
+    }
+
+    /* ===================== HEURISTIC & COST ===================== */
+
+    private int heuristic(int row, int col, int endRow, int endCol) {
+        int dr = Math.abs(row - endRow);
+        int dc = Math.abs(col - endCol);
+
+        if (movement == Movement.FOUR_WAY) {
+            return STRAIGHT_COST * (dr + dc);
+        }
+        // Octile distance
+        return DIAGONAL_COST * Math.min(dr, dc) + STRAIGHT_COST * Math.abs(dr - dc);
+    }
+
+    private int distance(int fromRow, int fromCol, int toRow, int toCol) {
+        // Jump point'ler hep düz veya tam diagonal çizgi üzerindedir
+        return heuristic(fromRow, fromCol, toRow, toCol);
+    }
+
+    private long priority(int g, int h) {
+        return ((long) (g + h) << 32) | h;
+    }
+
+    /* ===================== FIND PATH ===================== */
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            int endIndex = search(maze, start, end, ctx, null);
+            long endTime = System.currentTimeMillis();
+
+            if (endIndex == NONE) {
+                return new Path(new ArrayList<>(), 0, endTime - startTime);
+            }
+
+            List<Position> positions = expand(ctx.reconstructPositions(endIndex));
+            return new Path(positions, positions.size() - 1, endTime - startTime);
+        }
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> steps = new ArrayList<>();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return steps;
+        }
+
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.VISIT,
+                start,
+                List.of(start),
+                "JPS (" + movement + ") started at " + start
+        ));
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            int endIndex = search(maze, start, end, ctx, steps);
+
+            if (endIndex != NONE) {
+                List<Position> positions = expand(ctx.reconstructPositions(endIndex));
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.COMPLETE,
+                        end,
+                        positions,
+                        "Path found! Length: " + positions.size() +
+                                ", Search cost: " + ctx.getGCost(endIndex) / (double) STRAIGHT_COST
+                ));
+                return steps;
+            }
+        }
+
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                new ArrayList<>(),
+                "No path found!"
+        ));
+        return steps;
+    }
+
+    /**
+     * Jump point'ler üzerinde A*
+     * @param steps null değilse animasyon adımları eklenir
+     * @return Hedef indeksi (bulunamazsa NONE)
+     */
+    private int search(Maze maze, Position start, Position end,
+                       SearchContext ctx, List<AlgorithmStep> steps) {
+        Search s = new Search(maze, end);
+        IndexedMinHeap openSet = ctx.getOpenHeap();
+        int cols = s.cols;
+
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        ctx.setGCost(startIndex, 0);
+        openSet.insert(startIndex, priority(0,
+                heuristic(start.getRow(), start.getCol(), s.endRow, s.endCol)));
+
+        int[] directions = new int[16];  // (dr, dc) çiftleri
+        int stepCount = 0;
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+            int row = current / cols;
+            int col = current % cols;
+            int g = ctx.getGCost(current);
+
+            if (steps != null) {
+                steps.add(new AlgorithmStep(
+                        AlgorithmStep.StepType.EXPLORE,
+                        new Position(row, col),
+                        new ArrayList<>(),
+                        "Step " + (++stepCount) + ": Expanding jump point " +
+                                new Position(row, col) + " (g=" + g + ")"
+                ));
+            }
+
+            if (current == endIndex) {
+                return current;
+            }
+
+            ctx.markVisited(current);
+
+            int dirCount = prunedDirections(s, current, ctx.getParent(current), directions);
+            for (int d = 0; d < dirCount; d++) {
+                int dr = directions[2 * d];
+                int dc = directions[2 * d + 1];
+
+                int jumpPoint = movement == Movement.FOUR_WAY
+                        ? jump4(s, row, col, dr, dc)
+                        : jump8(s, row, col, dr, dc);
+
+                if (jumpPoint == NONE || ctx.isVisited(jumpPoint)) {
+                    continue;
+                }
+
+                int jr = jumpPoint / cols;
+                int jc = jumpPoint % cols;
+                int tentativeG = g + distance(row, col, jr, jc);
+
+                if (tentativeG < ctx.getGCost(jumpPoint)) {
+                    ctx.setParent(jumpPoint, current);
+                    ctx.setGCost(jumpPoint, tentativeG);
+                    openSet.update(jumpPoint, priority(tentativeG,
+                            heuristic(jr, jc, s.endRow, s.endCol)));
+
+                    if (steps != null) {
+                        steps.add(new AlgorithmStep(
+                                AlgorithmStep.StepType.VISIT,
+                                new Position(jr, jc),
+                                new ArrayList<>(),
+                                "Jumped to " + new Position(jr, jc) + " (g=" + tentativeG + ")"
+                        ));
+                    }
+                }
+            }
+        }
+
+        return NONE;
+    }
+
+    /* ===================== PRUNING ===================== */
+
+    /**
+     * Parent yönüne göre budanmış arama yönlerini yazar
+     * @return Yön sayısı
+     */
+    private int prunedDirections(Search s, int current, int parent, int[] out) {
+        int row = current / s.cols;
+        int col = current % s.cols;
+        int count = 0;
+
+        if (parent == SearchContext.NO_PARENT) {
+            // Başlangıç: tüm komşular
+            int[][] all = movement == Movement.FOUR_WAY
+                    ? new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1}}
+                    : new int[][]{{-1, 0}, {1, 0}, {0, -1}, {0, 1},
+                                  {-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+            for (int[] d : all) {
+                if (canStep(s, row, col, d[0], d[1])) {
+                    out[2 * count] = d[0];
+                    out[2 * count + 1] = d[1];
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        int dr = Integer.signum(row - parent / s.cols);
+        int dc = Integer.signum(col - parent % s.cols);
+
+        if (movement == Movement.FOUR_WAY) {
+            if (dc != 0) {
+                // Yatay hareket: ileri + yukarı/aşağı
+                count = addIfStep(s, row, col, 0, dc, out, count);
+                count = addIfStep(s, row, col, -1, 0, out, count);
+                count = addIfStep(s, row, col, 1, 0, out, count);
+            } else {
+                // Dikey hareket: ileri + sol/sağ
+                count = addIfStep(s, row, col, dr, 0, out, count);
+                count = addIfStep(s, row, col, 0, -1, out, count);
+                count = addIfStep(s, row, col, 0, 1, out, count);
+            }
+            return count;
+        }
+
+        if (dr != 0 && dc != 0) {
+            // Diagonal: iki bileşen + diagonal
+            count = addIfStep(s, row, col, dr, 0, out, count);
+            count = addIfStep(s, row, col, 0, dc, out, count);
+            count = addIfStep(s, row, col, dr, dc, out, count);
+        } else if (dc != 0) {
+            count = addIfStep(s, row, col, 0, dc, out, count);
+            count = addIfStep(s, row, col, -1, dc, out, count);
+            count = addIfStep(s, row, col, 1, dc, out, count);
+            count = addIfStep(s, row, col, -1, 0, out, count);
+            count = addIfStep(s, row, col, 1, 0, out, count);
+        } else {
+            count = addIfStep(s, row, col, dr, 0, out, count);
+            count = addIfStep(s, row, col, dr, -1, out, count);
+            count = addIfStep(s, row, col, dr, 1, out, count);
+            count = addIfStep(s, row, col, 0, -1, out, count);
+            count = addIfStep(s, row, col, 0, 1, out, count);
+        }
+        return count;
+    }
+
+    private int addIfStep(Search s, int row, int col, int dr, int dc, int[] out, int count) {
+        if (canStep(s, row, col, dr, dc)) {
+            out[2 * count] = dr;
+            out[2 * count + 1] = dc;
+            return count + 1;
+        }
+        return count;
+    }
+
+    /**
+     * Tek adım atılabilir mi (diagonal için köşe kesme yasak)
+     */
+    private boolean canStep(Search s, int row, int col, int dr, int dc) {
+        if (!s.walkable(row + dr, col + dc)) {
+            return false;
+        }
+        if (dr != 0 && dc != 0) {
+            return s.walkable(row + dr, col) && s.walkable(row, col + dc);
+        }
+        return true;
+    }
+
+    /* ===================== JUMP (4-WAY) ===================== */
+
+    /**
+     * 4 yönlü modda (row, col)'dan (dr, dc) yönünde zıplar
+     * @return Jump point indeksi (yoksa NONE)
+     */
+    private int jump4(Search s, int row, int col, int dr, int dc) {
+        while (true) {
+            row += dr;
+            col += dc;
+
+            if (!s.walkable(row, col)) {
+                return NONE;
+            }
+            if (s.isEnd(row, col)) {
+                return row * s.cols + col;
+            }
+
+            if (dc != 0) {
+                // Yatay: arkası kapalı bir dikey açıklık = forced neighbor
+                if ((s.walkable(row - 1, col) && !s.walkable(row - 1, col - dc)) ||
+                        (s.walkable(row + 1, col) && !s.walkable(row + 1, col - dc))) {
+                    return row * s.cols + col;
+                }
+            } else {
+                if ((s.walkable(row, col - 1) && !s.walkable(row - dr, col - 1)) ||
+                        (s.walkable(row, col + 1) && !s.walkable(row - dr, col + 1))) {
+                    return row * s.cols + col;
+                }
+                // Dikey harekette yatay jump point varsa burada durulmalı
+                if (jump4(s, row, col, 0, -1) != NONE || jump4(s, row, col, 0, 1) != NONE) {
+                    return row * s.cols + col;
+                }
+            }
+        }
+    }
+
+    /* ===================== JUMP (8-WAY) ===================== */
+
+    /**
+     * 8 yönlü modda (row, col)'dan (dr, dc) yönünde zıplar.
+     * Yatay/dikey alt-zıplamalar sadece bir seviye derinliktedir (stack taşmaz).
+     * @return Jump point indeksi (yoksa NONE)
+     */
+    private int jump8(Search s, int row, int col, int dr, int dc) {
+        while (true) {
+            row += dr;
+            col += dc;
+
+            if (!s.walkable(row, col)) {
+                return NONE;
+            }
+            if (s.isEnd(row, col)) {
+                return row * s.cols + col;
+            }
+
+            if (dr != 0 && dc != 0) {
+                // Diagonal: yatay veya dikey jump point varsa dur
+                if (jump8(s, row, col, 0, dc) != NONE || jump8(s, row, col, dr, 0) != NONE) {
+                    return row * s.cols + col;
+                }
+            } else if (dc != 0) {
+                if ((s.walkable(row - 1, col) && !s.walkable(row - 1, col - dc)) ||
+                        (s.walkable(row + 1, col) && !s.walkable(row + 1, col - dc))) {
+                    return row * s.cols + col;
+                }
+            } else {
+                if ((s.walkable(row, col - 1) && !s.walkable(row - dr, col - 1)) ||
+                        (s.walkable(row, col + 1) && !s.walkable(row - dr, col + 1))) {
+                    return row * s.cols + col;
+                }
+            }
+
+            // Bir sonraki adım (diagonal için köşe kesme kontrolü)
+            if (!s.walkable(row + dr, col) || !s.walkable(row, col + dc)) {
+                return NONE;
+            }
+        }
+    }
+
+    /* ===================== PATH EXPANSION ===================== */
+
+    /**
+     * Jump point listesini hücre hücre yola açar.
+     * Diagonal adımlar önce dikey, sonra yatay olmak üzere iki adıma bölünür.
+     */
+    private List<Position> expand(List<Position> jumpPoints) {
+        List<Position> positions = new ArrayList<>();
+        if (jumpPoints.isEmpty()) {
+            return positions;
+        }
+
+        Position first = jumpPoints.get(0);
+        int row = first.getRow();
+        int col = first.getCol();
+        positions.add(first);
+
+        for (int i = 1; i < jumpPoints.size(); i++) {
+            Position target = jumpPoints.get(i);
+            int dr = Integer.signum(target.getRow() - row);
+            int dc = Integer.signum(target.getCol() - col);
+
+            while (row != target.getRow() || col != target.getCol()) {
+                if (dr != 0 && dc != 0) {
+                    // Köşe kesme yasak olduğu için ara hücre walkable
+                    positions.add(new Position(row + dr, col));
+                }
+                row += dr;
+                col += dc;
+                positions.add(new Position(row, col));
+            }
+        }
+
+        return positions;
+    }
+
+    /* ===================== MULTI TARGET ===================== */
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    /* ===================== META ===================== */
+
+    public Movement getMovement() {
+        return movement;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return movement == Movement.FOUR_WAY
+                ? "Jump Point Search (JPS)"
+                : "Jump Point Search (JPS, 8-way)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return movement == Movement.FOUR_WAY;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V log V)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
@@ -0,0 +1,118 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.JunctionGraph;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Koridorları sıkıştırılmış junction graph üzerinde A*
+ *
+ * Derece-2 hücre zincirleri tek kenar olduğundan A* sadece kavşak ve
+ * çıkmaz sokakları genişletir; sonuç koridor hücreleriyle tam Path'e açılır
+ * (MazeCanvas ve PathUtils.isValidPath için hücre hücre geçerli yol).
+ *
+ * Graf Maze nesnesi ve versiyonu başına bir kez kurulur (O(V)); engel
+ * değişikliğinden sonraki ilk sorguda yeniden kurulur.
+ *
+ * Time Complexity: O(J log J + L) sorgu, J: junction sayısı
+ * Space Complexity: O(V)
+ */
+public class JunctionGraphPathFinder implements IPathFinder {
+
+    private JunctionGraph graph;
+    private Maze maze;
+
+    /**
+     * Labirent için güncel junction graph (gerekirse kurar)
+     */
+    public JunctionGraph getGraph(Maze maze) {
+        if (maze != this.maze || graph == null || !graph.isCurrent(maze)) {
+            graph = JunctionGraph.build(maze);
+            this.maze = maze;
+        }
+        return graph;
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        List<Position> positions = getGraph(maze).shortestPath(start, end);
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> steps = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return steps;
+        }
+
+        JunctionGraph junctions = getGraph(maze);
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.VISIT,
+                start,
+                List.of(start),
+                String.format("Junction graph: %d junctions, %d corridors",
+                        junctions.getNodeCount(), junctions.getEdgeCount())
+        ));
+
+        List<Position> expanded = new ArrayList<>();
+        List<Position> positions = junctions.shortestPath(start, end, expanded);
+
+        for (int i = 0; i < expanded.size(); i++) {
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.EXPLORE,
+                    expanded.get(i),
+                    new ArrayList<>(),
+                    String.format("Step %d: Expanding junction %s", i + 1, expanded.get(i))
+            ));
+        }
+
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                positions,
+                positions.isEmpty()
+                        ? "No path found!"
+                        : "Path found! Length: " + positions.size() + ", Junctions expanded: " + expanded.size()
+        ));
+        return steps;
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "A* (Junction Graph)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(J log J + L)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
@@ -0,0 +1,371 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IIncrementalPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Lifelong Planning A* (LPA*) - sabit start/end için tekrar tekrar çözüm
+ *
+ * İleri yönlü A*'ın incremental hali; g/rhs değerleri ve open heap
+ * findPath çağrıları arasında saklanır:
+ *  - rhs(s) = min(g(p) + 1), p walkable komşular (start'ta 0)
+ *  - Anahtar: [min(g, rhs) + h(s, end); min(g, rhs)] (k1 üst 32 bit, k2 alt 32 bit)
+ *
+ * Değişen hücreler, Maze versiyonu farklıysa walkable bitset'in son
+ * aramadaki kopyasıyla kelime kelime karşılaştırılarak bulunur (O(V / 64));
+ * böylece doğrudan Maze.addObstacle/removeObstacle ile yapılan, bildirilmeyen
+ * değişiklikler de aramayı sıfırlamaz. Sonrasında sadece inconsistent
+ * hücreler yeniden işlenir.
+ *
+ * Start, end veya Maze nesnesi değişirse sıfırdan başlar.
+ * Durum tuttuğu için thread-safe değildir.
+ *
+ * Time Complexity: İlk arama O(E log V), sonraki aramalar O(k log V + V / 64)
+ * Space Complexity: O(V)
+ */
+public class LPAStarPathFinder implements IIncrementalPathFinder {
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private Maze maze;
+    private int cols;
+    private int start = -1;
+    private int goal = -1;
+    private int goalRow;
+    private int goalCol;
+
+    private int[] g;
+    private int[] rhs;
+    private IndexedMinHeap open;
+    private long[] snapshot;       // son işlenen walkable bitset
+    private int snapshotVersion;
+    private final int[] neighbors = new int[4];
+    private final int[] predecessors = new int[4];
+
+    private int lastExpandedCount;
+    private List<AlgorithmStep> steps;  // null değilse genişletmeler kaydedilir
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        prepare(maze, maze.toIndex(start), maze.toIndex(end));
+        if (!maze.isWalkable(this.start) || !maze.isWalkable(goal)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        computeShortestPath();
+
+        List<Position> positions = extractPath();
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Değişen hücreler findPath'te walkable bitset farkından zaten bulunur
+     * (bildirilmeyen değişiklikler dahil); ayrıca tutulacak bir şey yoktur.
+     */
+    @Override
+    public void onCellsChanged(Maze maze, List<Position> changed) {
+        // Bitset farkı tüm değişiklikleri kapsar
+    }
+
+    @Override
+    public void reset() {
+        maze = null;
+        start = -1;
+        goal = -1;
+        g = null;
+        rhs = null;
+        open = null;
+        snapshot = null;
+    }
+
+    /**
+     * Bu labirent ve uç noktalar için saklanan bir arama durumu var mı?
+     */
+    public boolean hasStateFor(Maze maze, Position start, Position end) {
+        return maze != null && maze == this.maze && g != null
+                && start != null && end != null && maze.isValid(start) && maze.isValid(end)
+                && maze.toIndex(start) == this.start && maze.toIndex(end) == goal;
+    }
+
+    /**
+     * Son findPath'te heap'ten çıkarılan (genişletilen) hücre sayısı
+     */
+    public int getLastExpandedCount() {
+        return lastExpandedCount;
+    }
+
+    // ===================== LPA* =====================
+
+    private void prepare(Maze maze, int startIndex, int endIndex) {
+        if (maze != this.maze || startIndex != start || endIndex != goal
+                || g == null || g.length != maze.getCellCount()) {
+            initialize(maze, startIndex, endIndex);
+            return;
+        }
+
+        if (snapshotVersion == maze.getVersion()) {
+            return;
+        }
+
+        // Son aramadan beri walkable durumu değişen hücreler: bitset farkı
+        long[] current = maze.getWalkableBits();
+        for (int w = 0; w < current.length; w++) {
+            long diff = current[w] ^ snapshot[w];
+            while (diff != 0) {
+                cellChanged((w << 6) + Long.numberOfTrailingZeros(diff));
+                diff &= diff - 1;
+            }
+        }
+
+        System.arraycopy(current, 0, snapshot, 0, current.length);
+        snapshotVersion = maze.getVersion();
+    }
+
+    /**
+     * Hücre ve komşularının rhs değerlerini yeniden hesaplar
+     */
+    private void cellChanged(int cell) {
+        int rows = maze.getRows();
+        int row = cell / cols;
+        int col = cell - row * cols;
+        updateVertex(cell);
+        if (row > 0) updateVertex(cell - cols);
+        if (row < rows - 1) updateVertex(cell + cols);
+        if (col > 0) updateVertex(cell - 1);
+        if (col < cols - 1) updateVertex(cell + 1);
+    }
+
+    private void initialize(Maze maze, int startIndex, int endIndex) {
+        this.maze = maze;
+        this.cols = maze.getCols();
+        this.start = startIndex;
+        this.goal = endIndex;
+        this.goalRow = endIndex / cols;
+        this.goalCol = endIndex % cols;
+
+        int cellCount = maze.getCellCount();
+        if (g == null || g.length != cellCount) {
+            g = new int[cellCount];
+            rhs = new int[cellCount];
+            open = new IndexedMinHeap(cellCount, 4);
+        } else {
+            open.clear();
+        }
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+
+        long[] bits = maze.getWalkableBits();
+        snapshot = Arrays.copyOf(bits, bits.length);
+        snapshotVersion = maze.getVersion();
+
+        rhs[start] = 0;
+        open.insert(start, key(start));
+    }
+
+    private void computeShortestPath() {
+        lastExpandedCount = 0;
+
+        while (!open.isEmpty()
+                && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.poll();
+            lastExpandedCount++;
+            recordStep(u);
+
+            if (g[u] > rhs[u]) {
+                // Overconsistent: g kesinleşir, ardılların rhs'i iyileşebilir
+                g[u] = rhs[u];
+                int count = maze.getWalkableNeighbors(u, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int s = neighbors[i];
+                    if (s != start && g[u] + 1 < rhs[s]) {
+                        rhs[s] = g[u] + 1;
+                        updateQueue(s);
+                    }
+                }
+            } else {
+                // Underconsistent: g sonsuza çekilir, kendisi ve ardılları yeniden hesaplanır
+                int oldG = g[u];
+                g[u] = INF;
+                updateVertex(u);
+                int count = maze.getWalkableNeighbors(u, neighbors);
+                for (int i = 0; i < count; i++) {
+                    int s = neighbors[i];
+                    if (s != start && rhs[s] == oldG + 1) {
+                        updateVertex(s);
+                    }
+                }
+            }
+        }
+    }
+
+    private void updateVertex(int u) {
+        if (u != start) {
+            rhs[u] = maze.isWalkable(u) ? minPredecessor(u) : INF;
+        }
+        updateQueue(u);
+    }
+
+    private void updateQueue(int u) {
+        if (g[u] != rhs[u]) {
+            open.update(u, key(u));
+        } else {
+            open.remove(u);
+        }
+    }
+
+    private int minPredecessor(int u) {
+        int best = INF;
+        int count = maze.getWalkableNeighbors(u, predecessors);
+        for (int i = 0; i < count; i++) {
+            int gp = g[predecessors[i]];
+            if (gp != INF && gp + 1 < best) {
+                best = gp + 1;
+            }
+        }
+        return best;
+    }
+
+    private long key(int s) {
+        int m = Math.min(g[s], rhs[s]);
+        if (m == INF) {
+            return Long.MAX_VALUE;
+        }
+        int h = Math.abs(s / cols - goalRow) + Math.abs(s % cols - goalCol);
+        return ((long) (m + h) << 32) | m;
+    }
+
+    /**
+     * Hedeften g'si en küçük komşuya inerek yolu çıkarır (sonra ters çevrilir)
+     */
+    private List<Position> extractPath() {
+        List<Position> positions = new ArrayList<>();
+        if (g[goal] == INF) {
+            return positions;
+        }
+
+        int current = goal;
+        positions.add(maze.toPosition(current));
+        int limit = maze.getCellCount();
+
+        while (current != start) {
+            int next = -1;
+            int best = INF;
+            int count = maze.getWalkableNeighbors(current, neighbors);
+            for (int i = 0; i < count; i++) {
+                int gp = g[neighbors[i]];
+                if (gp < best) {
+                    best = gp;
+                    next = neighbors[i];
+                }
+            }
+
+            if (next < 0 || --limit < 0) {
+                return new ArrayList<>();
+            }
+            current = next;
+            positions.add(maze.toPosition(current));
+        }
+
+        Collections.reverse(positions);
+        return positions;
+    }
+
+    private void recordStep(int u) {
+        if (steps != null) {
+            Position pos = maze.toPosition(u);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.EXPLORE,
+                    pos,
+                    new ArrayList<>(),
+                    String.format("Step %d: Updating %s (g=%s, rhs=%s)",
+                            lastExpandedCount, pos, format(g[u]), format(rhs[u]))
+            ));
+        }
+    }
+
+    private static String format(int value) {
+        return value == INF ? "∞" : String.valueOf(value);
+    }
+
+    // ===================== IPathFinder =====================
+
+    /**
+     * Aynı durum üzerinde çalışır: bir değişiklikten sonra sadece yeniden işlenen hücreler adım olarak döner
+     */
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        recorded.add(new AlgorithmStep(
+                AlgorithmStep.StepType.VISIT,
+                start,
+                List.of(start),
+                "LPA* started at " + start
+        ));
+
+        steps = recorded;
+        Path path;
+        try {
+            path = findPath(maze, start, end);
+        } finally {
+            steps = null;
+        }
+
+        recorded.add(new AlgorithmStep(
+                AlgorithmStep.StepType.COMPLETE,
+                end,
+                path.getPositions(),
+                path.isEmpty()
+                        ? "No path found!"
+                        : "Path found! Length: " + path.getLength()
+                        + ", Updated: " + lastExpandedCount + " cells"
+        ));
+        return recorded;
+    }
+
+    /**
+     * Segmentler bu aramanın kendi findPath'iyle çözülür; uç noktalar her
+     * segmentte değiştiği için incremental durum segment başına yeniden kurulur
+     */
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Lifelong Planning A*";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(E log V) first, O(k log V) replan";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
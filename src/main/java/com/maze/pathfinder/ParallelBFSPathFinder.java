@@ -0,0 +1,281 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Level-synchronous paralel Breadth-First Search.
+ *
+ * Algoritma:
+ * 1. Frontier (mevcut seviye) parçalara bölünür
+ * 2. Her parça ForkJoinPool üzerinde ayrı bir task tarafından genişletilir
+ * 3. Komşu hücre, atomic visited bitset'inde CAS ile sahiplenilir;
+ *    sadece kazanan task parent yazar ve hücreyi kendi tamponuna ekler
+ * 4. Seviye bitince (barrier) tamponlar bir sonraki frontier'a birleştirilir
+ * 5. Hedef sahiplenilince arama durur
+ *
+ * Özellikler:
+ * - OPTIMAL: Seviyeler sırayla işlendiği için BFSPathFinder ile aynı uzunlukta yol
+ * - Hangi parent'ın seçileceği thread zamanlamasına bağlıdır (yol farklı olabilir,
+ *   uzunluk aynıdır)
+ * - Küçük seviyeler sıralı genişletilir; paralellik sadece geniş frontier'larda
+ *   devreye girer (çok büyük / açık labirentler)
+ *
+ * Time Complexity: O(V + E) iş, O(D) senkronizasyon (D = seviye sayısı)
+ * Space Complexity: O(V)
+ */
+public class ParallelBFSPathFinder implements IPathFinder {
+
+    /** Bu boyutun altındaki seviyeler tek thread'de genişletilir */
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /** Worker başına parça sayısı (dengesiz parçalar için work-stealing payı) */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final ForkJoinPool pool;
+
+    public ParallelBFSPathFinder() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Seviyeleri genişletecek pool
+     */
+    public ParallelBFSPathFinder(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    /**
+     * Tek bir aramanın paylaşılan durumu
+     */
+    private static final class Search {
+        final Maze maze;
+        final SearchContext ctx;
+        final int[] queue;
+        final AtomicLongArray visited;
+        final int[][] buffers;  // parça başına sonraki-frontier tamponu (seviyeler arası yeniden kullanılır)
+        final int[] counts;
+
+        Search(Maze maze, SearchContext ctx, int chunkCount) {
+            this.maze = maze;
+            this.ctx = ctx;
+            this.queue = ctx.getQueue();
+            this.visited = new AtomicLongArray((maze.getCellCount() + 63) >>> 6);
+            this.buffers = new int[chunkCount][];
+            this.counts = new int[chunkCount];
+        }
+
+        /**
+         * Hücreyi visited olarak işaretler
+         * @return Bu çağrı işaretlediyse true (başka thread önce davrandıysa false)
+         */
+        boolean claim(int index) {
+            int word = index >>> 6;
+            long mask = 1L << index;
+            long old = visited.get(word);
+            while ((old & mask) == 0) {
+                if (visited.compareAndSet(word, old, old | mask)) {
+                    return true;
+                }
+                old = visited.get(word);
+            }
+            return false;
+        }
+
+        boolean isClaimed(int index) {
+            return (visited.get(index >>> 6) & (1L << index)) != 0;
+        }
+
+        /**
+         * queue[from, to) aralığını genişletir, keşfedilenleri out'a yazar
+         * @return out'a yazılan hücre sayısı
+         */
+        int expand(int from, int to, int[] out, int outStart) {
+            int[] neighbors = new int[4];
+            int count = outStart;
+
+            for (int i = from; i < to; i++) {
+                int current = queue[i];
+                int n = maze.getWalkableNeighbors(current, neighbors);
+                for (int k = 0; k < n; k++) {
+                    int neighbor = neighbors[k];
+                    if (claim(neighbor)) {
+                        ctx.setParent(neighbor, current);
+                        out[count++] = neighbor;
+                    }
+                }
+            }
+
+            return count - outStart;
+        }
+    }
+
+    /**
+     * Frontier'ın bir parçasını genişleten task
+     */
+    private static final class ExpandChunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final int chunk;
+        private final int from;
+        private final int to;
+
+        ExpandChunk(Search search, int chunk, int from, int to) {
+            this.search = search;
+            this.chunk = chunk;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            // Her frontier hücresi en fazla 4 yeni hücre keşfeder
+            int capacity = (to - from) * 4;
+            int[] buffer = search.buffers[chunk];
+            if (buffer == null || buffer.length < capacity) {
+                buffer = new int[capacity];
+                search.buffers[chunk] = buffer;
+            }
+            search.counts[chunk] = search.expand(from, to, buffer, 0);
+        }
+    }
+
+    /**
+     * Bir seviyenin tüm parçalarını fork edip hepsinin bitmesini bekler (barrier)
+     */
+    private static final class ExpandLevel extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ExpandChunk[] chunks;
+
+        ExpandLevel(ExpandChunk[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(chunks);
+        }
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+
+        try (SearchContext ctx = SearchContext.acquire(maze)) {
+            int chunkCount = Math.max(1, pool.getParallelism() * CHUNKS_PER_WORKER);
+            Search search = new Search(maze, ctx, chunkCount);
+            int[] queue = search.queue;
+
+            // queue[levelStart, levelEnd) = mevcut seviye, sonraki seviye arkasına eklenir
+            int levelStart = 0;
+            int levelEnd = 0;
+            queue[levelEnd++] = startIndex;
+            search.claim(startIndex);
+
+            boolean found = startIndex == endIndex;
+
+            while (!found && levelStart < levelEnd) {
+                int levelSize = levelEnd - levelStart;
+                int tail = levelEnd;
+
+                if (levelSize < SEQUENTIAL_THRESHOLD) {
+                    tail += search.expand(levelStart, levelEnd, queue, tail);
+                } else {
+                    tail = expandParallel(search, levelStart, levelEnd, chunkCount);
+                }
+
+                levelStart = levelEnd;
+                levelEnd = tail;
+                found = search.isClaimed(endIndex);
+            }
+
+            long endTime = System.currentTimeMillis();
+
+            // Yol bulunamadı
+            if (!found) {
+                return new Path(new ArrayList<>(), 0, endTime - startTime);
+            }
+
+            return new Path(ctx.reconstructPositions(endIndex));
+        }
+    }
+
+    /**
+     * Seviyeyi parçalara bölüp pool'da genişletir, tamponları kuyruğa ekler
+     * @return Yeni kuyruk sonu
+     */
+    private int expandParallel(Search search, int levelStart, int levelEnd, int chunkCount) {
+        int levelSize = levelEnd - levelStart;
+        int taskCount = Math.min(chunkCount, levelSize);
+        ExpandChunk[] chunks = new ExpandChunk[taskCount];
+
+        for (int t = 0; t < taskCount; t++) {
+            int from = levelStart + (int) ((long) levelSize * t / taskCount);
+            int to = levelStart + (int) ((long) levelSize * (t + 1) / taskCount);
+            chunks[t] = new ExpandChunk(search, t, from, to);
+        }
+
+        // invoke() tamamlanınca task'ların yazdıkları bu thread'e görünür
+        pool.invoke(new ExpandLevel(chunks));
+
+        int tail = levelEnd;
+        for (int t = 0; t < taskCount; t++) {
+            int count = search.counts[t];
+            System.arraycopy(search.buffers[t], 0, search.queue, tail, count);
+            tail += count;
+        }
+        return tail;
+    }
+
+    /**
+     * Adım kaydı doğası gereği sıralıdır ve sadece küçük labirentlerde
+     * anlamlıdır; bu yüzden sıralı BFS'in adımları döndürülür.
+     */
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        return new BFSPathFinder().findPathWithSteps(maze, start, end);
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        // BFSPathFinder gibi maliyet pozisyon sayısıdır (segment maliyetleri toplanmaz)
+        return new Path(PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to)).getPositions());
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Parallel BFS (level-synchronous)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V + E)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
@@ -0,0 +1,182 @@
+package com.maze.pathfinder;
+
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+
+import java.util.*;
+
+/**
+ * Arama başına geçici durum (scratch state).
+ *
+ * g-cost, parent ve visited bilgisi Cell nesneleri yerine hücre indeksi
+ * (row * cols + col) ile adreslenen primitive dizilerde tutulur.
+ * Böylece aynı Maze üzerinde birden fazla arama (farklı thread'lerde de)
+ * birbirini bozmadan çalışabilir ve Maze salt-okunur kalır.
+ *
+ * Sıfırlama O(1): her acquire() bir epoch (nesil) sayacını artırır.
+ * Bir hücrenin g-cost/parent değeri ancak damgası (stamp) güncel epoch'a
+ * eşitse geçerlidir; visited bilgisi de aynı şekilde damgalanır. Böylece
+ * arama sadece dokunduğu hücreler kadar iş yapar, grid taranmaz.
+ *
+ * Context'ler thread başına havuzlanır:
+ * <pre>
+ * try (SearchContext ctx = SearchContext.acquire(maze)) {
+ *     ...
+ * }
+ * </pre>
+ */
+public final class SearchContext implements AutoCloseable {
+
+    public static final int INFINITY = Integer.MAX_VALUE;
+    public static final int NO_PARENT = -1;
+
+    // Open set heap'i için çocuk sayısı (4-ary: daha sığ ağaç, daha az cache miss)
+    private static final int HEAP_ARITY = 4;
+
+    // Thread başına boşta bekleyen context'ler (iç içe aramalar için yığın)
+    private static final ThreadLocal<ArrayDeque<SearchContext>> POOL =
+            ThreadLocal.withInitial(ArrayDeque::new);
+
+    private int size;
+    private int cols;
+    private int epoch;
+    private int[] gCost;
+    private int[] parent;
+    private int[] valueStamp;  // gCost/parent geçerli mi? (== epoch)
+    private int[] visitStamp;  // visited mı? (== epoch)
+    private int[] queue;       // BFS kuyruğu / DFS yığını için tampon
+    private IndexedMinHeap openHeap;  // ilk kullanımda oluşturulur
+    private boolean inUse;
+
+    private SearchContext() {
+        this.gCost = new int[0];
+        this.parent = new int[0];
+        this.valueStamp = new int[0];
+        this.visitStamp = new int[0];
+        this.queue = new int[0];
+    }
+
+    /**
+     * Bu thread'in havuzundan labirente uygun, sıfırlanmış bir context alır
+     * @param maze Labirent
+     * @return Kullanıma hazır context
+     */
+    public static SearchContext acquire(Maze maze) {
+        SearchContext ctx = POOL.get().poll();
+        if (ctx == null) {
+            ctx = new SearchContext();
+        }
+        ctx.prepare(maze.getCellCount(), maze.getCols());
+        ctx.inUse = true;
+        return ctx;
+    }
+
+    /**
+     * Context'i bu thread'in havuzuna geri verir
+     */
+    @Override
+    public void close() {
+        if (inUse) {
+            inUse = false;
+            if (openHeap != null) {
+                openHeap.clear();
+            }
+            POOL.get().push(this);
+        }
+    }
+
+    private void prepare(int size, int cols) {
+        this.size = size;
+        this.cols = cols;
+
+        if (gCost.length < size) {
+            // Yeni diziler sıfır damgalı, epoch 1'den başlar
+            gCost = new int[size];
+            parent = new int[size];
+            valueStamp = new int[size];
+            visitStamp = new int[size];
+            queue = new int[size];
+            epoch = 0;
+        }
+
+        // Taşma durumunda (2^31 aramada bir) damgaları gerçekten temizle
+        if (epoch == Integer.MAX_VALUE) {
+            Arrays.fill(valueStamp, 0);
+            Arrays.fill(visitStamp, 0);
+            epoch = 0;
+        }
+        epoch++;
+    }
+
+    /**
+     * Hücrenin değerleri bu epoch'ta ilk kez kullanılıyorsa varsayılana çeker
+     */
+    private void touch(int index) {
+        if (valueStamp[index] != epoch) {
+            valueStamp[index] = epoch;
+            gCost[index] = INFINITY;
+            parent[index] = NO_PARENT;
+        }
+    }
+
+    public int getGCost(int index) {
+        return valueStamp[index] == epoch ? gCost[index] : INFINITY;
+    }
+
+    public void setGCost(int index, int cost) {
+        touch(index);
+        gCost[index] = cost;
+    }
+
+    public int getParent(int index) {
+        return valueStamp[index] == epoch ? parent[index] : NO_PARENT;
+    }
+
+    public void setParent(int index, int parentIndex) {
+        touch(index);
+        parent[index] = parentIndex;
+    }
+
+    public boolean isVisited(int index) {
+        return visitStamp[index] == epoch;
+    }
+
+    public void markVisited(int index) {
+        visitStamp[index] = epoch;
+    }
+
+    /**
+     * Kuyruk/yığın olarak kullanılacak, en az size() elemanlı tampon.
+     * İçeriği sıfırlanmaz; her hücre en fazla bir kez eklenirse taşmaz.
+     */
+    public int[] getQueue() { return queue; }
+
+    /**
+     * Hücre indeksleriyle adreslenen open set heap'i.
+     * close() sırasında boşaltılır; bu yüzden her acquire() boş heap verir.
+     */
+    public IndexedMinHeap getOpenHeap() {
+        if (openHeap == null) {
+            openHeap = new IndexedMinHeap(gCost.length, HEAP_ARITY);
+        } else {
+            openHeap.ensureCapacity(gCost.length);
+        }
+        return openHeap;
+    }
+
+    public int size() { return size; }
+
+    /**
+     * Parent zincirini takip ederek start -> index pozisyon listesini üretir
+     * @param index Son hücre indeksi
+     * @return Pozisyon listesi (baştan sona)
+     */
+    public List<Position> reconstructPositions(int index) {
+        List<Position> positions = new ArrayList<>();
+        for (int current = index; current != NO_PARENT; current = getParent(current)) {
+            positions.add(new Position(current / cols, current % cols));
+        }
+        Collections.reverse(positions);
+        return positions;
+    }
+}
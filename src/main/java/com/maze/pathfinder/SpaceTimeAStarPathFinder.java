@@ -0,0 +1,305 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.DistanceField;
+import com.maze.util.LongIntHashMap;
+import com.maze.util.ObstacleSchedule;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Hareketli (devriye gezen) engellere karşı space-time A*
+ *
+ * Durum (hücre, tick); hamleler 4 komşu + bekleme, her biri 1 tick.
+ * Bir hamle ObstacleSchedule'a göre hedef hücre bir sonraki tick'te doluysa
+ * veya bir engelle yer değiştirme (swap) oluyorsa yasaktır. Sonuç hedefe
+ * en erken varış yoludur; Path zaman indekslidir (bekleme = pozisyon tekrarı).
+ *
+ * Budama: engel tablosu period tick'te bir tekrarlandığından (hücre, t) ve
+ * (hücre, t + period) aynı geleceğe sahiptir; g = geçen tick olduğundan
+ * sonra gelen zaten domine edilmiştir. Tekrar tespiti bu yüzden
+ * LongIntHashMap'te (tick mod period, hücre) anahtarıyla yapılır ve durum
+ * uzayı V * period ile sınırlı kalır (hedefe hiç ulaşılamıyorsa da biter).
+ *
+ * Heuristic: hedefe DistanceField mesafesi (engelleri yok sayan gerçek
+ * labirent mesafesi, consistent). f değerleri tam sayı ve küçük adımlarla
+ * arttığından open set bucket queue'dur (f başına LIFO yığın, O(1) işlem).
+ *
+ * Time Complexity: O(V * P) en kötü durum (P: period), pratikte hedef yönünde dar bir tüp
+ * Space Complexity: O(V * P) en kötü durum
+ */
+public class SpaceTimeAStarPathFinder implements IPathFinder {
+
+    private final ObstacleSchedule schedule;
+
+    private DistanceField field;
+    private Maze fieldMaze;
+
+    // Durum düğümleri (arama başına sıfırlanır, kapasite korunur)
+    private final LongIntHashMap seen = new LongIntHashMap();
+    private int[] nodeCell = new int[1024];
+    private int[] nodeG = new int[1024];
+    private int[] nodeParent = new int[1024];
+    private boolean[] nodeClosed = new boolean[1024];
+    private int nodeCount;
+
+    // Bucket queue: buckets[f - baseF]
+    private int[][] buckets = new int[64][];
+    private int[] bucketSize = new int[64];
+    private int baseF;
+
+    private final int[] neighbors = new int[4];
+    private List<AlgorithmStep> steps;   // null: adım kaydı yok
+    private int expanded;
+
+    /**
+     * @param schedule Hareketli engel tablosu
+     */
+    public SpaceTimeAStarPathFinder(ObstacleSchedule schedule) {
+        this.schedule = Objects.requireNonNull(schedule, "schedule");
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        return findPath(maze, start, end, 0);
+    }
+
+    /**
+     * @param startTick Ajanın start'ta bulunduğu tick (engel fazı)
+     */
+    public Path findPath(Maze maze, Position start, Position end, int startTick) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+        if (!schedule.fits(maze)) {
+            throw new IllegalArgumentException("Schedule was built for a different maze size");
+        }
+
+        List<Position> positions = search(maze, maze.toIndex(start), maze.toIndex(end), startTick);
+        int cost = positions.isEmpty() ? 0 : positions.size() - 1;
+        return new Path(positions, cost, System.currentTimeMillis() - startTime);
+    }
+
+    private List<Position> search(Maze maze, int start, int goal, int startTick) {
+        List<Position> positions = new ArrayList<>();
+        if (!maze.isWalkable(start) || !maze.isWalkable(goal)
+                || schedule.isOccupied(start, startTick)) {
+            return positions;
+        }
+
+        DistanceField h = fieldFor(maze, goal);
+        int h0 = h.distance(start);
+        if (h0 == DistanceField.UNREACHABLE) {
+            return positions;
+        }
+
+        int period = schedule.getPeriod();
+        seen.clear();
+        nodeCount = 0;
+        expanded = 0;
+        clearBuckets();
+        baseF = h0;
+
+        int root = addNode(start, 0, -1);
+        seen.put(key(start, startTick % period), root);
+        push(root, h0);
+
+        for (int f = h0; f - baseF < bucketSize.length; f++) {
+            int slot = f - baseF;
+            while (bucketSize[slot] > 0) {
+                int node = buckets[slot][--bucketSize[slot]];
+                int cell = nodeCell[node];
+                int g = nodeG[node];
+                if (nodeClosed[node] || g + h.distance(cell) != f) {
+                    continue;  // eski (daha kötü g'li) kopya
+                }
+                nodeClosed[node] = true;
+                expanded++;
+                recordExpansion(maze, cell, g, f);
+
+                if (cell == goal) {
+                    int length = g + 1;
+                    Position[] path = new Position[length];
+                    for (int x = node; x >= 0; x = nodeParent[x]) {
+                        path[nodeG[x]] = maze.toPosition(nodeCell[x]);
+                    }
+                    positions.addAll(Arrays.asList(path));
+                    return positions;
+                }
+
+                int tick = startTick + g;
+                int nextPhase = (tick + 1) % period;
+                int found = maze.getWalkableNeighbors(cell, neighbors);
+                for (int i = -1; i < found; i++) {
+                    int next = i < 0 ? cell : neighbors[i];
+                    if (schedule.blocksMove(cell, next, tick)) {
+                        continue;
+                    }
+
+                    long stateKey = key(next, nextPhase);
+                    int existing = seen.get(stateKey, -1);
+                    if (existing >= 0 && (nodeClosed[existing] || nodeG[existing] <= g + 1)) {
+                        continue;
+                    }
+
+                    int child;
+                    if (existing >= 0) {
+                        child = existing;
+                        nodeG[child] = g + 1;
+                        nodeParent[child] = node;
+                    } else {
+                        child = addNode(next, g + 1, node);
+                        seen.put(stateKey, child);
+                    }
+                    push(child, g + 1 + h.distance(next));
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static long key(int cell, int phase) {
+        return ((long) phase << 32) | cell;
+    }
+
+    private int addNode(int cell, int g, int parent) {
+        if (nodeCount == nodeCell.length) {
+            int capacity = nodeCount * 2;
+            nodeCell = Arrays.copyOf(nodeCell, capacity);
+            nodeG = Arrays.copyOf(nodeG, capacity);
+            nodeParent = Arrays.copyOf(nodeParent, capacity);
+            nodeClosed = Arrays.copyOf(nodeClosed, capacity);
+        }
+        int id = nodeCount++;
+        nodeCell[id] = cell;
+        nodeG[id] = g;
+        nodeParent[id] = parent;
+        nodeClosed[id] = false;
+        return id;
+    }
+
+    private void push(int node, int f) {
+        int slot = f - baseF;
+        if (slot >= bucketSize.length) {
+            int capacity = Math.max(slot + 1, bucketSize.length * 2);
+            buckets = Arrays.copyOf(buckets, capacity);
+            bucketSize = Arrays.copyOf(bucketSize, capacity);
+        }
+        int[] bucket = buckets[slot];
+        if (bucket == null) {
+            bucket = buckets[slot] = new int[16];
+        } else if (bucketSize[slot] == bucket.length) {
+            bucket = buckets[slot] = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[bucketSize[slot]++] = node;
+    }
+
+    private void clearBuckets() {
+        Arrays.fill(bucketSize, 0);
+    }
+
+    private void recordExpansion(Maze maze, int cell, int g, int f) {
+        if (steps == null) {
+            return;
+        }
+        Position pos = maze.toPosition(cell);
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.EXPLORE,
+                pos,
+                new ArrayList<>(),
+                String.format("Step %d: Exploring %s at tick +%d (f=%d)",
+                        expanded, pos, g, f)
+        ));
+    }
+
+    /**
+     * Hedef için heuristic alanı (aynı hedefte engel değişikliklerinden sonra artımlı güncellenir)
+     */
+    private DistanceField fieldFor(Maze maze, int goal) {
+        Position target = maze.toPosition(goal);
+        if (field == null || maze != fieldMaze || !field.getGoal().equals(target)) {
+            field = DistanceField.compute(maze, target);
+            fieldMaze = maze;
+        } else {
+            field.update(maze);
+        }
+        return field;
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        steps = recorded;
+        try {
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    "Space-time A* started at " + start + " (" + schedule.getRouteCount()
+                            + " patrols, period " + schedule.getPeriod() + ")"
+            ));
+
+            Path path = findPath(maze, start, end);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.COMPLETE,
+                    end,
+                    path.getPositions(),
+                    path.isEmpty()
+                            ? "No path found!"
+                            : "Path found! Arrival tick: " + (int) path.getCost()
+                            + ", States expanded: " + expanded
+            ));
+            return recorded;
+        } finally {
+            steps = null;
+        }
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        // Saat segmentler arasında devam eder: segment o ana kadarki adım sayısında başlar
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to, elapsed));
+    }
+
+    /**
+     * Son aramada genişletilen (hücre, tick) durum sayısı
+     */
+    public int getExpandedStates() {
+        return expanded;
+    }
+
+    public ObstacleSchedule getSchedule() {
+        return schedule;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return "Space-Time A* (Moving Obstacles)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V * P)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V * P)";
+    }
+}
@@ -0,0 +1,346 @@
+package com.maze.pathfinder;
+
+import com.maze.core.IPathFinder;
+import com.maze.model.*;
+import com.maze.util.IndexedMinHeap;
+import com.maze.util.LineOfSight;
+import com.maze.util.PathUtils;
+
+import java.util.*;
+
+/**
+ * Theta* / Lazy Theta* - 8-yönlü grid üzerinde any-angle yol bulma
+ *
+ * A* gibi getNeighbors8 komşuluğunda (köşe kesme yok) arar, fakat bir hücrenin
+ * ebeveyni komşu olmak zorunda değildir: ebeveynin ebeveyninden görüş hattı
+ * varsa hücre doğrudan ona bağlanır. Sonuç yol sadece dönüş noktalarından
+ * (waypoint) oluşur; ardışık waypoint'ler arasındaki doğru parçası walkable
+ * hücrelerden geçer. Grid yolundaki zig-zag'ler ve düz koridor hücreleri
+ * kaybolduğundan yol çok daha az pozisyon içerir.
+ *
+ * Varyantlar:
+ * - THETA: her komşu güncellemesinde görüş hattı kontrolü (Nash ve ark. 2007)
+ * - LAZY_THETA: görüş hattı varsayılır, hücre open set'ten çıkınca bir kez
+ *   doğrulanır; yanlışsa en iyi kapalı komşuya bağlanır (Nash ve ark. 2010).
+ *   Çok daha az kontrol yapar, yol kalitesi neredeyse aynıdır.
+ *
+ * Görüş hattı LineOfSight ile paketli walkable bitset üzerinden ve cache'li
+ * kontrol edilir; nesne Maze versiyonu başına bir kez oluşturulur.
+ *
+ * Maliyet: Öklid mesafesi (Path.getCost()). Heuristic: Öklid (admissible).
+ * Any-angle en kısa yol garantisi yoktur (gerçek optimumun birkaç % üstü olabilir).
+ *
+ * Time Complexity: O(V log V) + görüş hattı kontrolleri
+ * Space Complexity: O(V)
+ */
+public class ThetaStarPathFinder implements IPathFinder {
+
+    public enum Variant {
+        THETA,
+        LAZY_THETA
+    }
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    private static final int NONE = -1;
+
+    // getNeighbors8 sırası: 4 yön, sonra diagonal
+    private static final int[] DR = {-1, 1, 0, 0, -1, -1, 1, 1};
+    private static final int[] DC = {0, 0, -1, 1, -1, 1, -1, 1};
+
+    private final Variant variant;
+
+    private LineOfSight lineOfSight;
+
+    // Arama durumu (damga eşitliği = bu aramada geçerli)
+    private double[] g = new double[0];
+    private int[] parent = new int[0];
+    private int[] seenStamp = new int[0];
+    private int[] closedStamp = new int[0];
+    private int stamp;
+    private final IndexedMinHeap openSet = new IndexedMinHeap(0);
+
+    private List<AlgorithmStep> steps;   // null: adım kaydı yok
+    private int expanded;
+
+    public ThetaStarPathFinder() {
+        this(Variant.LAZY_THETA);
+    }
+
+    public ThetaStarPathFinder(Variant variant) {
+        this.variant = Objects.requireNonNull(variant, "variant");
+    }
+
+    /**
+     * Labirentin mevcut hali için görüş hattı cache'i
+     */
+    public synchronized LineOfSight getLineOfSight(Maze maze) {
+        if (lineOfSight == null || !lineOfSight.isCurrent(maze)) {
+            lineOfSight = new LineOfSight(maze);
+        }
+        return lineOfSight;
+    }
+
+    private static double distance(int from, int to, int cols) {
+        int dr = from / cols - to / cols;
+        int dc = from % cols - to % cols;
+        return Math.sqrt((double) dr * dr + (double) dc * dc);
+    }
+
+    /**
+     * f >= 0 olduğundan double bit deseni long olarak aynı sırayı verir
+     */
+    private static long priority(double f) {
+        return Double.doubleToLongBits(f);
+    }
+
+    private void prepare(int cellCount) {
+        if (g.length < cellCount) {
+            g = new double[cellCount];
+            parent = new int[cellCount];
+            seenStamp = new int[cellCount];
+            closedStamp = new int[cellCount];
+            openSet.ensureCapacity(cellCount);
+            stamp = 0;
+        }
+        openSet.clear();
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(seenStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            stamp = 1;
+        }
+    }
+
+    @Override
+    public Path findPath(Maze maze, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return new Path(new ArrayList<>());
+        }
+
+        int startIndex = maze.toIndex(start);
+        int endIndex = maze.toIndex(end);
+        expanded = 0;
+
+        if (!maze.isWalkable(startIndex) || !maze.isWalkable(endIndex)) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        prepare(maze.getCellCount());
+        if (!search(maze, startIndex, endIndex, getLineOfSight(maze))) {
+            return new Path(new ArrayList<>(), 0, System.currentTimeMillis() - startTime);
+        }
+
+        List<Position> waypoints = new ArrayList<>();
+        for (int cell = endIndex; ; cell = parent[cell]) {
+            waypoints.add(maze.toPosition(cell));
+            if (cell == startIndex) {
+                break;
+            }
+        }
+        Collections.reverse(waypoints);
+        return new Path(waypoints, g[endIndex], System.currentTimeMillis() - startTime);
+    }
+
+    private boolean search(Maze maze, int start, int goal, LineOfSight los) {
+        int cols = maze.getCols();
+
+        g[start] = 0;
+        parent[start] = start;
+        seenStamp[start] = stamp;
+        openSet.insert(start, priority(distance(start, goal, cols)));
+
+        while (!openSet.isEmpty()) {
+            int current = openSet.poll();
+
+            if (variant == Variant.LAZY_THETA) {
+                setVertex(maze, current, los);
+            }
+
+            expanded++;
+            recordExpansion(maze, current);
+
+            if (current == goal) {
+                return true;
+            }
+            closedStamp[current] = stamp;
+
+            int row = current / cols;
+            int col = current % cols;
+            for (int d = 0; d < DR.length; d++) {
+                int next = neighbor(maze, row, col, d);
+                if (next == NONE || closedStamp[next] == stamp) {
+                    continue;
+                }
+                if (seenStamp[next] != stamp) {
+                    seenStamp[next] = stamp;
+                    g[next] = Double.POSITIVE_INFINITY;
+                    parent[next] = NONE;
+                }
+                updateVertex(current, next, d >= 4 ? SQRT2 : 1.0, goal, cols, los);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Köşe kesmeden d yönündeki walkable komşu (yoksa NONE)
+     */
+    private int neighbor(Maze maze, int row, int col, int d) {
+        int r = row + DR[d];
+        int c = col + DC[d];
+        if (!maze.isWalkable(r, c)) {
+            return NONE;
+        }
+        if (d >= 4 && (!maze.isWalkable(row, c) || !maze.isWalkable(r, col))) {
+            return NONE;
+        }
+        return r * maze.getCols() + c;
+    }
+
+    /**
+     * Hücreye current üzerinden veya (görüş hattı varsa / lazy ise) current'ın
+     * ebeveyninden doğrudan bağlanmayı dener
+     */
+    private void updateVertex(int current, int next, double stepCost, int goal, int cols, LineOfSight los) {
+        int grandParent = parent[current];
+        double candidate;
+        int candidateParent;
+
+        if (variant == Variant.LAZY_THETA || los.visible(grandParent, next)) {
+            candidateParent = grandParent;
+            candidate = g[grandParent] + distance(grandParent, next, cols);
+        } else {
+            candidateParent = current;
+            candidate = g[current] + stepCost;
+        }
+
+        if (candidate < g[next]) {
+            g[next] = candidate;
+            parent[next] = candidateParent;
+            openSet.update(next, priority(candidate + distance(next, goal, cols)));
+        }
+    }
+
+    /**
+     * Lazy Theta*: varsayılan ebeveyne görüş hattı yoksa en ucuz kapalı komşuya bağla
+     */
+    private void setVertex(Maze maze, int cell, LineOfSight los) {
+        int p = parent[cell];
+        if (p == cell || los.visible(p, cell)) {
+            return;
+        }
+
+        int cols = maze.getCols();
+        int row = cell / cols;
+        int col = cell % cols;
+        double best = Double.POSITIVE_INFINITY;
+        int bestParent = NONE;
+
+        for (int d = 0; d < DR.length; d++) {
+            int next = neighbor(maze, row, col, d);
+            if (next == NONE || closedStamp[next] != stamp) {
+                continue;
+            }
+            double cost = g[next] + (d >= 4 ? SQRT2 : 1.0);
+            if (cost < best) {
+                best = cost;
+                bestParent = next;
+            }
+        }
+
+        // Hücreyi open'a koyan kapalı komşu her zaman vardır
+        g[cell] = best;
+        parent[cell] = bestParent;
+    }
+
+    private void recordExpansion(Maze maze, int cell) {
+        if (steps == null) {
+            return;
+        }
+        Position pos = maze.toPosition(cell);
+        steps.add(new AlgorithmStep(
+                AlgorithmStep.StepType.EXPLORE,
+                pos,
+                new ArrayList<>(),
+                String.format("Step %d: Exploring %s (g=%.2f, parent=%s)",
+                        expanded, pos, g[cell], maze.toPosition(parent[cell]))
+        ));
+    }
+
+    @Override
+    public List<AlgorithmStep> findPathWithSteps(Maze maze, Position start, Position end) {
+        List<AlgorithmStep> recorded = new ArrayList<>();
+        if (maze == null || start == null || end == null
+                || !maze.isValid(start) || !maze.isValid(end)) {
+            return recorded;
+        }
+
+        steps = recorded;
+        try {
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.VISIT,
+                    start,
+                    List.of(start),
+                    getAlgorithmName() + " started at " + start
+            ));
+
+            Path path = findPath(maze, start, end);
+            steps.add(new AlgorithmStep(
+                    AlgorithmStep.StepType.COMPLETE,
+                    end,
+                    path.getPositions(),
+                    path.isEmpty()
+                            ? "No path found!"
+                            : String.format("Path found! Waypoints: %d, Cost: %.2f",
+                            path.getLength(), path.getCost())
+            ));
+            return recorded;
+        } finally {
+            steps = null;
+        }
+    }
+
+    @Override
+    public Path findPathMultiTarget(Maze maze, Position start, List<Position> targets) {
+        return PathUtils.greedyMultiTarget(maze, start, targets,
+                (from, to, elapsed) -> findPath(maze, from, to));
+    }
+
+    /**
+     * Son aramada open set'ten çıkarılan hücre sayısı
+     */
+    public int getExpandedNodes() {
+        return expanded;
+    }
+
+    public Variant getVariant() {
+        return variant;
+    }
+
+    @Override
+    public String getAlgorithmName() {
+        return variant == Variant.THETA ? "Theta* (Any-Angle)" : "Lazy Theta* (Any-Angle)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return false;
+    }
+
+    @Override
+    public boolean returnsWaypoints() {
+        return true;
+    }
+
+    @Override
+    public String getTimeComplexity() {
+        return "O(V log V)";
+    }
+
+    @Override
+    public String getSpaceComplexity() {
+        return "O(V)";
+    }
+}
@@ -2,7 +2,12 @@ package com.maze.service;
 
 import com.maze.core.*;
 import com.maze.model.*;
+import com.maze.pathfinder.ARAStarPathFinder;
+import com.maze.pathfinder.CooperativePathPlanner;
+import com.maze.util.DistanceField;
+import com.maze.util.TreePathOracle;
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * Ana oyun motoru - Facade Pattern.
@@ -19,21 +24,59 @@ public class GameEngine {
     private final IMazeGenerator mazeGenerator;
     private final IPathFinder pathFinder;
     private final IObstacleManager obstacleManager;
+    private final IIncrementalPathFinder replanner;  // null ise kullanılmaz
+    private final CooperativePathPlanner cooperativePlanner = new CooperativePathPlanner();
+    private final ARAStarPathFinder anytimeFinder = new ARAStarPathFinder();
 
     private GameState gameState;
     private Maze currentMaze;
     private Path currentPath;
     private List<IVisualizationListener> listeners;
 
+    // Son çözülen uç noktalar ve sonrasında engel düzenlemesi yapılıp yapılmadığı
+    private Position lastStart;
+    private Position lastEnd;
+    private boolean editedSinceSolve;
+
+    // Labirent hâlâ ağaçken kullanılan LCA oracle'ı (treeVersion için null ise döngü var)
+    private Maze treeMaze;
+    private int treeVersion;
+    private TreePathOracle treeOracle;
+
+    // Hedef başına mesafe/akış alanları (en son kullanılan MAX_DISTANCE_FIELDS tanesi)
+    private static final int MAX_DISTANCE_FIELDS = 4;
+    private Maze fieldMaze;
+    private final Map<Position, DistanceField> distanceFields =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Position, DistanceField> eldest) {
+                    return size() > MAX_DISTANCE_FIELDS;
+                }
+            };
+
     /**
      * Constructor Injection (DI)
      */
     public GameEngine(IMazeGenerator mazeGenerator,
                       IPathFinder pathFinder,
                       IObstacleManager obstacleManager) {
+        this(mazeGenerator, pathFinder, obstacleManager, null);
+    }
+
+    /**
+     * Constructor Injection (DI)
+     * @param replanner Aynı start/end düzenleme sonrası tekrar çözülürken kullanılan
+     *                  incremental path finder (pathFinder ile aynı uzunlukta yol
+     *                  bulmalıdır; null ise her zaman pathFinder kullanılır)
+     */
+    public GameEngine(IMazeGenerator mazeGenerator,
+                      IPathFinder pathFinder,
+                      IObstacleManager obstacleManager,
+                      IIncrementalPathFinder replanner) {
         this.mazeGenerator = mazeGenerator;
         this.pathFinder = pathFinder;
         this.obstacleManager = obstacleManager;
+        this.replanner = replanner;
         this.gameState = new GameState();
         this.listeners = new ArrayList<>();
     }
@@ -50,6 +93,8 @@ public class GameEngine {
         try {
             currentMaze = mazeGenerator.generate(rows, cols);
             currentPath = null;
+            lastStart = null;
+            lastEnd = null;
             gameState.setCurrentPath(null);
             gameState.setMaze(currentMaze);
             gameState.setCurrentState(GameState.State.GENERATED);
@@ -89,13 +134,63 @@ public class GameEngine {
             throw new IllegalStateException("No maze generated");
         }
 
+        // Waypoint döndüren finder'ın yerine hücre hücre yol veren oracle geçemez
+        TreePathOracle oracle = pathFinder.returnsWaypoints() ? null : treeOracleFor(start, end);
+        if (oracle != null) {
+            return solve(start, end, TreePathOracle.ALGORITHM_NAME, false, () -> oraclePath(oracle, start, end));
+        }
+
+        IPathFinder finder = selectPathFinder(start, end);
+        return solve(start, end, finder.getAlgorithmName(), finder.returnsWaypoints(),
+                () -> finder.findPath(currentMaze, start, end));
+    }
+
+    /**
+     * Süre sınırlı yol bulur: ARA* önce hızlıca ε-optimal bir yol bulur, süre
+     * kaldıkça iyileştirir. Çağıran thread deadline'dan (bir genişletme
+     * aralığı kadar pay ile) fazla bloklanmaz.
+     * @param deadlineMillis System.currentTimeMillis() cinsinden mutlak son an
+     * @return En iyi yol; garanti edilen sınır Path.getSuboptimalityBound()
+     *         (deadline ilk çözümden önce dolarsa boş)
+     */
+    public Path findPath(Position start, Position end, long deadlineMillis) {
+        if (currentMaze == null) {
+            throw new IllegalStateException("No maze generated");
+        }
+
+        TreePathOracle oracle = treeOracleFor(start, end);
+        if (oracle != null) {
+            return solve(start, end, TreePathOracle.ALGORITHM_NAME, false, () -> oraclePath(oracle, start, end));
+        }
+
+        return solve(start, end, anytimeFinder.getAlgorithmName(), false,
+                () -> anytimeFinder.findPath(currentMaze, start, end, deadlineMillis));
+    }
+
+    private Path oraclePath(TreePathOracle oracle, Position start, Position end) {
+        long startTime = System.currentTimeMillis();
+        List<Position> positions = oracle.path(start, end);
+        return new Path(positions, positions.isEmpty() ? 0 : positions.size() - 1,
+                System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Ortak çözüm akışı: durum, listener bildirimleri ve son çözülen uç noktalar
+     * @param waypoints Yol waypoint'lerden oluşuyorsa listener'a uzunluk olarak
+     *                  waypoint sayısı yerine getCost() (yuvarlanmış) bildirilir
+     */
+    private Path solve(Position start, Position end, String algorithmName, boolean waypoints,
+                       Supplier<Path> search) {
         gameState.setCurrentState(GameState.State.SOLVING);
-        notifyAlgorithmStarted(pathFinder.getAlgorithmName());
+        notifyAlgorithmStarted(algorithmName);
 
         long startTime = System.currentTimeMillis();
 
         try {
-            currentPath = pathFinder.findPath(currentMaze, start, end);
+            currentPath = search.get();
+            lastStart = start;
+            lastEnd = end;
+            editedSinceSolve = false;
 
             if (currentPath.isEmpty()) {
                 gameState.setCurrentState(GameState.State.NO_SOLUTION);
@@ -103,7 +198,9 @@ public class GameEngine {
             } else {
                 gameState.setCurrentState(GameState.State.SOLVED);
                 gameState.setCurrentPath(currentPath);
-                notifyPathFound(currentPath.getLength(), 0);
+                notifyPathFound(waypoints
+                        ? (int) Math.round(currentPath.getCost())
+                        : currentPath.getLength(), 0);
             }
 
             long elapsedTime = System.currentTimeMillis() - startTime;
@@ -118,6 +215,92 @@ public class GameEngine {
         }
     }
 
+    /**
+     * Labirent engelsiz ve walkable grafı hâlâ bir ağaç (orman) ise iki hücre
+     * arasındaki yol tektir; her pathfinder aynı yolu bulacağından (8-yönlü JPS
+     * dahil: köşe kesilmeden diagonal adım için 2x2 açık alan yani döngü gerekir;
+     * waypoint döndüren any-angle finder'lar aynı hücrelerden geçse de hariç)
+     * arama yerine LCA oracle'ı kullanılır. Oracle Maze versiyonu başına bir kez
+     * kurulur; engel varsa, döngü varsa veya uç noktalar walkable değilse null.
+     */
+    private TreePathOracle treeOracleFor(Position start, Position end) {
+        if (start == null || end == null || !currentMaze.getObstacles().isEmpty()
+                || !currentMaze.isValid(start) || !currentMaze.isValid(end)
+                || !currentMaze.isWalkable(start.getRow(), start.getCol())
+                || !currentMaze.isWalkable(end.getRow(), end.getCol())) {
+            return null;
+        }
+
+        if (treeMaze != currentMaze || treeVersion != currentMaze.getVersion()) {
+            treeOracle = TreePathOracle.build(currentMaze);
+            treeMaze = currentMaze;
+            treeVersion = currentMaze.getVersion();
+        }
+        return treeOracle;
+    }
+
+    /**
+     * Labirentin çıkışına (getEndPosition) göre mesafe/akış alanı
+     */
+    public DistanceField getDistanceField() {
+        if (currentMaze == null) {
+            throw new IllegalStateException("No maze generated");
+        }
+        if (currentMaze.getEndPosition() == null) {
+            throw new IllegalStateException("Maze has no end position");
+        }
+        return getDistanceField(currentMaze.getEndPosition());
+    }
+
+    /**
+     * Hedefe göre mesafe/akış alanı. Aynı hedefi kovalayan tüm ajanlar aynı
+     * alanı paylaşır; engel düzenlemelerinden sonra alan sıfırdan kurulmaz,
+     * sadece mesafesi değişen bölge onarılır (DistanceField.update).
+     */
+    public DistanceField getDistanceField(Position goal) {
+        if (currentMaze == null) {
+            throw new IllegalStateException("No maze generated");
+        }
+        if (fieldMaze != currentMaze) {
+            distanceFields.clear();
+            fieldMaze = currentMaze;
+        }
+
+        DistanceField field = distanceFields.get(goal);
+        if (field == null) {
+            field = DistanceField.compute(currentMaze, goal);
+            distanceFields.put(goal, field);
+        } else {
+            field.update(currentMaze);
+        }
+        return field;
+    }
+
+    /**
+     * Hedefe doğru sıradaki adım - O(1) (alan güncelse)
+     * @return Sıradaki pozisyon veya hedefteyse/erişilemezse null
+     */
+    public Position getNextStep(Position from, Position goal) {
+        return getDistanceField(goal).nextStep(from);
+    }
+
+    /**
+     * Uç noktalar son çözümle aynıysa ve araya engel düzenlemesi girdiyse (veya
+     * replanner bu çift için zaten durum tutuyorsa) çözümü replanner'a yönlendirir;
+     * böylece "birkaç hücre düzenle, tekrar çöz" döngüsü her seferinde sıfırdan
+     * arama yapmaz. pathFinder zaten incremental veya optimal değilse dokunulmaz.
+     */
+    private IPathFinder selectPathFinder(Position start, Position end) {
+        if (replanner == null || pathFinder instanceof IIncrementalPathFinder
+                || !pathFinder.isOptimal()) {
+            return pathFinder;
+        }
+
+        boolean sameEndpoints = start != null && end != null
+                && start.equals(lastStart) && end.equals(lastEnd);
+        return sameEndpoints && editedSinceSolve ? replanner : pathFinder;
+    }
+
     /**
      * Adım adım yol bulur (animasyon için)
      */
@@ -171,6 +354,33 @@ public class GameEngine {
         return currentPath;
     }
 
+    /**
+     * Çok ajanlı yol bulma: tüm ajanlar tek seferde, birbirleriyle çakışmadan
+     * (WHCA* reservation table) planlanır. Path'ler zaman indekslidir
+     * (positions[t] = t. tick'teki konum, bekleme = tekrar).
+     * @param starts Ajan başlangıçları
+     * @param goals Ajan hedefleri (starts ile aynı sırada)
+     * @return Ajan başına Path ve throughput metrikleri
+     */
+    public MultiAgentResult findPaths(List<Position> starts, List<Position> goals) {
+        if (currentMaze == null) {
+            throw new IllegalStateException("No maze generated");
+        }
+
+        gameState.setCurrentState(GameState.State.SOLVING);
+        notifyAlgorithmStarted("WHCA* (" + starts.size() + " agents)");
+
+        MultiAgentResult result = cooperativePlanner.plan(currentMaze, starts, goals);
+
+        gameState.setCurrentState(result.getSolvedCount() > 0
+                ? GameState.State.SOLVED
+                : GameState.State.NO_SOLUTION);
+        gameState.setElapsedTime(result.getComputationTimeMs());
+        notifyAlgorithmCompleted(result.getComputationTimeMs());
+
+        return result;
+    }
+
     /**
      * Dinamik engel ekler
      */
@@ -179,7 +389,11 @@ public class GameEngine {
             return false;
         }
 
-        return obstacleManager.addObstacle(currentMaze, position);
+        boolean added = obstacleManager.addObstacle(currentMaze, position);
+        if (added) {
+            notifyCellsChanged(List.of(position));
+        }
+        return added;
     }
 
     /**
@@ -190,7 +404,11 @@ public class GameEngine {
             return false;
         }
 
-        return obstacleManager.removeObstacle(currentMaze, position);
+        boolean removed = obstacleManager.removeObstacle(currentMaze, position);
+        if (removed) {
+            notifyCellsChanged(List.of(position));
+        }
+        return removed;
     }
 
     /**
@@ -203,7 +421,9 @@ public class GameEngine {
         currentPath = null;
         gameState.setCurrentPath(null);
         gameState.setCurrentState(GameState.State.OBSTACLE_ADDED);
-        return obstacleManager.addRandomObstacles(currentMaze, count);
+        List<Position> added = obstacleManager.addRandomObstacles(currentMaze, count);
+        notifyCellsChanged(added);
+        return added;
     }
 
     /**
@@ -211,16 +431,56 @@ public class GameEngine {
      */
     public void clearObstacles() {
         if (currentMaze != null) {
+            List<Position> cleared = obstacleManager.getObstacles(currentMaze);
             obstacleManager.clearObstacles(currentMaze);
+            notifyCellsChanged(cleared);
         }
     }
 
+    /**
+     * Incremental path finder'a değişen hücreleri bildirir; sonraki findPath
+     * sıfırdan değil, sadece etkilenen kısmı onararak çözer
+     */
+    private void notifyCellsChanged(List<Position> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        editedSinceSolve = true;
+        if (pathFinder instanceof IIncrementalPathFinder) {
+            ((IIncrementalPathFinder) pathFinder).onCellsChanged(currentMaze, changed);
+        }
+        if (replanner != null) {
+            replanner.onCellsChanged(currentMaze, changed);
+        }
+    }
+
+    /**
+     * İki pozisyon mevcut engellerle hâlâ bağlı mı? (yeniden tarama yapmadan)
+     */
+    public boolean areConnected(Position a, Position b) {
+        if (currentMaze == null) {
+            return false;
+        }
+
+        return obstacleManager.areConnected(currentMaze, a, b);
+    }
+
     /**
      * Oyunu sıfırlar
      */
     public void reset() {
         currentMaze = null;
         currentPath = null;
+        treeMaze = null;
+        treeOracle = null;
+        fieldMaze = null;
+        distanceFields.clear();
+        lastStart = null;
+        lastEnd = null;
+        if (replanner != null) {
+            replanner.reset();
+        }
         gameState.reset();
     }
 
@@ -3,6 +3,9 @@ package com.maze.service;
 import com.maze.core.IMazeGenerator;
 import com.maze.model.*;
 import com.maze.util.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.*;
 
 /**
@@ -53,7 +56,7 @@ public class MazeService {
 
         double walkableRatio = (double) walkableCells / totalCells;
         boolean isConnected = walkableCells > 0 &&
-                PathUtils.isConnected(maze, findFirstWalkable(maze));
+                maze.getComponentIndex().getComponentCount() == 1;
 
         return new MazeStatistics(
                 maze.getRows(),
@@ -111,12 +114,11 @@ public class MazeService {
             return null;
         }
 
-        Maze clone = new Maze(original.getRows(), original.getCols());
+        Maze clone = new Maze(original.getRows(), original.getCols(), original.getStorageMode());
 
         for (int r = 0; r < original.getRows(); r++) {
             for (int c = 0; c < original.getCols(); c++) {
-                Cell originalCell = original.getCell(r, c);
-                clone.setCell(r, c, originalCell.getType());
+                clone.setCell(r, c, original.getCellType(r, c));
             }
         }
 
@@ -143,8 +145,7 @@ public class MazeService {
 
         for (int r = 0; r < maze.getRows(); r++) {
             for (int c = 0; c < maze.getCols(); c++) {
-                Cell cell = maze.getCell(r, c);
-                sb.append(cellTypeToChar(cell.getType()));
+                sb.append(cellTypeToChar(maze.getCellType(r, c)));
             }
             sb.append("\n");
         }
@@ -165,7 +166,7 @@ public class MazeService {
         int rows = Integer.parseInt(dimensions[0]);
         int cols = Integer.parseInt(dimensions[1]);
 
-        Maze maze = new Maze(rows, cols);
+        Maze maze = Maze.create(rows, cols);
 
         for (int r = 0; r < rows && r + 1 < lines.length; r++) {
             String line = lines[r + 1];
@@ -177,23 +178,35 @@ public class MazeService {
         return maze;
     }
 
-    // Helper methods
-    private Position findFirstWalkable(Maze maze) {
-        for (int r = 0; r < maze.getRows(); r++) {
-            for (int c = 0; c < maze.getCols(); c++) {
-                if (maze.getCell(r, c).isWalkable()) {
-                    return new Position(r, c);
-                }
-            }
+    /**
+     * Labirentin contraction hierarchy'sini kurar ve ikili formatta yazar
+     * (serializeMaze çıktısının yanında saklanması için)
+     * @return Kurulan hiyerarşi
+     */
+    public ContractionHierarchy saveHierarchy(Maze maze, OutputStream out) throws IOException {
+        ContractionHierarchy hierarchy = ContractionHierarchy.build(maze);
+        hierarchy.writeTo(out);
+        return hierarchy;
+    }
+
+    /**
+     * Kaydedilmiş hiyerarşiyi okur ve labirente ait olduğunu doğrular
+     * @throws IOException Dosya bozuksa veya hiyerarşi bu labirente ait değilse
+     */
+    public ContractionHierarchy loadHierarchy(Maze maze, InputStream in) throws IOException {
+        ContractionHierarchy hierarchy = ContractionHierarchy.readFrom(in);
+        if (!hierarchy.matches(maze)) {
+            throw new IOException("Contraction hierarchy does not match maze");
         }
-        return null;
+        return hierarchy;
     }
 
+    // Helper methods
     private List<Position> getAllWalkablePositions(Maze maze) {
         List<Position> positions = new ArrayList<>();
         for (int r = 0; r < maze.getRows(); r++) {
             for (int c = 0; c < maze.getCols(); c++) {
-                if (maze.getCell(r, c).isWalkable()) {
+                if (maze.isWalkable(r, c)) {
                     positions.add(new Position(r, c));
                 }
             }
@@ -13,6 +13,11 @@ public class ObstacleManager implements IObstacleManager {
 
     private final Random random = new Random();
 
+    // Engel düzenlemeleri altında güncel tutulan bağlantı yapısı
+    private Maze trackedMaze;
+    private DynamicConnectivity connectivity;
+    private int trackedVersion;
+
     @Override
     public boolean addObstacle(Maze maze, Position position) {
         if (!MazeValidator.isInBounds(maze, position)) {
@@ -32,7 +37,11 @@ public class ObstacleManager implements IObstacleManager {
         }
 
         // Engeli ekle
+        boolean tracked = isTracking(maze);
         maze.addObstacle(position);
+        if (tracked) {
+            syncCell(maze, position);
+        }
         return true;
     }
 
@@ -48,7 +57,11 @@ public class ObstacleManager implements IObstacleManager {
             return false;
         }
 
+        boolean tracked = isTracking(maze);
         maze.removeObstacle(position);
+        if (tracked) {
+            syncCell(maze, position);
+        }
         return true;
     }
 
@@ -59,8 +72,12 @@ public class ObstacleManager implements IObstacleManager {
         }
 
         List<Position> obstacles = new ArrayList<>(maze.getObstacles());
+        boolean tracked = isTracking(maze);
         for (Position obstacle : obstacles) {
             maze.removeObstacle(obstacle);
+            if (tracked && maze.isValid(obstacle)) {
+                syncCell(maze, obstacle);
+            }
         }
     }
 
@@ -70,21 +87,10 @@ public class ObstacleManager implements IObstacleManager {
             return new ArrayList<>();
         }
 
-        List<Position> addedObstacles = new ArrayList<>();
-        int attempts = 0;
-        int maxAttempts = count * 10;
-
-        while (addedObstacles.size() < count && attempts < maxAttempts) {
-            Position pos = PathUtils.getRandomWalkablePosition(maze);
-
-            if (pos != null && addObstacle(maze, pos)) {
-                addedObstacles.add(pos);
-            }
-
-            attempts++;
-        }
-
-        return addedObstacles;
+        // Start-end bağlantısını koparmayan hücrelere (start/end yoksa veya bağlı değilse her yere)
+        SafePlacement placement = new SafePlacement(maze, maze.getStartPosition(), maze.getEndPosition());
+        placement.placeRandom(walkableCells(maze, null), count);
+        return placement.added;
     }
 
     @Override
@@ -115,15 +121,55 @@ public class ObstacleManager implements IObstacleManager {
         return maze.getObstacles().size();
     }
 
+    /**
+     * Dinamik bağlantı yapısından cevaplar; yapı bu labirent için güncel değilse
+     * (başka labirent veya dışarıdan yapılmış değişiklik) bir kez yeniden kurulur.
+     * Sonraki addObstacle/removeObstacle çağrıları yapıyı O(log^2 V) amortize günceller.
+     */
+    @Override
+    public boolean areConnected(Maze maze, Position a, Position b) {
+        if (!MazeValidator.isInBounds(maze, a) || !MazeValidator.isInBounds(maze, b)) {
+            return false;
+        }
+
+        if (!isTracking(maze)) {
+            connectivity = new DynamicConnectivity(maze);
+            trackedMaze = maze;
+            trackedVersion = maze.getVersion();
+        }
+        return connectivity.connected(maze.toIndex(a), maze.toIndex(b));
+    }
+
+    /**
+     * Tek hücre değişikliğini bağlantı yapısına yansıtır (walkable durumu değişmediyse işlem yok)
+     */
+    private void syncCell(Maze maze, Position position) {
+        int index = maze.toIndex(position);
+        if (maze.isWalkable(index)) {
+            connectivity.cellOpened(index);
+        } else {
+            connectivity.cellClosed(index);
+        }
+        trackedVersion = maze.getVersion();
+    }
+
+    /**
+     * Bağlantı yapısı bu labirentin mevcut haline karşılık geliyor mu?
+     */
+    private boolean isTracking(Maze maze) {
+        return connectivity != null && trackedMaze == maze && trackedVersion == maze.getVersion();
+    }
+
     /**
      * Engellerin path'i bloke edip etmediğini kontrol eder
      */
     public boolean isPathBlocked(Maze maze, Position start, Position end) {
-        return !PathUtils.isConnected(maze, start);
+        return !areConnected(maze, start, end);
     }
 
     /**
-     * Path'i tamamen bloke edecek engeller ekler (challenge mode)
+     * Path üzerinde olmayan rastgele hücrelere engel ekler (challenge mode);
+     * start-end bağlantısı her zaman korunur.
      */
     public boolean createObstacleChallenge(Maze maze, Path originalPath, int obstacleCount) {
         if (originalPath == null || originalPath.isEmpty()) {
@@ -131,28 +177,80 @@ public class ObstacleManager implements IObstacleManager {
         }
 
         List<Position> pathPositions = originalPath.getPositions();
+        boolean[] onPath = new boolean[maze.getCellCount()];
 
-        // Path üzerinde olmayan pozisyonlara engel ekle
-        List<Position> candidates = new ArrayList<>();
-        for (int r = 0; r < maze.getRows(); r++) {
-            for (int c = 0; c < maze.getCols(); c++) {
-                Position pos = new Position(r, c);
-                if (maze.getCell(pos).isWalkable() && !pathPositions.contains(pos)) {
-                    candidates.add(pos);
-                }
+        for (Position pos : pathPositions) {
+            if (maze.isValid(pos)) {
+                onPath[maze.toIndex(pos)] = true;
             }
         }
 
-        Collections.shuffle(candidates, random);
+        SafePlacement placement = new SafePlacement(maze, pathPositions.get(0),
+                pathPositions.get(pathPositions.size() - 1));
+        placement.placeRandom(walkableCells(maze, onPath), obstacleCount);
+
+        return !placement.added.isEmpty();
+    }
 
-        int added = 0;
-        for (Position pos : candidates) {
-            if (added >= obstacleCount) break;
-            if (addObstacle(maze, pos)) {
-                added++;
+    /**
+     * Walkable hücre indeksleri (excluded ile işaretliler hariç)
+     */
+    private static int[] walkableCells(Maze maze, boolean[] excluded) {
+        int[] cells = new int[maze.getWalkableCount()];
+        int count = 0;
+        for (int i = 0; i < maze.getCellCount(); i++) {
+            if (maze.isWalkable(i) && (excluded == null || !excluded[i])) {
+                cells[count++] = i;
             }
         }
+        return Arrays.copyOf(cells, count);
+    }
+
+    /**
+     * ArticulationIndex ile start-end bağlantısını koparmayan engel yerleştirme.
+     *
+     * Her aday O(1) kontrol edilir: separator hücreler atlanır (engel eklendikçe
+     * separator kümesi sadece büyür, atlanan aday bir daha denenmez). Corridor
+     * dışındaki yerleştirmeler index'i geçersiz kılmaz; sadece corridor'a konan
+     * engelden sonra index yeniden kurulur.
+     */
+    private final class SafePlacement {
+        private final Maze maze;
+        private final Position start;
+        private final Position end;
+        private final List<Position> added = new ArrayList<>();
+        private ArticulationIndex index;
+
+        SafePlacement(Maze maze, Position start, Position end) {
+            this.maze = maze;
+            this.start = start;
+            this.end = end;
+            this.index = ArticulationIndex.build(maze, start, end);
+        }
 
-        return added > 0;
+        /**
+         * Adayları rastgele sırayla (kısmi Fisher-Yates) dener; toplam eklenen count'a ulaşınca durur
+         */
+        void placeRandom(int[] cells, int count) {
+            for (int i = 0; i < cells.length && added.size() < count; i++) {
+                int j = i + random.nextInt(cells.length - i);
+                int cell = cells[j];
+                cells[j] = cells[i];
+                cells[i] = cell;
+
+                Position pos = maze.toPosition(cell);
+                if (index.isSeparator(pos)) {
+                    continue;
+                }
+
+                boolean corridor = index.isOnCorridor(pos);
+                if (addObstacle(maze, pos)) {
+                    added.add(pos);
+                    if (corridor) {
+                        index = ArticulationIndex.build(maze, start, end);
+                    }
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
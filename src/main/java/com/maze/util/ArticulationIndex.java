@@ -0,0 +1,264 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+
+/**
+ * Start - end bağlantısı için articulation point / bridge index'i.
+ *
+ * Start'tan iteratif Tarjan DFS'i (kendi yığını, derin labirentlerde stack
+ * overflow yok) discovery/low değerlerini ve biconnected blokları çıkarır.
+ * End'den DFS ağacında yukarı yürünerek start-end arasındaki bloklar
+ * (corridor) ve bu blokları birleştiren articulation point'ler (separator)
+ * işaretlenir. Sorgular hücre başına tek bayrak okumasıdır.
+ *
+ * Bir hücreye engel konulması:
+ * - separator ise start ile end'i ayırır,
+ * - corridor dışındaysa corridor bloklarını değiştirmez (index geçerli kalır),
+ * - corridor'da ama separator değilse bağlantı korunur, index yeniden kurulmalıdır.
+ *
+ * Time Complexity: Kurulum O(V), sorgu O(1)
+ * Space Complexity: O(V)
+ */
+public final class ArticulationIndex {
+
+    // Hücre bayrakları
+    private static final byte SEPARATOR = 1;         // engel start-end bağlantısını koparır
+    private static final byte CORRIDOR = 2;          // start-end arasındaki bir blokta
+    private static final byte ARTICULATION = 4;      // start bileşeninde articulation point
+    private static final byte BRIDGE_TO_PARENT = 8;  // DFS ebeveynine giden kenar bridge
+
+    private final int rows;
+    private final int cols;
+    private final byte[] flags;
+    private final int[] parent;
+    private final boolean connected;
+    private final int separatorCount;
+    private final int version;
+
+    private ArticulationIndex(int rows, int cols, byte[] flags, int[] parent,
+                              boolean connected, int separatorCount, int version) {
+        this.rows = rows;
+        this.cols = cols;
+        this.flags = flags;
+        this.parent = parent;
+        this.connected = connected;
+        this.separatorCount = separatorCount;
+        this.version = version;
+    }
+
+    /**
+     * Index'i kurar
+     * @param maze Labirent
+     * @param start Başlangıç (DFS kökü)
+     * @param end Hedef
+     * @return Yeni index (start/end walkable değilse veya bağlı değilse hiçbir hücre separator değildir)
+     */
+    public static ArticulationIndex build(Maze maze, Position start, Position end) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int cellCount = maze.getCellCount();
+        byte[] flags = new byte[cellCount];
+        int[] parent = new int[cellCount];
+
+        if (start == null || !maze.isWalkable(start.getRow(), start.getCol())) {
+            return new ArticulationIndex(rows, cols, flags, parent, false, 0, maze.getVersion());
+        }
+
+        int source = maze.toIndex(start);
+        int[] disc = new int[cellCount];      // 0: ziyaret edilmedi
+        int[] low = new int[cellCount];
+        int[] blockOf = new int[cellCount];
+        byte[] nextDirection = new byte[cellCount];
+        int[] stack = new int[cellCount];     // DFS yığını
+        int[] vertexStack = new int[cellCount];  // blok çıkarma yığını
+        int top = 0;
+        int vertexTop = 0;
+        int time = 0;
+        int blocks = 0;
+        int rootChildren = 0;
+
+        stack[0] = source;
+        disc[source] = low[source] = ++time;
+        parent[source] = -1;
+        blockOf[source] = -1;
+
+        while (top >= 0) {
+            int v = stack[top];
+
+            if (nextDirection[v] < 4) {
+                int w = neighbor(v, nextDirection[v]++, rows, cols);
+                if (w < 0 || !maze.isWalkable(w)) {
+                    continue;
+                }
+                if (disc[w] == 0) {
+                    parent[w] = v;
+                    disc[w] = low[w] = ++time;
+                    stack[++top] = w;
+                    vertexStack[vertexTop++] = w;
+                } else if (w != parent[v]) {
+                    low[v] = Math.min(low[v], disc[w]);
+                }
+                continue;
+            }
+
+            // v tamamlandı
+            top--;
+            int p = parent[v];
+            if (p < 0) {
+                continue;
+            }
+
+            low[p] = Math.min(low[p], low[v]);
+            if (p == source) {
+                rootChildren++;
+            }
+            if (low[v] > disc[p]) {
+                flags[v] |= BRIDGE_TO_PARENT;
+            }
+            if (low[v] >= disc[p]) {
+                // p - v kenarı yeni bir blok açar; v'nin alt ağacındaki kalan hücreler bu blokta
+                int block = blocks++;
+                int x;
+                do {
+                    x = vertexStack[--vertexTop];
+                    blockOf[x] = block;
+                } while (x != v);
+
+                if (p != source) {
+                    flags[p] |= ARTICULATION;
+                }
+            }
+        }
+        if (rootChildren > 1) {
+            flags[source] |= ARTICULATION;
+        }
+
+        int target = end == null || !maze.isValid(end) ? -1 : maze.toIndex(end);
+        boolean connected = target >= 0 && disc[target] != 0;
+        int separatorCount = 0;
+
+        if (connected) {
+            // End'den köke yürü: yol üzerindeki bloklar corridor, aralarındaki kesim noktaları separator
+            boolean[] corridorBlock = new boolean[Math.max(1, blocks)];
+            flags[source] |= SEPARATOR | CORRIDOR;
+            flags[target] |= SEPARATOR | CORRIDOR;
+
+            for (int w = target; w != source; w = parent[w]) {
+                int p = parent[w];
+                if (low[w] >= disc[p]) {
+                    corridorBlock[blockOf[w]] = true;
+                    if (p != source) {
+                        flags[p] |= SEPARATOR | CORRIDOR;
+                    }
+                }
+            }
+
+            for (int i = 0; i < cellCount; i++) {
+                if (disc[i] != 0 && blockOf[i] >= 0 && corridorBlock[blockOf[i]]) {
+                    flags[i] |= CORRIDOR;
+                }
+                if ((flags[i] & SEPARATOR) != 0) {
+                    separatorCount++;
+                }
+            }
+        }
+
+        return new ArticulationIndex(rows, cols, flags, parent, connected, separatorCount, maze.getVersion());
+    }
+
+    private static int neighbor(int cell, int direction, int rows, int cols) {
+        int row = cell / cols;
+        int col = cell - row * cols;
+        switch (direction) {
+            case 0: return row > 0 ? cell - cols : -1;
+            case 1: return col < cols - 1 ? cell + 1 : -1;
+            case 2: return row < rows - 1 ? cell + cols : -1;
+            default: return col > 0 ? cell - 1 : -1;
+        }
+    }
+
+    private boolean inBounds(Position pos) {
+        return pos != null && pos.getRow() >= 0 && pos.getRow() < rows
+                && pos.getCol() >= 0 && pos.getCol() < cols;
+    }
+
+    private boolean has(int row, int col, byte flag) {
+        return row >= 0 && row < rows && col >= 0 && col < cols
+                && (flags[row * cols + col] & flag) != 0;
+    }
+
+    private boolean has(Position pos, byte flag) {
+        return pos != null && has(pos.getRow(), pos.getCol(), flag);
+    }
+
+    /**
+     * Index kurulurken start ile end bağlı mıydı?
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Bu hücreye engel konursa start ile end ayrılır mı? (start ve end'in kendisi dahil)
+     */
+    public boolean isSeparator(Position pos) {
+        return has(pos, SEPARATOR);
+    }
+
+    public boolean isSeparator(int row, int col) {
+        return has(row, col, SEPARATOR);
+    }
+
+    /**
+     * Engel start-end bağlantısını korur mu? - O(1)
+     */
+    public boolean isSafeObstacle(Position pos) {
+        return !isSeparator(pos);
+    }
+
+    /**
+     * Hücre start-end arasındaki bir biconnected blokta mı?
+     * Böyle bir hücreye engel konduktan sonra index yeniden kurulmalıdır;
+     * corridor dışındaki hücreler index'i geçersiz kılmaz.
+     */
+    public boolean isOnCorridor(Position pos) {
+        return has(pos, CORRIDOR);
+    }
+
+    /**
+     * Hücre start bileşeninde bir articulation point mi?
+     */
+    public boolean isArticulationPoint(Position pos) {
+        return has(pos, ARTICULATION);
+    }
+
+    /**
+     * a - b kenarı (komşu iki hücre) start bileşeninde bir bridge mi?
+     */
+    public boolean isBridge(Position a, Position b) {
+        if (!inBounds(a) || !inBounds(b)) {
+            return false;
+        }
+        int ia = a.getRow() * cols + a.getCol();
+        int ib = b.getRow() * cols + b.getCol();
+        return parent[ib] == ia && (flags[ib] & BRIDGE_TO_PARENT) != 0
+                || parent[ia] == ib && (flags[ia] & BRIDGE_TO_PARENT) != 0;
+    }
+
+    public int getSeparatorCount() {
+        return separatorCount;
+    }
+
+    /**
+     * Index'in kurulduğu Maze versiyonu
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticulationIndex{connected=" + connected + ", separators=" + separatorCount + "}";
+    }
+}
@@ -0,0 +1,703 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Statik labirentler için Contraction Hierarchy (CH).
+ *
+ * Ön işleme: walkable hücreler (PathUtils.mazeToGraph ile aynı 4-yönlü
+ * komşuluk, birim ağırlık) önem sırasına göre tek tek "contract" edilir.
+ * Bir düğüm çıkarılırken komşu çiftleri (u, w) arasındaki en kısa yol bu
+ * düğümden geçiyorsa ve sınırlı bir witness search daha kısa bir alternatif
+ * bulamazsa u - w shortcut'ı eklenir (ortadaki düğüm unpack için saklanır).
+ * Sıra: 2 * edge difference + contract edilmiş komşu sayısı + seviye (lazy update).
+ *
+ * Sorgu: her iki uçtan sadece "yukarı" (daha sonra contract edilmiş düğümlere
+ * giden) kenarlarla bidirectional Dijkstra (stall-on-demand ile). Üretilmiş
+ * (ağaç benzeri) labirentlerde arama alanı birkaç yüz düğümdür; geniş açık
+ * alanlarda hiyerarşinin tepesi yoğunlaştığından kurulum ve sorgu yavaşlar.
+ * Shortcut'lar kendi yığınıyla hücrelere açılır.
+ *
+ * writeTo/readFrom ile ikili formatta saklanır; matches(Maze) yüklenen
+ * hiyerarşinin labirentin walkable haline ait olup olmadığını kontrol eder.
+ * Engel değişikliklerinden sonra yeniden kurulmalıdır.
+ *
+ * Sorgular thread başına ayrı tamponlarla çalışır (thread-safe).
+ *
+ * Time Complexity: Kurulum O(V * w log w) (w: witness limiti), sorgu O(k log k) (k: yukarı arama alanı)
+ * Space Complexity: O(V + S) (S: shortcut sayısı)
+ */
+public final class ContractionHierarchy {
+
+    /** Erişilemeyen uç noktalar için distance() sonucu */
+    public static final int UNREACHABLE = -1;
+
+    private static final int MAGIC = 0x4D5A4348;  // "MZCH"
+    private static final int FORMAT_VERSION = 1;
+    private static final int NO_MIDDLE = -1;
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int WITNESS_SETTLE_LIMIT = 64;
+
+    private final int rows;
+    private final int cols;
+    private final long fingerprint;
+    private final int[] cellOf;    // düğüm -> hücre indeksi
+    private final int[] nodeOf;    // hücre indeksi -> düğüm (-1: walkable değil)
+    private final int[] upStart;   // CSR: düğümün yukarı kenarları [upStart[v], upStart[v + 1])
+    private final int[] upTarget;
+    private final int[] upWeight;
+    private final int[] upMiddle;  // shortcut'ın ortadaki düğümü (NO_MIDDLE: orijinal kenar)
+    private final int shortcutCount;
+
+    private final ThreadLocal<Query> queries = ThreadLocal.withInitial(() -> new Query(this));
+
+    private ContractionHierarchy(int rows, int cols, long fingerprint, int[] cellOf,
+                                 int[] upStart, int[] upTarget, int[] upWeight, int[] upMiddle,
+                                 int shortcutCount) {
+        this.rows = rows;
+        this.cols = cols;
+        this.fingerprint = fingerprint;
+        this.cellOf = cellOf;
+        this.upStart = upStart;
+        this.upTarget = upTarget;
+        this.upWeight = upWeight;
+        this.upMiddle = upMiddle;
+        this.shortcutCount = shortcutCount;
+
+        this.nodeOf = new int[rows * cols];
+        Arrays.fill(nodeOf, -1);
+        for (int v = 0; v < cellOf.length; v++) {
+            nodeOf[cellOf[v]] = v;
+        }
+    }
+
+    /**
+     * Labirentin mevcut walkable hali için hiyerarşiyi kurar
+     * @param maze Labirent
+     * @return Yeni hiyerarşi
+     */
+    public static ContractionHierarchy build(Maze maze) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+
+        int[] cellOf = new int[maze.getWalkableCount()];
+        int[] nodeOf = new int[maze.getCellCount()];
+        int n = 0;
+        for (int cell = 0; cell < maze.getCellCount(); cell++) {
+            if (maze.isWalkable(cell)) {
+                nodeOf[cell] = n;
+                cellOf[n++] = cell;
+            } else {
+                nodeOf[cell] = -1;
+            }
+        }
+
+        Builder builder = new Builder(n);
+        for (int v = 0; v < n; v++) {
+            int cell = cellOf[v];
+            int col = cell % cols;
+            if (col < cols - 1 && nodeOf[cell + 1] >= 0) {
+                builder.addEdge(v, nodeOf[cell + 1], 1, NO_MIDDLE);
+            }
+            if (cell + cols < rows * cols && nodeOf[cell + cols] >= 0) {
+                builder.addEdge(v, nodeOf[cell + cols], 1, NO_MIDDLE);
+            }
+        }
+        builder.contractAll();
+
+        // Contract anındaki (sıkıştırılmış) komşu listeleri = yukarı kenarlar
+        int[] upStart = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            upStart[v + 1] = upStart[v] + builder.degree[v];
+        }
+        int edgeCount = upStart[n];
+        int[] upTarget = new int[edgeCount];
+        int[] upWeight = new int[edgeCount];
+        int[] upMiddle = new int[edgeCount];
+        for (int v = 0; v < n; v++) {
+            int d = builder.degree[v];
+            System.arraycopy(builder.target[v], 0, upTarget, upStart[v], d);
+            System.arraycopy(builder.weight[v], 0, upWeight, upStart[v], d);
+            System.arraycopy(builder.middle[v], 0, upMiddle, upStart[v], d);
+        }
+
+        return new ContractionHierarchy(rows, cols, fingerprint(maze), cellOf,
+                upStart, upTarget, upWeight, upMiddle, builder.shortcuts);
+    }
+
+    // ===================== Sorgular =====================
+
+    /**
+     * En kısa yol uzunluğu (kenar sayısı)
+     * @return Mesafe veya UNREACHABLE
+     */
+    public int distance(Position from, Position to) {
+        int s = nodeAt(from);
+        int t = nodeAt(to);
+        if (s < 0 || t < 0) {
+            return UNREACHABLE;
+        }
+        if (s == t) {
+            return 0;
+        }
+
+        Query query = queries.get();
+        int meet = query.search(s, t);
+        return meet < 0 ? UNREACHABLE : query.best;
+    }
+
+    /**
+     * En kısa yol, shortcut'lar açılmış hücre listesi olarak
+     * @return from -> to pozisyonları (erişilemezse boş)
+     */
+    public List<Position> shortestPath(Position from, Position to) {
+        List<Position> positions = new ArrayList<>();
+        int s = nodeAt(from);
+        int t = nodeAt(to);
+        if (s < 0 || t < 0) {
+            return positions;
+        }
+
+        positions.add(toPosition(s));
+        if (s == t) {
+            return positions;
+        }
+
+        Query query = queries.get();
+        int meet = query.search(s, t);
+        if (meet < 0) {
+            return new ArrayList<>();
+        }
+
+        // İleri zincir meet -> s yönünde toplanır, s -> meet sırasıyla açılır
+        int[] chain = new int[16];
+        int length = 0;
+        for (int v = meet; v != s; v = query.parentF[v]) {
+            if (length == chain.length) {
+                chain = Arrays.copyOf(chain, length * 2);
+            }
+            chain[length++] = v;
+        }
+        for (int i = length - 1; i >= 0; i--) {
+            int v = chain[i];
+            int edge = query.edgeF[v];
+            unpack(query.parentF[v], v, upMiddle[edge], positions);
+        }
+
+        // Geri zincir meet -> t: kenar alt düğümün (parentB) listesinde
+        for (int v = meet; v != t; v = query.parentB[v]) {
+            int edge = query.edgeB[v];
+            unpack(v, query.parentB[v], upMiddle[edge], positions);
+        }
+
+        return positions;
+    }
+
+    /**
+     * a -> b kenarını hücrelere açar; b ve aradaki hücreler eklenir
+     */
+    private void unpack(int a, int b, int middle, List<Position> out) {
+        // (a, b, middle) üçlüleri; önce a -> m, sonra m -> b işlenir
+        int[] stack = new int[48];
+        int top = 0;
+        stack[top++] = a;
+        stack[top++] = b;
+        stack[top++] = middle;
+
+        while (top > 0) {
+            int m = stack[--top];
+            int to = stack[--top];
+            int from = stack[--top];
+
+            if (m == NO_MIDDLE) {
+                out.add(toPosition(to));
+                continue;
+            }
+            if (top + 6 > stack.length) {
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            // Ortadaki düğüm ikisinden de önce contract edildi: iki kenar da m'nin listesinde
+            stack[top++] = m;
+            stack[top++] = to;
+            stack[top++] = middleOf(m, to);
+            stack[top++] = from;
+            stack[top++] = m;
+            stack[top++] = middleOf(m, from);
+        }
+    }
+
+    private int middleOf(int low, int high) {
+        for (int e = upStart[low]; e < upStart[low + 1]; e++) {
+            if (upTarget[e] == high) {
+                return upMiddle[e];
+            }
+        }
+        throw new IllegalStateException("Missing hierarchy edge " + low + " -> " + high);
+    }
+
+    private int nodeAt(Position pos) {
+        if (pos == null || pos.getRow() < 0 || pos.getRow() >= rows
+                || pos.getCol() < 0 || pos.getCol() >= cols) {
+            return -1;
+        }
+        return nodeOf[pos.getRow() * cols + pos.getCol()];
+    }
+
+    private Position toPosition(int node) {
+        int cell = cellOf[node];
+        return new Position(cell / cols, cell % cols);
+    }
+
+    /**
+     * Hiyerarşi bu labirentin mevcut walkable haline mi ait?
+     */
+    public boolean matches(Maze maze) {
+        return maze != null && maze.getRows() == rows && maze.getCols() == cols
+                && fingerprint(maze) == fingerprint;
+    }
+
+    public int getNodeCount() {
+        return cellOf.length;
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    public int getEdgeCount() {
+        return upTarget.length;
+    }
+
+    /**
+     * Boyutlar ve walkable bitset üzerinden 64-bit FNV-1a özet
+     */
+    private static long fingerprint(Maze maze) {
+        long hash = 0xcbf29ce484222325L;
+        hash = (hash ^ maze.getRows()) * 0x100000001b3L;
+        hash = (hash ^ maze.getCols()) * 0x100000001b3L;
+        for (long word : maze.getWalkableBits()) {
+            hash = (hash ^ word) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // ===================== Serialization =====================
+
+    /**
+     * İkili formatta yazar (stream kapatılmaz)
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+        data.writeInt(rows);
+        data.writeInt(cols);
+        data.writeLong(fingerprint);
+        data.writeInt(cellOf.length);
+        data.writeInt(upTarget.length);
+        data.writeInt(shortcutCount);
+
+        for (int cell : cellOf) {
+            data.writeInt(cell);
+        }
+        for (int v = 0; v < cellOf.length; v++) {
+            data.writeInt(upStart[v + 1] - upStart[v]);
+        }
+        for (int e = 0; e < upTarget.length; e++) {
+            data.writeInt(upTarget[e]);
+            data.writeInt(upWeight[e]);
+            data.writeInt(upMiddle[e]);
+        }
+        data.flush();
+    }
+
+    /**
+     * writeTo ile yazılmış hiyerarşiyi okur (stream kapatılmaz).
+     * Hiyerarşinin sonundan öteye okumaz, stream'de arkasından gelen veri
+     * çağıran tarafından okunmaya devam edilebilir; tamponlama çağırana aittir.
+     * @throws IOException Format bozuk veya sürüm desteklenmiyorsa
+     */
+    public static ContractionHierarchy readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a contraction hierarchy file");
+        }
+        int formatVersion = data.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported hierarchy format version: " + formatVersion);
+        }
+
+        int rows = data.readInt();
+        int cols = data.readInt();
+        long fingerprint = data.readLong();
+        int n = data.readInt();
+        int edgeCount = data.readInt();
+        int shortcutCount = data.readInt();
+        long cellCount = (long) rows * cols;
+        if (rows <= 0 || cols <= 0 || cellCount > Integer.MAX_VALUE
+                || n < 0 || n > cellCount || edgeCount < 0) {
+            throw new IOException("Corrupt hierarchy header");
+        }
+
+        int[] cellOf = new int[n];
+        for (int v = 0; v < n; v++) {
+            cellOf[v] = data.readInt();
+            if (cellOf[v] < 0 || cellOf[v] >= cellCount) {
+                throw new IOException("Corrupt hierarchy node " + v);
+            }
+        }
+
+        int[] upStart = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            int degree = data.readInt();
+            if (degree < 0 || degree > edgeCount - upStart[v]) {
+                throw new IOException("Corrupt hierarchy degree " + v);
+            }
+            upStart[v + 1] = upStart[v] + degree;
+        }
+        if (upStart[n] != edgeCount) {
+            throw new IOException("Corrupt hierarchy edge count");
+        }
+
+        int[] upTarget = new int[edgeCount];
+        int[] upWeight = new int[edgeCount];
+        int[] upMiddle = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            upTarget[e] = data.readInt();
+            upWeight[e] = data.readInt();
+            upMiddle[e] = data.readInt();
+            if (upTarget[e] < 0 || upTarget[e] >= n || upMiddle[e] < NO_MIDDLE || upMiddle[e] >= n) {
+                throw new IOException("Corrupt hierarchy edge " + e);
+            }
+        }
+
+        return new ContractionHierarchy(rows, cols, fingerprint, cellOf,
+                upStart, upTarget, upWeight, upMiddle, shortcutCount);
+    }
+
+    // ===================== Sorgu durumu =====================
+
+    /**
+     * Thread başına bidirectional arama tamponları (epoch damgalı, O(1) sıfırlama)
+     */
+    private static final class Query {
+        private final ContractionHierarchy ch;
+        final int[] distF;
+        final int[] distB;
+        final int[] parentF;
+        final int[] parentB;
+        final int[] edgeF;
+        final int[] edgeB;
+        private final int[] stampF;
+        private final int[] stampB;
+        private final IndexedMinHeap heapF;
+        private final IndexedMinHeap heapB;
+        private int epoch;
+        int best;
+
+        Query(ContractionHierarchy ch) {
+            this.ch = ch;
+            int n = Math.max(1, ch.cellOf.length);
+            distF = new int[n];
+            distB = new int[n];
+            parentF = new int[n];
+            parentB = new int[n];
+            edgeF = new int[n];
+            edgeB = new int[n];
+            stampF = new int[n];
+            stampB = new int[n];
+            heapF = new IndexedMinHeap(n, 4);
+            heapB = new IndexedMinHeap(n, 4);
+        }
+
+        /**
+         * @return İki aramanın buluştuğu en iyi düğüm (yoksa -1); mesafe best'te
+         */
+        int search(int s, int t) {
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stampF, 0);
+                Arrays.fill(stampB, 0);
+                epoch = 0;
+            }
+            epoch++;
+            heapF.clear();
+            heapB.clear();
+
+            stampF[s] = epoch;
+            distF[s] = 0;
+            heapF.insert(s, 0);
+            stampB[t] = epoch;
+            distB[t] = 0;
+            heapB.insert(t, 0);
+
+            best = INF;
+            int meet = -1;
+
+            while (true) {
+                long minF = heapF.isEmpty() ? Long.MAX_VALUE : heapF.peekKey();
+                long minB = heapB.isEmpty() ? Long.MAX_VALUE : heapB.peekKey();
+                if (Math.min(minF, minB) >= best) {
+                    break;  // iki yönde de kalan her düğüm mevcut en iyiden uzak
+                }
+
+                boolean forward = minF <= minB;
+                IndexedMinHeap heap = forward ? heapF : heapB;
+                int[] dist = forward ? distF : distB;
+                int[] parent = forward ? parentF : parentB;
+                int[] edge = forward ? edgeF : edgeB;
+                int[] stamp = forward ? stampF : stampB;
+                int[] otherDist = forward ? distB : distF;
+                int[] otherStamp = forward ? stampB : stampF;
+
+                int u = heap.poll();
+                int du = dist[u];
+                if (otherStamp[u] == epoch && du + otherDist[u] < best) {
+                    best = du + otherDist[u];
+                    meet = u;
+                }
+
+                // Stall-on-demand: daha üst bir düğüm u'ya daha kısa ulaşıyorsa u'dan devam edilmez
+                boolean stalled = false;
+                for (int e = ch.upStart[u]; e < ch.upStart[u + 1]; e++) {
+                    int v = ch.upTarget[e];
+                    if (stamp[v] == epoch && dist[v] + ch.upWeight[e] < du) {
+                        stalled = true;
+                        break;
+                    }
+                }
+                if (stalled) {
+                    continue;
+                }
+
+                for (int e = ch.upStart[u]; e < ch.upStart[u + 1]; e++) {
+                    int v = ch.upTarget[e];
+                    int nd = du + ch.upWeight[e];
+                    if (stamp[v] != epoch || nd < dist[v]) {
+                        stamp[v] = epoch;
+                        dist[v] = nd;
+                        parent[v] = u;
+                        edge[v] = e;
+                        heap.update(v, nd);
+                    }
+                }
+            }
+
+            return meet;
+        }
+    }
+
+    // ===================== Contraction =====================
+
+    /**
+     * Contraction sırasında değişen komşu listeleri ve witness search durumu
+     */
+    private static final class Builder {
+        final int[][] target;
+        final int[][] weight;
+        final int[][] middle;
+        final int[] degree;
+        private final boolean[] contracted;
+        private final int[] deletedNeighbors;
+        private final int[] level;  // hiyerarşi derinliği için üst sınır
+        private final IndexedMinHeap order;
+        int shortcuts;
+
+        // Witness search (contract edilen düğümü atlayan sınırlı Dijkstra)
+        private final int[] witnessDist;
+        private final int[] touched;
+        private int touchedCount;
+        private final IndexedMinHeap witnessHeap;
+
+        Builder(int n) {
+            target = new int[n][];
+            weight = new int[n][];
+            middle = new int[n][];
+            degree = new int[n];
+            contracted = new boolean[n];
+            deletedNeighbors = new int[n];
+            level = new int[n];
+            order = new IndexedMinHeap(Math.max(1, n), 4);
+            witnessDist = new int[n];
+            touched = new int[n];
+            witnessHeap = new IndexedMinHeap(Math.max(1, n), 4);
+            Arrays.fill(witnessDist, INF);
+            for (int v = 0; v < n; v++) {
+                target[v] = new int[4];
+                weight[v] = new int[4];
+                middle[v] = new int[4];
+            }
+        }
+
+        void addEdge(int u, int w, int cost, int mid) {
+            append(u, w, cost, mid);
+            append(w, u, cost, mid);
+        }
+
+        private void append(int u, int w, int cost, int mid) {
+            int d = degree[u];
+            if (d == target[u].length) {
+                target[u] = Arrays.copyOf(target[u], d * 2);
+                weight[u] = Arrays.copyOf(weight[u], d * 2);
+                middle[u] = Arrays.copyOf(middle[u], d * 2);
+            }
+            target[u][d] = w;
+            weight[u][d] = cost;
+            middle[u][d] = mid;
+            degree[u] = d + 1;
+        }
+
+        void contractAll() {
+            int n = degree.length;
+            for (int v = 0; v < n; v++) {
+                order.insert(v, key(v));
+            }
+
+            while (!order.isEmpty()) {
+                int v = order.poll();
+
+                // Lazy update: öncelik eskidiyse ve artık en küçük değilse geri koy
+                long current = key(v);
+                if (!order.isEmpty() && current > order.peekKey()) {
+                    order.insert(v, current);
+                    continue;
+                }
+
+                contract(v, false);
+                contracted[v] = true;
+
+                for (int i = 0; i < degree[v]; i++) {
+                    int u = target[v][i];
+                    deletedNeighbors[u]++;
+                    level[u] = Math.max(level[u], level[v] + 1);
+                    order.update(u, key(u));
+                }
+            }
+        }
+
+        /**
+         * Öncelik anahtarı: 2 * edge difference + contract edilmiş komşu + seviye, eşitlikte düğüm id'si
+         */
+        private long key(int v) {
+            int shortcutsNeeded = contract(v, true);
+            int priority = 2 * (shortcutsNeeded - degree[v]) + deletedNeighbors[v] + level[v];
+            return ((long) priority << 32) | v;
+        }
+
+        /**
+         * v'yi contract eder (simulate ise sadece gerekli shortcut sayısını hesaplar)
+         */
+        private int contract(int v, boolean simulate) {
+            compact(v);
+            int d = degree[v];
+            int[] neighbors = target[v];
+            int[] costs = weight[v];
+            int needed = 0;
+
+            for (int i = 0; i < d - 1; i++) {
+                int u = neighbors[i];
+                int maxVia = 0;
+                for (int j = i + 1; j < d; j++) {
+                    maxVia = Math.max(maxVia, costs[j]);
+                }
+
+                witnessSearch(u, v, costs[i] + maxVia);
+                for (int j = i + 1; j < d; j++) {
+                    int via = costs[i] + costs[j];
+                    if (witnessDist[neighbors[j]] > via) {
+                        needed++;
+                        if (!simulate) {
+                            addShortcut(u, neighbors[j], via, v);
+                        }
+                    }
+                }
+                clearWitness();
+            }
+            return needed;
+        }
+
+        /**
+         * Contract edilmiş komşuları listeden çıkarır
+         */
+        private void compact(int v) {
+            int d = 0;
+            for (int i = 0; i < degree[v]; i++) {
+                if (!contracted[target[v][i]]) {
+                    target[v][d] = target[v][i];
+                    weight[v][d] = weight[v][i];
+                    middle[v][d] = middle[v][i];
+                    d++;
+                }
+            }
+            degree[v] = d;
+        }
+
+        private void addShortcut(int u, int w, int cost, int mid) {
+            int i = find(u, w);
+            if (i >= 0) {
+                if (weight[u][i] <= cost) {
+                    return;
+                }
+                weight[u][i] = cost;
+                middle[u][i] = mid;
+                int j = find(w, u);
+                weight[w][j] = cost;
+                middle[w][j] = mid;
+            } else {
+                addEdge(u, w, cost, mid);
+                shortcuts++;
+            }
+        }
+
+        private int find(int u, int w) {
+            for (int i = 0; i < degree[u]; i++) {
+                if (target[u][i] == w) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * excluded düğümünü ve contract edilmişleri atlayarak source'tan limit'e kadar Dijkstra
+         */
+        private void witnessSearch(int source, int excluded, int limit) {
+            witnessDist[source] = 0;
+            touched[touchedCount++] = source;
+            witnessHeap.insert(source, 0);
+            int settled = 0;
+
+            while (!witnessHeap.isEmpty() && witnessHeap.peekKey() <= limit
+                    && settled++ < WITNESS_SETTLE_LIMIT) {
+                int u = witnessHeap.poll();
+                int du = witnessDist[u];
+
+                for (int i = 0; i < degree[u]; i++) {
+                    int w = target[u][i];
+                    if (w == excluded || contracted[w]) {
+                        continue;
+                    }
+                    int nd = du + weight[u][i];
+                    if (nd < witnessDist[w]) {
+                        if (witnessDist[w] == INF) {
+                            touched[touchedCount++] = w;
+                        }
+                        witnessDist[w] = nd;
+                        witnessHeap.update(w, nd);
+                    }
+                }
+            }
+        }
+
+        private void clearWitness() {
+            for (int i = 0; i < touchedCount; i++) {
+                witnessDist[touched[i]] = INF;
+            }
+            touchedCount = 0;
+            witnessHeap.clear();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.maze.util;
+
+import com.maze.model.*;
+
+import java.util.*;
+
+/**
+ * Direction-optimizing (Beamer) Breadth-First Search motoru.
+ *
+ * Her seviye iki yoldan biriyle genişletilir:
+ * - Top-down: frontier int listesi; her frontier hücresi komşularını işaretler.
+ *   Frontier küçükken ucuzdur.
+ * - Bottom-up: frontier long[] bitset; ziyaret edilmemiş her walkable hücre için
+ *   "komşularından biri frontier'da mı?" sorusu 64 hücrelik kelimeler halinde
+ *   cevaplanır (yukarı/aşağı/sol/sağ kaydırılmış frontier kelimelerinin OR'u).
+ *   Frontier, ziyaret edilmemiş alana göre büyükken (açık labirentlerin orta
+ *   seviyeleri) çok daha ucuzdur.
+ *
+ * Geçiş kuralı (hücre sayıları üzerinden, derece en fazla 4 olduğu için):
+ * - top-down -> bottom-up: frontier * ALPHA > ziyaret edilmemiş walkable
+ * - bottom-up -> top-down: frontier küçülüyor ve frontier * BETA < hücre sayısı
+ *
+ * Walkable bitset Maze tarafından güncel tutulur (Maze.getWalkableBits()).
+ * Tamponlar aramalar arasında yeniden kullanılır; bir örnek aynı anda tek
+ * thread tarafından kullanılmalıdır.
+ *
+ * Time Complexity: O(V + E) top-down, seviye başına O(V / 64) bottom-up
+ * Space Complexity: O(V / 64) bitset + frontier listeleri (+ O(V) parent, istenirse)
+ */
+public final class DirectionOptimizingBFS {
+
+    /** search() hedef olmadan (tüm bileşeni) tarasın */
+    public static final int NO_TARGET = -1;
+
+    /** Hedefe ulaşılamadı */
+    public static final int UNREACHABLE = -1;
+
+    public static final int NO_PARENT = -1;
+
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    private int cellCount;
+    private int cols;
+    private int wordCount;
+    private long[] walkable;
+
+    private long[] visited = new long[0];
+    private long[] frontierBits = new long[0];
+    private long[] nextBits = new long[0];
+    private long[] firstColumn = new long[0];  // col == 0 olan hücreler
+    private long[] lastColumn = new long[0];   // col == cols - 1 olan hücreler
+    private int maskCols = -1;
+    private int maskCells = -1;
+
+    private int[] frontier = new int[16];
+    private int[] next = new int[16];
+    private int[] parent = new int[0];
+
+    private boolean trackParents;
+    private int visitedCount;
+
+    /**
+     * source'tan BFS yapar
+     * @param maze Labirent
+     * @param source Başlangıç hücre indeksi (walkable olmasa da ziyaret edilir)
+     * @param target Hedef hücre indeksi veya NO_TARGET
+     * @param trackParents true ise parent zinciri tutulur (reconstructPath için)
+     * @return source -> target mesafesi (ulaşılamazsa UNREACHABLE);
+     *         NO_TARGET ile erişilen en derin seviye
+     */
+    public int search(Maze maze, int source, int target, boolean trackParents) {
+        prepare(maze, trackParents);
+
+        markVisited(source);
+        if (trackParents) {
+            parent[source] = NO_PARENT;
+        }
+        visitedCount = 1;
+
+        if (source == target) {
+            return 0;
+        }
+
+        int unvisited = maze.getWalkableCount() - (isWalkable(source) ? 1 : 0);
+        frontier[0] = source;
+        int frontierSize = 1;
+        int previousSize = 0;
+        boolean bottomUp = false;
+        int level = 0;
+
+        while (frontierSize > 0) {
+            if (!bottomUp && (long) frontierSize * ALPHA > unvisited) {
+                listToBits(frontierSize);
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < previousSize
+                    && (long) frontierSize * BETA < cellCount) {
+                bitsToList();
+                bottomUp = false;
+            }
+
+            int discovered = bottomUp ? bottomUpStep() : topDownStep(frontierSize);
+            if (discovered == 0) {
+                break;
+            }
+
+            level++;
+            visitedCount += discovered;
+            unvisited -= discovered;
+            previousSize = frontierSize;
+            frontierSize = discovered;
+
+            if (target != NO_TARGET && isVisited(target)) {
+                return level;
+            }
+        }
+
+        return target == NO_TARGET ? level : UNREACHABLE;
+    }
+
+    /**
+     * Son aramada ziyaret edildi mi?
+     */
+    public boolean isVisited(int index) {
+        return (visited[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Son aramada ziyaret edilen hücre sayısı (source dahil)
+     */
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     * Son aramada hücrenin BFS ağacındaki parent'ı (trackParents gerekir)
+     */
+    public int getParent(int index) {
+        return parent[index];
+    }
+
+    /**
+     * source -> target pozisyon listesini parent zincirinden üretir
+     * @param maze Aramanın yapıldığı labirent
+     * @param target Ziyaret edilmiş hedef hücre
+     * @return Pozisyon listesi (ziyaret edilmemişse boş)
+     */
+    public List<Position> reconstructPath(Maze maze, int target) {
+        List<Position> positions = new ArrayList<>();
+        if (!trackParents || !isVisited(target)) {
+            return positions;
+        }
+
+        for (int current = target; current != NO_PARENT; current = parent[current]) {
+            positions.add(maze.toPosition(current));
+        }
+        Collections.reverse(positions);
+        return positions;
+    }
+
+    private void prepare(Maze maze, boolean trackParents) {
+        this.cellCount = maze.getCellCount();
+        this.cols = maze.getCols();
+        this.walkable = maze.getWalkableBits();
+        this.wordCount = walkable.length;
+        this.trackParents = trackParents;
+
+        if (visited.length < wordCount) {
+            visited = new long[wordCount];
+            frontierBits = new long[wordCount];
+            nextBits = new long[wordCount];
+            firstColumn = new long[wordCount];
+            lastColumn = new long[wordCount];
+            maskCells = -1;
+        } else {
+            Arrays.fill(visited, 0, wordCount, 0L);
+        }
+
+        if (maskCells != cellCount || maskCols != cols) {
+            buildColumnMasks(maze.getRows());
+        }
+
+        if (trackParents && parent.length < cellCount) {
+            parent = new int[cellCount];
+        }
+    }
+
+    private void buildColumnMasks(int rows) {
+        Arrays.fill(firstColumn, 0, wordCount, 0L);
+        Arrays.fill(lastColumn, 0, wordCount, 0L);
+        for (int r = 0; r < rows; r++) {
+            int first = r * cols;
+            int last = first + cols - 1;
+            firstColumn[first >>> 6] |= 1L << first;
+            lastColumn[last >>> 6] |= 1L << last;
+        }
+        maskCells = cellCount;
+        maskCols = cols;
+    }
+
+    private boolean isWalkable(int index) {
+        return (walkable[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private void markVisited(int index) {
+        visited[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Frontier listesindeki hücrelerin ziyaret edilmemiş komşularını next'e yazar
+     * @return Keşfedilen hücre sayısı
+     */
+    private int topDownStep(int frontierSize) {
+        int capacity = (int) Math.min((long) frontierSize * 4, cellCount);
+        if (next.length < capacity) {
+            next = new int[Math.max(capacity, next.length * 2)];
+        }
+
+        int count = 0;
+        for (int i = 0; i < frontierSize; i++) {
+            int current = frontier[i];
+            int col = current % cols;
+
+            if (current >= cols) {
+                count = visit(current - cols, current, count);
+            }
+            if (current + cols < cellCount) {
+                count = visit(current + cols, current, count);
+            }
+            if (col > 0) {
+                count = visit(current - 1, current, count);
+            }
+            if (col < cols - 1) {
+                count = visit(current + 1, current, count);
+            }
+        }
+
+        int[] swap = frontier;
+        frontier = next;
+        next = swap;
+        return count;
+    }
+
+    private int visit(int neighbor, int current, int count) {
+        long bit = 1L << neighbor;
+        int word = neighbor >>> 6;
+        if ((walkable[word] & bit) != 0 && (visited[word] & bit) == 0) {
+            visited[word] |= bit;
+            if (trackParents) {
+                parent[neighbor] = current;
+            }
+            next[count++] = neighbor;
+        }
+        return count;
+    }
+
+    /**
+     * Ziyaret edilmemiş walkable hücrelerden frontier'a komşu olanları,
+     * 64'lük kelimeler halinde bulur
+     * @return Keşfedilen hücre sayısı
+     */
+    private int bottomUpStep() {
+        long[] current = frontierBits;
+        long[] out = nextBits;
+        int count = 0;
+
+        for (int w = 0; w < wordCount; w++) {
+            long candidates = walkable[w] & ~visited[w];
+            if (candidates == 0) {
+                out[w] = 0;
+                continue;
+            }
+
+            int base = w << 6;
+            long up = bitsAt(current, base - cols);
+            long down = bitsAt(current, base + cols);
+            long left = bitsAt(current, base - 1) & ~firstColumn[w];
+            long right = bitsAt(current, base + 1) & ~lastColumn[w];
+
+            long found = candidates & (up | down | left | right);
+            out[w] = found;
+            if (found == 0) {
+                continue;
+            }
+
+            visited[w] |= found;
+            count += Long.bitCount(found);
+
+            if (trackParents) {
+                for (long bits = found; bits != 0; bits &= bits - 1) {
+                    int b = Long.numberOfTrailingZeros(bits);
+                    long bit = 1L << b;
+                    int index = base + b;
+                    if ((up & bit) != 0) {
+                        parent[index] = index - cols;
+                    } else if ((down & bit) != 0) {
+                        parent[index] = index + cols;
+                    } else if ((left & bit) != 0) {
+                        parent[index] = index - 1;
+                    } else {
+                        parent[index] = index + 1;
+                    }
+                }
+            }
+        }
+
+        frontierBits = out;
+        nextBits = current;
+        return count;
+    }
+
+    /**
+     * bits dizisinde p. bitten başlayan 64 biti döndürür (aralık dışı bitler 0)
+     */
+    private long bitsAt(long[] bits, int p) {
+        int word = p >> 6;
+        int shift = p & 63;
+        long low = word >= 0 && word < wordCount ? bits[word] : 0L;
+        if (shift == 0) {
+            return low;
+        }
+        long high = word + 1 >= 0 && word + 1 < wordCount ? bits[word + 1] : 0L;
+        return (low >>> shift) | (high << (64 - shift));
+    }
+
+    private void listToBits(int frontierSize) {
+        Arrays.fill(frontierBits, 0, wordCount, 0L);
+        for (int i = 0; i < frontierSize; i++) {
+            int index = frontier[i];
+            frontierBits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private void bitsToList() {
+        int count = 0;
+        for (int w = 0; w < wordCount; w++) {
+            for (long bits = frontierBits[w]; bits != 0; bits &= bits - 1) {
+                if (count == frontier.length) {
+                    frontier = Arrays.copyOf(frontier, Math.min(cellCount, count * 2));
+                }
+                frontier[count++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+    }
+}
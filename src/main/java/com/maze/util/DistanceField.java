@@ -0,0 +1,391 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+
+import java.util.*;
+
+/**
+ * Tek bir hedefe göre mesafe alanı (distance field) ve akış alanı (flow field).
+ *
+ * Hedeften geriye tek bir BFS ile her hücrenin hedefe mesafesi int[] olarak
+ * tutulur; akış alanı her hücre için mesafesi bir eksik olan komşunun yönüdür.
+ * Aynı hedefi kovalayan ajanlar kendi A*'larını çalıştırmak yerine sıradaki
+ * adımı O(1) okur (nextStep).
+ *
+ * Engel düzenlemelerinden sonra update() alanı sıfırdan kurmaz; walkable
+ * bitset'in son görülen kopyasıyla farkı alınır ve sadece mesafesi gerçekten
+ * değişen bölge onarılır:
+ *  1. Kapanan hücreler ve onlara dayanan hücreler eski mesafe sırasıyla
+ *     geçersiz kılınır (mesafesi d-1 olan geçerli komşusu kalmayan hücre düşer).
+ *  2. Geçersiz ve yeni açılan hücreler geçerli komşularından tohumlanır ve
+ *     mesafe düşüşleri Dijkstra sırasıyla yayılır.
+ *  3. Akış alanı sadece dokunulan hücreler ve komşuları için yeniden hesaplanır.
+ * Hedef hücrenin kendisi değiştiyse alan tamamen yeniden kurulur.
+ *
+ * Bir örnek aynı anda tek thread tarafından güncellenmelidir.
+ *
+ * Time Complexity: Kurulum O(V), update O(A log A) (A: değişen bölge), okuma O(1)
+ * Space Complexity: O(V)
+ */
+public final class DistanceField {
+
+    /** Hedefe erişilemeyen hücre */
+    public static final int UNREACHABLE = -1;
+
+    /** Akış yönleri (getDirection) */
+    public static final int NONE = -1;
+    public static final int UP = 0;
+    public static final int DOWN = 1;
+    public static final int LEFT = 2;
+    public static final int RIGHT = 3;
+
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final int rows;
+    private final int cols;
+    private final int goal;
+    private final int[] dist;        // INF: erişilemez
+    private final byte[] flow;       // yön kodu veya NONE
+    private final long[] snapshot;   // son görülen walkable bitset
+    private int version;
+
+    // update() tamponları (ilk onarımda ayrılır)
+    private IndexedMinHeap heap;
+    private int[] touchedStamp;
+    private int epoch;
+    private int[] touched = new int[64];
+    private int touchedCount;
+    private int lastRepairSize;
+
+    private final int[] neighbors = new int[4];
+
+    private DistanceField(Maze maze, int goal) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.goal = goal;
+        this.dist = new int[maze.getCellCount()];
+        this.flow = new byte[maze.getCellCount()];
+        this.snapshot = maze.getWalkableBits().clone();
+        this.version = maze.getVersion();
+    }
+
+    /**
+     * Hedef için mesafe ve akış alanını kurar
+     * @param maze Labirent
+     * @param goal Hedef hücre
+     */
+    public static DistanceField compute(Maze maze, Position goal) {
+        Objects.requireNonNull(maze, "maze");
+        if (goal == null || !maze.isValid(goal)) {
+            throw new IllegalArgumentException("Invalid goal: " + goal);
+        }
+
+        DistanceField field = new DistanceField(maze, maze.toIndex(goal));
+        field.rebuild(maze);
+        return field;
+    }
+
+    private void rebuild(Maze maze) {
+        Arrays.fill(dist, INF);
+        Arrays.fill(flow, (byte) NONE);
+        if (!maze.isWalkable(goal)) {
+            return;
+        }
+
+        int[] queue = new int[maze.getWalkableCount()];
+        int head = 0;
+        int tail = 0;
+        dist[goal] = 0;
+        queue[tail++] = goal;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int d = dist[cell] + 1;
+            int found = maze.getWalkableNeighbors(cell, neighbors);
+            for (int i = 0; i < found; i++) {
+                int next = neighbors[i];
+                if (dist[next] == INF) {
+                    dist[next] = d;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        for (int i = 0; i < tail; i++) {
+            updateFlow(maze, queue[i]);
+        }
+    }
+
+    /**
+     * Alanı labirentin mevcut haline getirir (engel düzenlemelerinden sonra)
+     * @return Mesafesi veya akışı yeniden hesaplanan hücre sayısı
+     */
+    public int update(Maze maze) {
+        if (maze.getRows() != rows || maze.getCols() != cols) {
+            throw new IllegalArgumentException("Maze dimensions changed");
+        }
+        if (maze.getVersion() == version) {
+            return 0;
+        }
+
+        long[] current = maze.getWalkableBits();
+        version = maze.getVersion();
+
+        if (((current[goal >>> 6] ^ snapshot[goal >>> 6]) & (1L << goal)) != 0) {
+            System.arraycopy(current, 0, snapshot, 0, current.length);
+            rebuild(maze);
+            lastRepairSize = maze.getCellCount();
+            return lastRepairSize;
+        }
+
+        if (heap == null) {
+            heap = new IndexedMinHeap(dist.length);
+            touchedStamp = new int[dist.length];
+        }
+        if (++epoch == 0) {
+            Arrays.fill(touchedStamp, 0);
+            epoch = 1;
+        }
+        touchedCount = 0;
+
+        // 1. Kapanan hücreler: kendileri ve desteği kalmayan torunları geçersiz
+        for (int w = 0; w < current.length; w++) {
+            long closed = snapshot[w] & ~current[w];
+            while (closed != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(closed);
+                closed &= closed - 1;
+                if (dist[cell] != INF) {
+                    invalidate(maze, cell);
+                }
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            int cell = heap.poll();
+            if (!isSupported(maze, cell)) {
+                invalidate(maze, cell);
+            }
+        }
+
+        // 2. Geçersiz kalan ve yeni açılan hücreleri komşulardan tohumla
+        for (int w = 0; w < current.length; w++) {
+            long opened = current[w] & ~snapshot[w];
+            while (opened != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(opened);
+                opened &= opened - 1;
+                touch(cell);
+            }
+        }
+        System.arraycopy(current, 0, snapshot, 0, current.length);
+
+        for (int i = 0; i < touchedCount; i++) {
+            int cell = touched[i];
+            if (maze.isWalkable(cell)) {
+                int best = bestNeighborDistance(maze, cell);
+                if (best != INF) {
+                    dist[cell] = best + 1;
+                    heap.insert(cell, dist[cell]);
+                }
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            int cell = heap.poll();
+            int d = dist[cell] + 1;
+            int found = maze.getWalkableNeighbors(cell, neighbors);
+            for (int i = 0; i < found; i++) {
+                int next = neighbors[i];
+                if (d < dist[next]) {
+                    dist[next] = d;
+                    touch(next);
+                    heap.update(next, d);
+                }
+            }
+        }
+
+        // 3. Akış: dokunulan hücreler ve komşuları
+        int repaired = touchedCount;
+        for (int i = 0; i < repaired; i++) {
+            int cell = touched[i];
+            int found = maze.getWalkableNeighbors(cell, neighbors);
+            for (int j = 0; j < found; j++) {
+                touch(neighbors[j]);
+            }
+        }
+        for (int i = 0; i < touchedCount; i++) {
+            updateFlow(maze, touched[i]);
+        }
+
+        lastRepairSize = repaired;
+        return repaired;
+    }
+
+    /**
+     * Hücreyi erişilemez yapar; ona dayanan (mesafesi bir fazla) komşular kontrol kuyruğuna girer
+     */
+    private void invalidate(Maze maze, int cell) {
+        int d = dist[cell] + 1;
+        dist[cell] = INF;
+        touch(cell);
+
+        int found = maze.getWalkableNeighbors(cell, neighbors);
+        for (int i = 0; i < found; i++) {
+            int next = neighbors[i];
+            if (dist[next] == d && !heap.contains(next)) {
+                heap.insert(next, d);
+            }
+        }
+    }
+
+    /**
+     * Walkable ve mesafesi d-1 olan (hâlâ geçerli) komşusu var mı?
+     * Kontroller eski mesafe sırasıyla yapıldığından d-1 seviyesi kesinleşmiştir.
+     */
+    private boolean isSupported(Maze maze, int cell) {
+        if (!maze.isWalkable(cell)) {
+            return false;
+        }
+        int parentDistance = dist[cell] - 1;
+        int found = maze.getWalkableNeighbors(cell, neighbors);
+        for (int i = 0; i < found; i++) {
+            if (dist[neighbors[i]] == parentDistance) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int bestNeighborDistance(Maze maze, int cell) {
+        int best = INF;
+        int found = maze.getWalkableNeighbors(cell, neighbors);
+        for (int i = 0; i < found; i++) {
+            best = Math.min(best, dist[neighbors[i]]);
+        }
+        return best;
+    }
+
+    private void touch(int cell) {
+        if (touchedStamp[cell] == epoch) {
+            return;
+        }
+        touchedStamp[cell] = epoch;
+        if (touchedCount == touched.length) {
+            touched = Arrays.copyOf(touched, touchedCount * 2);
+        }
+        touched[touchedCount++] = cell;
+    }
+
+    /**
+     * Sabit yön sırasıyla (yukarı, aşağı, sol, sağ) mesafesi bir eksik ilk komşu
+     */
+    private void updateFlow(Maze maze, int cell) {
+        int d = dist[cell];
+        if (d == INF || d == 0 || !maze.isWalkable(cell)) {
+            flow[cell] = NONE;
+            return;
+        }
+
+        int row = cell / cols;
+        int col = cell - row * cols;
+        int target = d - 1;
+        if (row > 0 && dist[cell - cols] == target) {
+            flow[cell] = UP;
+        } else if (row < rows - 1 && dist[cell + cols] == target) {
+            flow[cell] = DOWN;
+        } else if (col > 0 && dist[cell - 1] == target) {
+            flow[cell] = LEFT;
+        } else if (col < cols - 1 && dist[cell + 1] == target) {
+            flow[cell] = RIGHT;
+        } else {
+            flow[cell] = NONE;
+        }
+    }
+
+    /**
+     * @return Hedefe adım sayısı veya UNREACHABLE
+     */
+    public int distance(int cell) {
+        int d = dist[cell];
+        return d == INF ? UNREACHABLE : d;
+    }
+
+    public int distance(Position pos) {
+        return isInside(pos) ? distance(pos.getRow() * cols + pos.getCol()) : UNREACHABLE;
+    }
+
+    /**
+     * @return Akış yönü (UP, DOWN, LEFT, RIGHT) veya hedefte/erişilemezse NONE
+     */
+    public int getDirection(int cell) {
+        return flow[cell];
+    }
+
+    /**
+     * @return Hedefe doğru sıradaki hücre veya hedefte/erişilemezse -1
+     */
+    public int nextCell(int cell) {
+        switch (flow[cell]) {
+            case UP: return cell - cols;
+            case DOWN: return cell + cols;
+            case LEFT: return cell - 1;
+            case RIGHT: return cell + 1;
+            default: return -1;
+        }
+    }
+
+    /**
+     * @return Hedefe doğru sıradaki pozisyon veya hedefte/erişilemezse null
+     */
+    public Position nextStep(Position from) {
+        if (!isInside(from)) {
+            return null;
+        }
+        int next = nextCell(from.getRow() * cols + from.getCol());
+        return next < 0 ? null : new Position(next / cols, next % cols);
+    }
+
+    /**
+     * Akışı takip ederek hedefe kadar olan yol
+     * @return from -> hedef pozisyonları (erişilemezse boş)
+     */
+    public List<Position> pathFrom(Position from) {
+        int d = distance(from);
+        if (d == UNREACHABLE) {
+            return new ArrayList<>();
+        }
+
+        List<Position> positions = new ArrayList<>(d + 1);
+        int cell = from.getRow() * cols + from.getCol();
+        positions.add(from);
+        while (cell != goal) {
+            cell = nextCell(cell);
+            positions.add(new Position(cell / cols, cell % cols));
+        }
+        return positions;
+    }
+
+    private boolean isInside(Position pos) {
+        return pos != null && pos.getRow() >= 0 && pos.getRow() < rows
+                && pos.getCol() >= 0 && pos.getCol() < cols;
+    }
+
+    public Position getGoal() {
+        return new Position(goal / cols, goal % cols);
+    }
+
+    /**
+     * Alan bu labirentin mevcut haline mi ait?
+     */
+    public boolean isCurrent(Maze maze) {
+        return maze != null && maze.getRows() == rows && maze.getCols() == cols
+                && maze.getVersion() == version;
+    }
+
+    /**
+     * Son update() çağrısında mesafesi onarılan hücre sayısı
+     */
+    public int getLastRepairSize() {
+        return lastRepairSize;
+    }
+}
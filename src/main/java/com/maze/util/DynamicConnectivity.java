@@ -0,0 +1,803 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Hücre açma/kapama altında dinamik bağlantı (Holm - de Lichtenberg - Thorup).
+ *
+ * Graf: walkable hücreler ve aralarındaki 4-komşuluk kenarları.
+ * Engel eklemek hücrenin tüm kenarlarını siler, engel kaldırmak ekler.
+ *
+ * Yapı:
+ * - Her kenarın bir seviyesi vardır (0..L-1, L = log2 V + 1); seviyeler sadece artar.
+ * - F_i: seviyesi >= i olan ağaç kenarlarından oluşan spanning forest.
+ *   Her F_i ağacı bir Euler tour olarak treap'te tutulur (implicit key).
+ * - Treap düğümleri iki bayrak toplar: "seviyesi tam i olan ağaç kenarı" ve
+ *   "seviyesi i olan ağaç-dışı kenarı olan hücre". Bayraklı düğüm O(log V)'de bulunur.
+ *
+ * Ağaç kenarı silinince seviyeden aşağı doğru yerine geçecek (replacement)
+ * kenar aranır; aranan küçük taraftaki kenarlar bir üst seviyeye itilir.
+ * Bu itmeler her kenar için en fazla L kez olduğundan güncelleme
+ * O(log^2 V) amortize, sorgu O(log V) beklenen süredir.
+ *
+ * Izgarada derece en fazla 4 olduğu için bir hücrenin seviye i ağaç-dışı
+ * kenarları, 4 kenar slotu taranarak bulunur (ayrı komşuluk listesi yok).
+ *
+ * Kenar id'leri: e = 2 * u + d; d = 0 -> (u, u + 1), d = 1 -> (u, u + cols).
+ *
+ * Space Complexity: O(V) düğüm + üst seviyelerde itilen kenarlar kadar
+ */
+public final class DynamicConnectivity {
+
+    private static final int NIL = -1;
+
+    // Düğüm bayrakları
+    private static final byte NON_TREE = 1;  // loop: hücrenin bu seviyede ağaç-dışı kenarı var
+    private static final byte TREE = 2;      // arc: kenarın seviyesi tam olarak bu seviye
+    private static final byte LOOP = 4;      // düğüm bir hücreyi temsil eder
+
+    private final int rows;
+    private final int cols;
+    private final int levels;
+    private final long[] open;          // kendi walkable kopyamız
+    private final byte[] edgeLevel;     // kenar id -> seviye (-1: kenar yok)
+    private final long[] treeEdges;     // kenar id -> ağaç kenarı mı (bitset)
+    private final int[] loops;          // seviye 0 loop düğümleri (hücre başına)
+    private final int[] arcs;           // seviye 0 arc düğümleri (2 * kenar + yön)
+    private final LongIntHashMap upperNodes = new LongIntHashMap();  // seviye >= 1 düğümleri
+
+    // Treap düğüm havuzu
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private int[] priority;
+    private int[] vertexCount;  // alt ağaçtaki loop düğümü sayısı
+    private int[] item;         // loop: hücre, arc: 2 * kenar + yön
+    private byte[] own;
+    private byte[] aggregate;
+    private int nodeCount;
+    private int freeList = NIL;
+    private int seed = 0x2545F491;
+
+    private int splitRight;      // son split'in sağ parçası
+    private int[] sequence = new int[16];
+
+    /**
+     * Labirentin mevcut walkable durumundan kurar - O(V)
+     */
+    public DynamicConnectivity(Maze maze) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        int cellCount = maze.getCellCount();
+        this.levels = 32 - Integer.numberOfLeadingZeros(Math.max(1, cellCount));
+        this.open = Arrays.copyOf(maze.getWalkableBits(), maze.getWalkableBits().length);
+        this.edgeLevel = new byte[cellCount * 2];
+        this.treeEdges = new long[(cellCount * 2 + 63) >>> 6];
+        this.loops = new int[cellCount];
+        this.arcs = new int[cellCount * 4];
+        Arrays.fill(edgeLevel, (byte) -1);
+        Arrays.fill(loops, NIL);
+        Arrays.fill(arcs, NIL);
+
+        int capacity = Math.max(16, maze.getWalkableCount() * 3);
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        priority = new int[capacity];
+        vertexCount = new int[capacity];
+        item = new int[capacity];
+        own = new byte[capacity];
+        aggregate = new byte[capacity];
+
+        build();
+    }
+
+    // ===================== Public API =====================
+
+    /**
+     * İki hücre (indeks) aynı bileşende mi? Kapalı hücreler hiçbir şeye bağlı değildir.
+     */
+    public boolean connected(int a, int b) {
+        if (!isOpen(a) || !isOpen(b)) {
+            return false;
+        }
+        return a == b || root(loops[a]) == root(loops[b]);
+    }
+
+    /**
+     * Hücre walkable oldu (engel kaldırıldı): komşularına kenarları ekler
+     */
+    public void cellOpened(int cell) {
+        if (isOpen(cell)) {
+            return;
+        }
+        open[cell >>> 6] |= 1L << cell;
+        loops[cell] = newNode(cell, LOOP);
+
+        int[] incident = new int[4];
+        int count = incidentEdges(cell, incident);
+        for (int i = 0; i < count; i++) {
+            int e = incident[i];
+            if (isOpen(otherEnd(e, cell))) {
+                insertEdge(e);
+            }
+        }
+    }
+
+    /**
+     * Hücre kapandı (engel eklendi): tüm kenarlarını siler
+     */
+    public void cellClosed(int cell) {
+        if (!isOpen(cell)) {
+            return;
+        }
+
+        int[] incident = new int[4];
+        int count = incidentEdges(cell, incident);
+        for (int i = 0; i < count; i++) {
+            if (edgeLevel[incident[i]] >= 0) {
+                deleteEdge(incident[i]);
+            }
+        }
+
+        // Artık her seviyede tek başına; loop düğümlerini bırak
+        freeNode(loops[cell]);
+        loops[cell] = NIL;
+        for (int i = 1; i < levels; i++) {
+            int node = upperNodes.remove(loopKey(i, cell), NIL);
+            if (node != NIL) {
+                freeNode(node);
+            }
+        }
+        open[cell >>> 6] &= ~(1L << cell);
+    }
+
+    public boolean isOpen(int cell) {
+        return (open[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    // ===================== Kurulum =====================
+
+    /**
+     * BFS spanning forest + her ağaç için Euler tour dizisinden doğrusal treap kurulumu
+     */
+    private void build() {
+        int cellCount = loops.length;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (isOpen(cell)) {
+                loops[cell] = newNode(cell, LOOP);
+            }
+        }
+
+        // Tüm kenarlar seviye 0'da
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (!isOpen(cell)) {
+                continue;
+            }
+            int col = cell % cols;
+            if (col < cols - 1 && isOpen(cell + 1)) {
+                edgeLevel[cell * 2] = 0;
+            }
+            if (cell + cols < cellCount && isOpen(cell + cols)) {
+                edgeLevel[cell * 2 + 1] = 0;
+            }
+        }
+
+        // BFS ile spanning forest, DFS ile Euler tour
+        boolean[] visited = new boolean[cellCount];
+        int[] queue = new int[cellCount];
+        int[] parentEdge = new int[cellCount];
+        int[] incident = new int[4];
+
+        for (int rootCell = 0; rootCell < cellCount; rootCell++) {
+            if (!isOpen(rootCell) || visited[rootCell]) {
+                continue;
+            }
+
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = rootCell;
+            visited[rootCell] = true;
+            parentEdge[rootCell] = NIL;
+
+            while (head < tail) {
+                int current = queue[head++];
+                int count = incidentEdges(current, incident);
+                for (int i = 0; i < count; i++) {
+                    int e = incident[i];
+                    if (edgeLevel[e] < 0) {
+                        continue;
+                    }
+                    int next = otherEnd(e, current);
+                    if (!visited[next]) {
+                        visited[next] = true;
+                        parentEdge[next] = e;
+                        setTree(e, true);
+                        queue[tail++] = next;
+                    }
+                }
+            }
+
+            buildTour(rootCell, parentEdge, incident);
+
+            // Ağaç-dışı kenar bayrakları
+            for (int i = 0; i < tail; i++) {
+                refreshNonTreeFlag(0, queue[i]);
+            }
+        }
+    }
+
+    /**
+     * Ağacın Euler tour dizisini üretip treap'e dönüştürür
+     */
+    private void buildTour(int rootCell, int[] parentEdge, int[] incident) {
+        int length = 0;
+
+        // Yığın: (hücre, sıradaki kenar slotu) - sequence'ın sonunu yığın olarak kullanmak
+        // yerine ayrı diziler
+        int[] stackCell = new int[16];
+        int[] stackSlot = new int[16];
+        int top = 0;
+        stackCell[0] = rootCell;
+        stackSlot[0] = 0;
+        length = append(length, loops[rootCell]);
+
+        while (top >= 0) {
+            int cell = stackCell[top];
+            int count = incidentEdges(cell, incident);
+            boolean descended = false;
+
+            while (stackSlot[top] < count) {
+                int e = incident[stackSlot[top]++];
+                int child = otherEnd(e, cell);
+                if (edgeLevel[e] >= 0 && isTree(e) && parentEdge[child] == e) {
+                    // cell -> child arc, alt ağaç, child -> cell arc
+                    length = append(length, createArc(0, e, cell));
+                    length = append(length, loops[child]);
+                    if (++top == stackCell.length) {
+                        stackCell = Arrays.copyOf(stackCell, top * 2);
+                        stackSlot = Arrays.copyOf(stackSlot, top * 2);
+                    }
+                    stackCell[top] = child;
+                    stackSlot[top] = 0;
+                    descended = true;
+                    break;
+                }
+            }
+
+            if (!descended) {
+                int e = parentEdge[cell];
+                top--;
+                if (e != NIL) {
+                    length = append(length, createArc(0, e, cell));
+                }
+            }
+        }
+
+        buildTreap(length);
+    }
+
+    private int append(int length, int node) {
+        if (length == sequence.length) {
+            sequence = Arrays.copyOf(sequence, length * 2);
+        }
+        sequence[length] = node;
+        return length + 1;
+    }
+
+    /**
+     * sequence[0, length) sırasındaki düğümlerden treap kurar (Cartesian tree, O(n))
+     */
+    private int buildTreap(int length) {
+        int[] stack = new int[Math.max(1, length)];
+        int top = -1;
+
+        for (int i = 0; i < length; i++) {
+            int x = sequence[i];
+            int last = NIL;
+            while (top >= 0 && priority[stack[top]] < priority[x]) {
+                last = stack[top--];
+                pull(last);
+            }
+            left[x] = last;
+            if (last != NIL) {
+                parent[last] = x;
+            }
+            if (top >= 0) {
+                right[stack[top]] = x;
+                parent[x] = stack[top];
+            }
+            stack[++top] = x;
+        }
+
+        int root = top >= 0 ? stack[0] : NIL;
+        while (top >= 0) {
+            pull(stack[top--]);
+        }
+        return root;
+    }
+
+    // ===================== HDT kenar işlemleri =====================
+
+    private void insertEdge(int e) {
+        edgeLevel[e] = 0;
+        int u = e >>> 1;
+        int v = otherEnd(e, u);
+
+        if (root(loops[u]) != root(loops[v])) {
+            setTree(e, true);
+            link(0, e);
+        } else {
+            refreshNonTreeFlag(0, u);
+            refreshNonTreeFlag(0, v);
+        }
+    }
+
+    private void deleteEdge(int e) {
+        int edgeLvl = edgeLevel[e];
+        int u = e >>> 1;
+        int v = otherEnd(e, u);
+
+        if (!isTree(e)) {
+            edgeLevel[e] = -1;
+            refreshNonTreeFlag(edgeLvl, u);
+            refreshNonTreeFlag(edgeLvl, v);
+            return;
+        }
+
+        for (int i = 0; i <= edgeLvl; i++) {
+            cut(i, e);
+        }
+        setTree(e, false);
+        edgeLevel[e] = -1;
+
+        for (int i = edgeLvl; i >= 0; i--) {
+            if (replace(i, u, v)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Seviye i'de u ve v ağaçlarını bağlayacak kenar arar
+     * @return true ise bulundu ve F_0..F_i'ye eklendi
+     */
+    private boolean replace(int i, int u, int v) {
+        int small = treeSize(i, u) <= treeSize(i, v) ? u : v;
+        int other = small == u ? v : u;
+        int start = loopNode(i, small, false);
+        if (start == NIL) {
+            return false;
+        }
+
+        // 1. Küçük ağacın seviye i ağaç kenarlarını i+1'e it
+        while (true) {
+            int x = findFlagged(root(start), TREE);
+            if (x == NIL) {
+                break;
+            }
+            int e = item[x] >>> 1;
+            setOwnFlag(x, TREE, false);
+            edgeLevel[e] = (byte) (i + 1);
+            link(i + 1, e);
+        }
+
+        // 2. Küçük ağaçtaki seviye i ağaç-dışı kenarlar: ya replacement ya i+1'e it
+        int[] incident = new int[4];
+        while (true) {
+            int x = findFlagged(root(start), NON_TREE);
+            if (x == NIL) {
+                return false;
+            }
+
+            int cell = item[x];
+            int count = incidentEdges(cell, incident);
+            for (int k = 0; k < count; k++) {
+                int f = incident[k];
+                if (edgeLevel[f] != i || isTree(f)) {
+                    continue;
+                }
+
+                int y = otherEnd(f, cell);
+                if (connectedAt(i, y, other)) {
+                    setTree(f, true);
+                    for (int j = 0; j <= i; j++) {
+                        link(j, f);
+                    }
+                    refreshNonTreeFlag(i, cell);
+                    refreshNonTreeFlag(i, y);
+                    return true;
+                }
+
+                edgeLevel[f] = (byte) (i + 1);
+                refreshNonTreeFlag(i, y);
+                refreshNonTreeFlag(i + 1, y);
+                refreshNonTreeFlag(i + 1, cell);
+            }
+            refreshNonTreeFlag(i, cell);
+        }
+    }
+
+    private boolean connectedAt(int lvl, int a, int b) {
+        if (a == b) {
+            return true;
+        }
+        int na = loopNode(lvl, a, false);
+        int nb = loopNode(lvl, b, false);
+        return na != NIL && nb != NIL && root(na) == root(nb);
+    }
+
+    private int treeSize(int lvl, int cell) {
+        int node = loopNode(lvl, cell, false);
+        return node == NIL ? 1 : vertexCount[root(node)];
+    }
+
+    /**
+     * Kenarı F_lvl'e ekler: reroot(u) + (u->v) + reroot(v) + (v->u)
+     */
+    private void link(int lvl, int e) {
+        int u = e >>> 1;
+        int v = otherEnd(e, u);
+        int ru = reroot(loopNode(lvl, u, true));
+        int rv = reroot(loopNode(lvl, v, true));
+        int forward = createArc(lvl, e, u);
+        int backward = createArc(lvl, e, v);
+        merge(merge(merge(ru, forward), rv), backward);
+    }
+
+    /**
+     * Kenarı F_lvl'den çıkarır; tour iki parçaya ayrılır
+     */
+    private void cut(int lvl, int e) {
+        int a = arcNode(lvl, e, 0);
+        int b = arcNode(lvl, e, 1);
+
+        int outerLeft = splitBefore(a);
+        int rest = splitRight;
+
+        int first;
+        int second;
+        if (root(b) == rest) {
+            first = a;
+            second = b;
+        } else {
+            // b, a'dan önce geliyor: b'den itibaren böl
+            outerLeft = splitBefore(b);
+            merge(splitRight, rest);
+            first = b;
+            second = a;
+        }
+
+        // first ... second ... ; second'dan sonrasını ayır
+        splitAfter(second);
+        int outerRight = splitRight;
+        merge(outerLeft, outerRight);
+
+        // first ve second'ı ortadaki alt ağaçtan ayır
+        splitAfter(first);
+        splitBefore(second);
+
+        releaseArc(lvl, e, 0, a);
+        releaseArc(lvl, e, 1, b);
+    }
+
+    // ===================== Bayraklar =====================
+
+    private void refreshNonTreeFlag(int lvl, int cell) {
+        if (!isOpen(cell)) {
+            return;
+        }
+
+        boolean has = false;
+        int[] incident = new int[4];
+        int count = incidentEdges(cell, incident);
+        for (int k = 0; k < count && !has; k++) {
+            int f = incident[k];
+            has = edgeLevel[f] == lvl && !isTree(f);
+        }
+
+        int node = loopNode(lvl, cell, has);
+        if (node != NIL) {
+            setOwnFlag(node, NON_TREE, has);
+        }
+    }
+
+    private void setOwnFlag(int node, byte flag, boolean on) {
+        byte updated = (byte) (on ? own[node] | flag : own[node] & ~flag);
+        if (updated != own[node]) {
+            own[node] = updated;
+            for (int x = node; x != NIL; x = parent[x]) {
+                pull(x);
+            }
+        }
+    }
+
+    /**
+     * Alt ağaçta bayrağı taşıyan herhangi bir düğümü bulur
+     */
+    private int findFlagged(int root, byte flag) {
+        if ((aggregate[root] & flag) == 0) {
+            return NIL;
+        }
+        int x = root;
+        while ((own[x] & flag) == 0) {
+            int l = left[x];
+            x = l != NIL && (aggregate[l] & flag) != 0 ? l : right[x];
+        }
+        return x;
+    }
+
+    // ===================== Düğüm eşlemeleri =====================
+
+    private static long loopKey(int lvl, int cell) {
+        return ((long) lvl << 40) | ((long) cell << 1);
+    }
+
+    private static long arcKey(int lvl, int e, int direction) {
+        return ((long) lvl << 40) | (((long) e * 2 + direction) << 1) | 1L;
+    }
+
+    private int loopNode(int lvl, int cell, boolean create) {
+        if (lvl == 0) {
+            return loops[cell];
+        }
+        long key = loopKey(lvl, cell);
+        int node = upperNodes.get(key, NIL);
+        if (node == NIL && create) {
+            node = newNode(cell, LOOP);
+            upperNodes.put(key, node);
+        }
+        return node;
+    }
+
+    private int arcNode(int lvl, int e, int direction) {
+        return lvl == 0 ? arcs[e * 2 + direction] : upperNodes.get(arcKey(lvl, e, direction), NIL);
+    }
+
+    /**
+     * from hücresinden çıkan yönde arc düğümü oluşturur
+     */
+    private int createArc(int lvl, int e, int from) {
+        int direction = from == e >>> 1 ? 0 : 1;
+        // Ağaç kenarı bayrağı sadece ileri arc'ta ve kenarın kendi seviyesinde
+        byte flags = direction == 0 && edgeLevel[e] == lvl ? TREE : 0;
+        int node = newNode(e * 2 + direction, flags);
+        if (lvl == 0) {
+            arcs[e * 2 + direction] = node;
+        } else {
+            upperNodes.put(arcKey(lvl, e, direction), node);
+        }
+        return node;
+    }
+
+    private void releaseArc(int lvl, int e, int direction, int node) {
+        if (lvl == 0) {
+            arcs[e * 2 + direction] = NIL;
+        } else {
+            upperNodes.remove(arcKey(lvl, e, direction), NIL);
+        }
+        freeNode(node);
+    }
+
+    // ===================== Izgara yardımcıları =====================
+
+    private int incidentEdges(int cell, int[] out) {
+        int row = cell / cols;
+        int col = cell - row * cols;
+        int count = 0;
+        if (col < cols - 1) out[count++] = cell * 2;
+        if (row < rows - 1) out[count++] = cell * 2 + 1;
+        if (col > 0) out[count++] = (cell - 1) * 2;
+        if (row > 0) out[count++] = (cell - cols) * 2 + 1;
+        return count;
+    }
+
+    private int otherEnd(int e, int cell) {
+        int from = e >>> 1;
+        int to = (e & 1) == 0 ? from + 1 : from + cols;
+        return cell == from ? to : from;
+    }
+
+    private boolean isTree(int e) {
+        return (treeEdges[e >>> 6] & (1L << e)) != 0;
+    }
+
+    private void setTree(int e, boolean tree) {
+        if (tree) {
+            treeEdges[e >>> 6] |= 1L << e;
+        } else {
+            treeEdges[e >>> 6] &= ~(1L << e);
+        }
+    }
+
+    // ===================== Treap =====================
+
+    private int newNode(int value, byte flags) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = parent[node];
+        } else {
+            if (nodeCount == left.length) {
+                grow();
+            }
+            node = nodeCount++;
+        }
+
+        seed ^= seed << 13;
+        seed ^= seed >>> 17;
+        seed ^= seed << 5;
+
+        left[node] = NIL;
+        right[node] = NIL;
+        parent[node] = NIL;
+        priority[node] = seed;
+        item[node] = value;
+        own[node] = flags;
+        pull(node);
+        return node;
+    }
+
+    private void freeNode(int node) {
+        if (node == NIL) {
+            return;
+        }
+        parent[node] = freeList;
+        freeList = node;
+    }
+
+    private void grow() {
+        int capacity = left.length * 2;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        vertexCount = Arrays.copyOf(vertexCount, capacity);
+        item = Arrays.copyOf(item, capacity);
+        own = Arrays.copyOf(own, capacity);
+        aggregate = Arrays.copyOf(aggregate, capacity);
+    }
+
+    private void pull(int x) {
+        int l = left[x];
+        int r = right[x];
+        int count = (own[x] & LOOP) != 0 ? 1 : 0;
+        byte flags = own[x];
+        if (l != NIL) {
+            count += vertexCount[l];
+            flags |= aggregate[l];
+        }
+        if (r != NIL) {
+            count += vertexCount[r];
+            flags |= aggregate[r];
+        }
+        vertexCount[x] = count;
+        aggregate[x] = flags;
+    }
+
+    private int root(int x) {
+        while (parent[x] != NIL) {
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * İki treap'i sırayla birleştirir (ikisi de kök olmalı)
+     */
+    private int merge(int a, int b) {
+        if (a == NIL) {
+            return b;
+        }
+        if (b == NIL) {
+            return a;
+        }
+
+        if (priority[a] > priority[b]) {
+            int merged = merge(right[a], b);
+            right[a] = merged;
+            parent[merged] = a;
+            pull(a);
+            parent[a] = NIL;
+            return a;
+        } else {
+            int merged = merge(a, left[b]);
+            left[b] = merged;
+            parent[merged] = b;
+            pull(b);
+            parent[b] = NIL;
+            return b;
+        }
+    }
+
+    /**
+     * x'ten önce böler
+     * @return Sol parçanın kökü (x ile başlayan sağ parça splitRight'ta)
+     */
+    private int splitBefore(int x) {
+        int leftRoot = left[x];
+        if (leftRoot != NIL) {
+            parent[leftRoot] = NIL;
+            left[x] = NIL;
+        }
+        pull(x);
+
+        int rightRoot = x;
+        int current = x;
+        int p = parent[x];
+        parent[x] = NIL;
+
+        while (p != NIL) {
+            int next = parent[p];
+            if (right[p] == current) {
+                right[p] = leftRoot;
+                if (leftRoot != NIL) {
+                    parent[leftRoot] = p;
+                }
+                leftRoot = p;
+            } else {
+                left[p] = rightRoot;
+                parent[rightRoot] = p;
+                rightRoot = p;
+            }
+            pull(p);
+            parent[p] = NIL;
+            current = p;
+            p = next;
+        }
+
+        splitRight = rightRoot;
+        return leftRoot;
+    }
+
+    /**
+     * x'ten sonra böler
+     * @return x ile biten sol parçanın kökü (sağ parça splitRight'ta)
+     */
+    private int splitAfter(int x) {
+        int rightRoot = right[x];
+        if (rightRoot != NIL) {
+            parent[rightRoot] = NIL;
+            right[x] = NIL;
+        }
+        pull(x);
+
+        int leftRoot = x;
+        int current = x;
+        int p = parent[x];
+        parent[x] = NIL;
+
+        while (p != NIL) {
+            int next = parent[p];
+            if (left[p] == current) {
+                left[p] = rightRoot;
+                if (rightRoot != NIL) {
+                    parent[rightRoot] = p;
+                }
+                rightRoot = p;
+            } else {
+                right[p] = leftRoot;
+                parent[leftRoot] = p;
+                leftRoot = p;
+            }
+            pull(p);
+            parent[p] = NIL;
+            current = p;
+            p = next;
+        }
+
+        splitRight = rightRoot;
+        return leftRoot;
+    }
+
+    /**
+     * Tour'u x ile başlayacak şekilde döndürür
+     * @return Yeni kök
+     */
+    private int reroot(int x) {
+        int before = splitBefore(x);
+        return merge(splitRight, before);
+    }
+}
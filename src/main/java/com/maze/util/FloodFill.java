@@ -0,0 +1,247 @@
+package com.maze.util;
+
+import com.maze.model.*;
+
+/**
+ * Kelime-paralel (bit-parallel) flood fill.
+ *
+ * Grid satır satır long kelimelere yerleştirilir ve erişilebilirlik
+ * hücre hücre değil 64 hücrelik kelimeler halinde yayılır:
+ *
+ * 1. Satır içi: tohum bitleri, walkable koşuları (run) boyunca
+ *    Kogge-Stone "occluded fill" ile her iki yöne log2(64) = 6 adımda yayılır;
+ *    koşu kelime sınırını aşarsa taşma biti komşu kelimeye aktarılır.
+ * 2. Satırlar arası: bir satırda yeni erişilen bitler, üst/alt satırın
+ *    aynı kelimesinde walkable ve henüz erişilmemiş bitlerle AND'lenip
+ *    o satırın bekleyen tohumlarına eklenir; satır iş listesine girer.
+ * 3. İş listesi boşalınca (fixpoint) maske hazırdır.
+ *
+ * Her satır işlemesi en az bir yeni koşu keşfeder; sadece tohumlu
+ * kelimeler ve taşmanın ulaştığı kelimeler işlenir.
+ *
+ * Time Complexity: O(koşu sayısı * log 64 + V / 64)
+ * Space Complexity: O(V / 64)
+ */
+public final class FloodFill {
+
+    private FloodFill() {
+    }
+
+    /**
+     * source'tan 4-yönlü erişilebilen walkable hücreleri hesaplar
+     * @param maze Labirent
+     * @param source Kaynak (walkable değilse maske boş döner)
+     * @return Erişilebilirlik maskesi
+     */
+    public static ReachabilityMask reachableFrom(Maze maze, Position source) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        int rowWords = (cols + 63) >>> 6;
+        long[] reached = new long[rows * rowWords];
+
+        if (source == null || !maze.isWalkable(source.getRow(), source.getCol())) {
+            return new ReachabilityMask(rows, cols, rowWords, reached, 0);
+        }
+
+        long[] open = alignRows(maze, rowWords);
+        long[] pending = new long[rows * rowWords];
+
+        // Satır iş listesi (dairesel kuyruk, her satır en fazla bir kez içeride)
+        int[] queue = new int[rows];
+        boolean[] queued = new boolean[rows];
+        int head = 0;
+        int size = 0;
+
+        int sourceRow = source.getRow();
+        pending[sourceRow * rowWords + (source.getCol() >>> 6)] = 1L << source.getCol();
+        queue[0] = sourceRow;
+        queued[sourceRow] = true;
+        size = 1;
+
+        int count = 0;
+
+        while (size > 0) {
+            int row = queue[head];
+            head = head + 1 == rows ? 0 : head + 1;
+            size--;
+            queued[row] = false;
+
+            int base = row * rowWords;
+            for (int k = 0; k < rowWords; k++) {
+                long seed = pending[base + k];
+                if (seed == 0) {
+                    continue;
+                }
+                pending[base + k] = 0;
+                count += spreadRow(open, reached, pending, base, k, seed, rowWords);
+            }
+
+            // Bu satırda yeni erişilen bitler pending'e komşu satırlar için yazıldı
+            for (int neighbor = row - 1; neighbor <= row + 1; neighbor += 2) {
+                if (neighbor < 0 || neighbor >= rows || queued[neighbor]) {
+                    continue;
+                }
+                if (hasPending(pending, neighbor * rowWords, rowWords)) {
+                    int tail = head + size;
+                    queue[tail >= rows ? tail - rows : tail] = neighbor;
+                    queued[neighbor] = true;
+                    size++;
+                }
+            }
+        }
+
+        return new ReachabilityMask(rows, cols, rowWords, reached, count);
+    }
+
+    /**
+     * Tohumu satır içinde yayar, komşu satırlara yeni tohumlar bırakır
+     * @return Yeni erişilen hücre sayısı
+     */
+    private static int spreadRow(long[] open, long[] reached, long[] pending,
+                                 int base, int k, long seed, int rowWords) {
+        int added = 0;
+
+        // Yukarı (yüksek bitler / sağa doğru) taşma zinciri
+        int word = k;
+        long carry = seed;
+        while (true) {
+            long newBits = fill(carry & ~reached[base + word], open[base + word]) & ~reached[base + word];
+            if (newBits == 0) {
+                break;
+            }
+            added += markReached(open, reached, pending, base, word, newBits, rowWords);
+
+            // Koşu bu kelimenin son bitine ulaştıysa sonraki kelimenin ilk bitine taşar
+            if (newBits >= 0 || word + 1 == rowWords) {
+                break;
+            }
+            word++;
+            carry = 1L;
+        }
+
+        // Aşağı (düşük bitler / sola doğru) taşma zinciri
+        word = k;
+        while ((reached[base + word] & 1L) != 0 && word > 0) {
+            word--;
+            long newBits = fill(Long.MIN_VALUE & ~reached[base + word], open[base + word])
+                    & ~reached[base + word];
+            if (newBits == 0) {
+                break;
+            }
+            added += markReached(open, reached, pending, base, word, newBits, rowWords);
+
+            // Sağa doğru yayılan bitler zaten erişilmiş kelimelere çarpar; sadece sola devam
+        }
+
+        return added;
+    }
+
+    private static int markReached(long[] open, long[] reached, long[] pending,
+                                   int base, int word, long newBits, int rowWords) {
+        reached[base + word] |= newBits;
+
+        int up = base - rowWords + word;
+        if (up >= 0) {
+            pending[up] |= newBits & open[up] & ~reached[up];
+        }
+        int down = base + rowWords + word;
+        if (down < reached.length) {
+            pending[down] |= newBits & open[down] & ~reached[down];
+        }
+
+        return Long.bitCount(newBits);
+    }
+
+    private static boolean hasPending(long[] pending, int base, int rowWords) {
+        for (int k = 0; k < rowWords; k++) {
+            if (pending[base + k] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tohum bitlerini open koşuları boyunca her iki yöne yayar (Kogge-Stone occluded fill)
+     * @param seed Tohumlar (open'ın alt kümesi olmalı)
+     * @param open Geçilebilir bitler
+     * @return Tohumları içeren koşuların birleşimi
+     */
+    static long fill(long seed, long open) {
+        seed &= open;
+        if (seed == 0) {
+            return 0;
+        }
+
+        // Yüksek bitlere doğru
+        long gen = seed;
+        long pro = open;
+        gen |= pro & (gen << 1);
+        pro &= pro << 1;
+        gen |= pro & (gen << 2);
+        pro &= pro << 2;
+        gen |= pro & (gen << 4);
+        pro &= pro << 4;
+        gen |= pro & (gen << 8);
+        pro &= pro << 8;
+        gen |= pro & (gen << 16);
+        pro &= pro << 16;
+        gen |= pro & (gen << 32);
+
+        // Düşük bitlere doğru
+        pro = open;
+        gen |= pro & (gen >>> 1);
+        pro &= pro >>> 1;
+        gen |= pro & (gen >>> 2);
+        pro &= pro >>> 2;
+        gen |= pro & (gen >>> 4);
+        pro &= pro >>> 4;
+        gen |= pro & (gen >>> 8);
+        pro &= pro >>> 8;
+        gen |= pro & (gen >>> 16);
+        pro &= pro >>> 16;
+        gen |= pro & (gen >>> 32);
+
+        return gen;
+    }
+
+    /**
+     * Maze'in row-major walkable bitset'ini satır hizalı kelimelere kopyalar
+     */
+    private static long[] alignRows(Maze maze, int rowWords) {
+        int rows = maze.getRows();
+        int cols = maze.getCols();
+        long[] walkable = maze.getWalkableBits();
+        long[] aligned = new long[rows * rowWords];
+
+        int tailBits = cols & 63;
+        long tailMask = tailBits == 0 ? -1L : (1L << tailBits) - 1;
+
+        for (int r = 0; r < rows; r++) {
+            int rowStart = r * cols;
+            for (int k = 0; k < rowWords; k++) {
+                long word = bitsAt(walkable, rowStart + (k << 6));
+                if (k == rowWords - 1) {
+                    word &= tailMask;
+                }
+                aligned[r * rowWords + k] = word;
+            }
+        }
+
+        return aligned;
+    }
+
+    /**
+     * p. bitten başlayan 64 bit (dizi sonrası bitler 0)
+     */
+    private static long bitsAt(long[] bits, int p) {
+        int word = p >>> 6;
+        int shift = p & 63;
+        long low = word < bits.length ? bits[word] : 0L;
+        if (shift == 0) {
+            return low;
+        }
+        long high = word + 1 < bits.length ? bits[word + 1] : 0L;
+        return (low >>> shift) | (high << (64 - shift));
+    }
+}
@@ -0,0 +1,242 @@
+package com.maze.util;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary min-heap.
+ * Elemanlar 0..capacity-1 arası int id'lerdir (örn. hücre indeksi),
+ * öncelikler long anahtarlardır.
+ *
+ * Her elemanın heap içindeki yeri tutulduğu için gerçek decrease-key
+ * (ve increase-key) yapılabilir; eleman silip tekrar eklemeye gerek kalmaz.
+ *
+ * Time Complexity:
+ * - insert / decreaseKey: O(log_d n)
+ * - poll / remove: O(d log_d n)
+ * - contains / getKey: O(1)
+ */
+public class IndexedMinHeap {
+    private static final int ABSENT = -1;
+
+    private final int arity;
+    private int[] heap;      // heap[i] = eleman id
+    private int[] position;  // position[id] = heap içindeki indeks (yoksa -1)
+    private long[] keys;     // keys[id] = öncelik
+    private int size;
+
+    /**
+     * Binary heap oluşturur
+     * @param capacity Eleman id üst sınırı
+     */
+    public IndexedMinHeap(int capacity) {
+        this(capacity, 2);
+    }
+
+    /**
+     * d-ary heap oluşturur
+     * @param capacity Eleman id üst sınırı
+     * @param arity Her düğümün çocuk sayısı (d >= 2)
+     */
+    public IndexedMinHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(position, ABSENT);
+    }
+
+    /**
+     * Kapasiteyi gerekirse büyütür (heap boşken çağrılmalı)
+     * @param capacity Yeni eleman id üst sınırı
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > position.length) {
+            clear();
+            heap = new int[capacity];
+            position = new int[capacity];
+            keys = new long[capacity];
+            Arrays.fill(position, ABSENT);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return position[id] != ABSENT;
+    }
+
+    public long getKey(int id) {
+        return keys[id];
+    }
+
+    /**
+     * Eleman ekler
+     * @param id Eleman (heap'te olmamalı)
+     * @param key Öncelik
+     */
+    public void insert(int id, long key) {
+        keys[id] = key;
+        heap[size] = id;
+        position[id] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Anahtarı küçültür
+     * @param id Heap'teki eleman
+     * @param key Yeni (daha küçük) öncelik
+     */
+    public void decreaseKey(int id, long key) {
+        keys[id] = key;
+        siftUp(position[id]);
+    }
+
+    /**
+     * Eleman yoksa ekler, varsa anahtarını her iki yönde günceller
+     * @param id Eleman
+     * @param key Yeni öncelik
+     */
+    public void update(int id, long key) {
+        if (!contains(id)) {
+            insert(id, key);
+            return;
+        }
+
+        long old = keys[id];
+        keys[id] = key;
+        if (key < old) {
+            siftUp(position[id]);
+        } else if (key > old) {
+            siftDown(position[id]);
+        }
+    }
+
+    /**
+     * En küçük anahtarlı elemanı döndürür (çıkarmadan)
+     */
+    public int peek() {
+        return heap[0];
+    }
+
+    public long peekKey() {
+        return keys[heap[0]];
+    }
+
+    /**
+     * En küçük anahtarlı elemanı çıkarır
+     * @return Eleman id
+     */
+    public int poll() {
+        int top = heap[0];
+        removeAt(0);
+        return top;
+    }
+
+    /**
+     * Elemanı heap'ten çıkarır (yoksa bir şey yapmaz)
+     * @param id Eleman
+     */
+    public void remove(int id) {
+        int index = position[id];
+        if (index != ABSENT) {
+            removeAt(index);
+        }
+    }
+
+    /**
+     * Heap'i boşaltır - O(size), tüm kapasite taranmaz
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void removeAt(int index) {
+        int removed = heap[index];
+        position[removed] = ABSENT;
+        size--;
+
+        if (index == size) {
+            return;
+        }
+
+        int last = heap[size];
+        heap[index] = last;
+        position[last] = index;
+
+        // Son eleman parent'ından küçükse yukarı, değilse aşağı gider
+        if (index > 0 && keys[last] < keys[heap[(index - 1) / arity]]) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        int id = heap[index];
+        long key = keys[id];
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / arity;
+            int parent = heap[parentIndex];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[index] = parent;
+            position[parent] = index;
+            index = parentIndex;
+        }
+
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    private void siftDown(int index) {
+        int id = heap[index];
+        long key = keys[id];
+
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+
+            // En küçük çocuğu bul
+            int lastChild = Math.min(firstChild + arity, size);
+            int best = firstChild;
+            for (int c = firstChild + 1; c < lastChild; c++) {
+                if (keys[heap[c]] < keys[heap[best]]) {
+                    best = c;
+                }
+            }
+
+            if (keys[heap[best]] >= key) {
+                break;
+            }
+
+            heap[index] = heap[best];
+            position[heap[index]] = index;
+            index = best;
+        }
+
+        heap[index] = id;
+        position[id] = index;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedMinHeap{size=" + size + ", arity=" + arity + "}";
+    }
+}
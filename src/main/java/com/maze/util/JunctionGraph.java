@@ -0,0 +1,486 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+
+import java.util.*;
+
+/**
+ * Koridorları sıkıştırılmış junction graph.
+ *
+ * Derecesi 2 olmayan walkable hücreler (kavşak, çıkmaz sokak, izole hücre)
+ * düğümdür; aralarındaki derece-2 hücre zincirleri (koridorlar) tek bir
+ * ağırlıklı kenara indirgenir. Kenarın iç hücreleri sırasıyla saklanır, her
+ * koridor hücresi için kenarı ve kenar üzerindeki ofseti tutulur. Hiç düğüm
+ * içermeyen halka şeklindeki koridorlarda bir hücre düğüme yükseltilir.
+ *
+ * Sorgu: start/end bir koridorun ortasındaysa kenarın iki ucuna (ofset ve
+ * kalan uzunluk maliyetiyle) geçici bağlanır; aynı koridordaysa doğrudan
+ * yol da aday olur. Küçük graf üzerinde Manhattan heuristic'li A* koşar ve
+ * sonuç koridor hücreleriyle tam pozisyon listesine açılır.
+ *
+ * Maze'in o anki haline aittir (getVersion); engel değişince yeniden kurulmalıdır.
+ * Sorgular thread başına ayrı tamponlarla çalışır (thread-safe).
+ *
+ * Time Complexity: Kurulum O(V), sorgu O(J log J + L) (J: junction, L: yol uzunluğu)
+ * Space Complexity: O(V)
+ */
+public final class JunctionGraph {
+
+    private final int rows;
+    private final int cols;
+    private final int version;
+
+    // Hücre -> graf
+    private final int[] nodeOf;      // düğüm id'si (-1: düğüm değil)
+    private final int[] edgeOf;      // koridor hücresinin kenarı (-1: koridor değil)
+    private final int[] offsetOf;    // koridor hücresinin kenar üzerindeki ofseti (1..length-1)
+
+    // Düğümler
+    private final int nodeCount;
+    private final int[] nodeCell;
+    private final int[] adjStart;    // CSR: düğümün kenarları [adjStart[v], adjStart[v + 1])
+    private final int[] adjEdge;
+
+    // Kenarlar: a (ofset 0) -> iç hücreler (ofset 1..length-1) -> b (ofset length)
+    private final int edgeCount;
+    private final int[] edgeA;
+    private final int[] edgeB;
+    private final int[] edgeLength;
+    private final int[] interiorStart;
+    private final int[] interiorCells;
+
+    private final ThreadLocal<Query> queries = ThreadLocal.withInitial(() -> new Query(this));
+
+    private JunctionGraph(Maze maze, Builder b) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.version = maze.getVersion();
+        this.nodeOf = b.nodeOf;
+        this.edgeOf = b.edgeOf;
+        this.offsetOf = b.offsetOf;
+        this.nodeCount = b.nodeCount;
+        this.nodeCell = Arrays.copyOf(b.nodeCell, b.nodeCount);
+        this.edgeCount = b.edgeCount;
+        this.edgeA = Arrays.copyOf(b.edgeA, b.edgeCount);
+        this.edgeB = Arrays.copyOf(b.edgeB, b.edgeCount);
+        this.edgeLength = Arrays.copyOf(b.edgeLength, b.edgeCount);
+        this.interiorStart = Arrays.copyOf(b.interiorStart, b.edgeCount);
+        this.interiorCells = Arrays.copyOf(b.interiorCells, b.interiorCount);
+
+        // Kenar listelerini CSR'a çevir (self-loop bir kez yeterli)
+        adjStart = new int[nodeCount + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            adjStart[edgeA[e] + 1]++;
+            if (edgeB[e] != edgeA[e]) {
+                adjStart[edgeB[e] + 1]++;
+            }
+        }
+        for (int v = 0; v < nodeCount; v++) {
+            adjStart[v + 1] += adjStart[v];
+        }
+        adjEdge = new int[adjStart[nodeCount]];
+        int[] fill = Arrays.copyOf(adjStart, nodeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            adjEdge[fill[edgeA[e]]++] = e;
+            if (edgeB[e] != edgeA[e]) {
+                adjEdge[fill[edgeB[e]]++] = e;
+            }
+        }
+    }
+
+    /**
+     * Labirentin mevcut walkable hali için junction graph'ı kurar
+     */
+    public static JunctionGraph build(Maze maze) {
+        Builder builder = new Builder(maze);
+        builder.build();
+        return new JunctionGraph(maze, builder);
+    }
+
+    // ===================== Sorgular =====================
+
+    /**
+     * En kısa yol (koridorlar açılmış tam hücre listesi)
+     * @return from -> to pozisyonları (erişilemezse boş)
+     */
+    public List<Position> shortestPath(Position from, Position to) {
+        return shortestPath(from, to, null);
+    }
+
+    /**
+     * En kısa yol; expanded null değilse A*'ın genişlettiği düğümler sırayla eklenir
+     */
+    public List<Position> shortestPath(Position from, Position to, List<Position> expanded) {
+        List<Position> positions = new ArrayList<>();
+        int s = cellAt(from);
+        int t = cellAt(to);
+        if (s < 0 || t < 0) {
+            return positions;
+        }
+
+        positions.add(toPosition(s));
+        if (s == t) {
+            return positions;
+        }
+
+        Query query = queries.get();
+        if (!query.search(s, t, expanded)) {
+            return new ArrayList<>();
+        }
+        query.expand(positions);
+        return positions;
+    }
+
+    /**
+     * En kısa yol uzunluğu (adım sayısı)
+     * @return Mesafe veya -1
+     */
+    public int distance(Position from, Position to) {
+        int s = cellAt(from);
+        int t = cellAt(to);
+        if (s < 0 || t < 0) {
+            return -1;
+        }
+        if (s == t) {
+            return 0;
+        }
+
+        Query query = queries.get();
+        return query.search(s, t, null) ? query.best : -1;
+    }
+
+    private int cellAt(Position pos) {
+        if (pos == null || pos.getRow() < 0 || pos.getRow() >= rows
+                || pos.getCol() < 0 || pos.getCol() >= cols) {
+            return -1;
+        }
+        int cell = pos.getRow() * cols + pos.getCol();
+        return nodeOf[cell] >= 0 || edgeOf[cell] >= 0 ? cell : -1;
+    }
+
+    private Position toPosition(int cell) {
+        return new Position(cell / cols, cell % cols);
+    }
+
+    /**
+     * Kenarın ofsetteki hücresi (0: a, length: b)
+     */
+    private int cellOnEdge(int e, int offset) {
+        if (offset == 0) {
+            return nodeCell[edgeA[e]];
+        }
+        if (offset == edgeLength[e]) {
+            return nodeCell[edgeB[e]];
+        }
+        return interiorCells[interiorStart[e] + offset - 1];
+    }
+
+    /**
+     * Graf bu labirentin mevcut haline mi ait?
+     */
+    public boolean isCurrent(Maze maze) {
+        return maze != null && maze.getRows() == rows && maze.getCols() == cols
+                && maze.getVersion() == version;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    // ===================== Sorgu durumu =====================
+
+    /**
+     * Thread başına A* tamponları. Düğüm id'leri: 0..nodeCount-1 junction'lar,
+     * nodeCount geçici start, nodeCount + 1 geçici goal.
+     */
+    private static final class Query {
+        private final JunctionGraph graph;
+        private final int startId;
+        private final int goalId;
+        private final int[] g;
+        private final int[] stamp;
+        private final int[] parent;
+        private final int[] viaEdge;     // parent'tan gelinen kenar
+        private final int[] fromOffset;  // kenar üzerinde parent'ın ofseti
+        private final int[] toOffset;    // kenar üzerinde düğümün ofseti
+        private final IndexedMinHeap open;
+        private int epoch;
+        int best;
+
+        // Geçerli sorgunun uç noktaları
+        private int target;
+        private int goalRow;
+        private int goalCol;
+
+        Query(JunctionGraph graph) {
+            this.graph = graph;
+            int size = graph.nodeCount + 2;
+            this.startId = graph.nodeCount;
+            this.goalId = graph.nodeCount + 1;
+            g = new int[size];
+            stamp = new int[size];
+            parent = new int[size];
+            viaEdge = new int[size];
+            fromOffset = new int[size];
+            toOffset = new int[size];
+            open = new IndexedMinHeap(size, 4);
+        }
+
+        boolean search(int s, int t, List<Position> expanded) {
+            if (epoch == Integer.MAX_VALUE) {
+                Arrays.fill(stamp, 0);
+                epoch = 0;
+            }
+            epoch++;
+            open.clear();
+
+            target = t;
+            goalRow = t / graph.cols;
+            goalCol = t % graph.cols;
+
+            int startNode = graph.nodeOf[s];
+            int first = startNode >= 0 ? startNode : startId;
+            stamp[first] = epoch;
+            g[first] = 0;
+            parent[first] = -1;
+            open.insert(first, priority(0, s));
+
+            int goalNode = graph.nodeOf[t];
+            int goal = goalNode >= 0 ? goalNode : goalId;
+            int goalEdge = graph.edgeOf[t];
+            int goalOffset = goalNode >= 0 ? 0 : graph.offsetOf[t];
+
+            while (!open.isEmpty()) {
+                int u = open.poll();
+                if (u == goal) {
+                    best = g[u];
+                    return true;
+                }
+
+                int gu = g[u];
+                if (u == startId) {
+                    // Start koridorun ortasında: iki uca ve (aynı koridorsa) doğrudan hedefe
+                    int e = graph.edgeOf[s];
+                    int offset = graph.offsetOf[s];
+                    relax(u, graph.edgeA[e], e, offset, 0, gu + offset);
+                    relax(u, graph.edgeB[e], e, offset, graph.edgeLength[e], gu + graph.edgeLength[e] - offset);
+                    if (goalEdge == e) {
+                        relax(u, goalId, e, offset, goalOffset, gu + Math.abs(goalOffset - offset));
+                    }
+                    continue;
+                }
+
+                if (expanded != null) {
+                    expanded.add(graph.toPosition(graph.nodeCell[u]));
+                }
+
+                for (int i = graph.adjStart[u]; i < graph.adjStart[u + 1]; i++) {
+                    int e = graph.adjEdge[i];
+                    int length = graph.edgeLength[e];
+                    if (graph.edgeA[e] == u) {
+                        relax(u, graph.edgeB[e], e, 0, length, gu + length);
+                    }
+                    if (graph.edgeB[e] == u) {
+                        relax(u, graph.edgeA[e], e, length, 0, gu + length);
+                    }
+                }
+
+                // Hedef koridorun ortasındaysa, koridorun uçlarından hedefe
+                if (goal == goalId) {
+                    int length = graph.edgeLength[goalEdge];
+                    if (graph.edgeA[goalEdge] == u) {
+                        relax(u, goalId, goalEdge, 0, goalOffset, gu + goalOffset);
+                    }
+                    if (graph.edgeB[goalEdge] == u) {
+                        relax(u, goalId, goalEdge, length, goalOffset, gu + length - goalOffset);
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private void relax(int u, int v, int e, int from, int to, int cost) {
+            if (stamp[v] != epoch || cost < g[v]) {
+                stamp[v] = epoch;
+                g[v] = cost;
+                parent[v] = u;
+                viaEdge[v] = e;
+                fromOffset[v] = from;
+                toOffset[v] = to;
+                int cell = v == goalId ? target : graph.nodeCell[v];
+                open.update(v, priority(cost, cell));
+            }
+        }
+
+        private long priority(int cost, int cell) {
+            int h = Math.abs(cell / graph.cols - goalRow) + Math.abs(cell % graph.cols - goalCol);
+            return ((long) (cost + h) << 32) | h;
+        }
+
+        /**
+         * Bulunan yolu koridor hücreleriyle açar (start zaten listede)
+         */
+        void expand(List<Position> positions) {
+            int goalNode = graph.nodeOf[target];
+            int v = goalNode >= 0 ? goalNode : goalId;
+
+            // Hedeften başa zincir; ilk eleman (start) hariç her bağlantı bir kenar parçası
+            int[] chain = new int[16];
+            int length = 0;
+            for (; v >= 0; v = parent[v]) {
+                if (length == chain.length) {
+                    chain = Arrays.copyOf(chain, length * 2);
+                }
+                chain[length++] = v;
+            }
+
+            for (int i = length - 2; i >= 0; i--) {
+                int node = chain[i];
+                int e = viaEdge[node];
+                int step = toOffset[node] > fromOffset[node] ? 1 : -1;
+                for (int offset = fromOffset[node] + step; ; offset += step) {
+                    positions.add(graph.toPosition(graph.cellOnEdge(e, offset)));
+                    if (offset == toOffset[node]) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // ===================== Kurulum =====================
+
+    /**
+     * Koridorları yürüyerek düğüm ve kenar dizilerini doldurur
+     */
+    private static final class Builder {
+        private final Maze maze;
+        final int[] nodeOf;
+        final int[] edgeOf;
+        final int[] offsetOf;
+        private final int[] neighbors = new int[4];
+
+        int nodeCount;
+        int[] nodeCell = new int[16];
+
+        int edgeCount;
+        int[] edgeA = new int[16];
+        int[] edgeB = new int[16];
+        int[] edgeLength = new int[16];
+        int[] interiorStart = new int[16];
+
+        int interiorCount;
+        int[] interiorCells = new int[16];
+
+        Builder(Maze maze) {
+            this.maze = maze;
+            int cellCount = maze.getCellCount();
+            nodeOf = new int[cellCount];
+            edgeOf = new int[cellCount];
+            offsetOf = new int[cellCount];
+            Arrays.fill(nodeOf, -1);
+            Arrays.fill(edgeOf, -1);
+        }
+
+        void build() {
+            int cellCount = maze.getCellCount();
+
+            // Derecesi 2 olmayan walkable hücreler düğümdür
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (maze.isWalkable(cell) && maze.getWalkableNeighbors(cell, neighbors) != 2) {
+                    addNode(cell);
+                }
+            }
+
+            int initialNodes = nodeCount;
+            for (int v = 0; v < initialNodes; v++) {
+                walkFrom(v);
+            }
+
+            // Düğümsüz halkalar: bir hücreyi düğüme yükselt ve halkayı yürü
+            for (int cell = 0; cell < cellCount; cell++) {
+                if (maze.isWalkable(cell) && nodeOf[cell] < 0 && edgeOf[cell] < 0) {
+                    walkFrom(addNode(cell));
+                }
+            }
+        }
+
+        private int addNode(int cell) {
+            if (nodeCount == nodeCell.length) {
+                nodeCell = Arrays.copyOf(nodeCell, nodeCount * 2);
+            }
+            nodeCell[nodeCount] = cell;
+            nodeOf[cell] = nodeCount;
+            return nodeCount++;
+        }
+
+        /**
+         * Düğümden çıkan henüz yürünmemiş koridorları kenara çevirir
+         */
+        private void walkFrom(int v) {
+            int cell = nodeCell[v];
+            int[] start = new int[4];
+            int count = maze.getWalkableNeighbors(cell, start);
+
+            for (int i = 0; i < count; i++) {
+                int next = start[i];
+                if (nodeOf[next] >= 0) {
+                    if (v < nodeOf[next]) {
+                        addEdge(v, nodeOf[next], 1, interiorCount);  // komşu iki düğüm
+                    }
+                    continue;
+                }
+                if (edgeOf[next] >= 0) {
+                    continue;  // diğer uçtan yürünmüş
+                }
+
+                int e = edgeCount;
+                int begin = interiorCount;
+                int prev = cell;
+                int current = next;
+                int offset = 1;
+
+                while (nodeOf[current] < 0) {
+                    edgeOf[current] = e;
+                    offsetOf[current] = offset++;
+                    appendInterior(current);
+
+                    maze.getWalkableNeighbors(current, neighbors);
+                    int following = neighbors[0] != prev ? neighbors[0] : neighbors[1];
+                    prev = current;
+                    current = following;
+                }
+
+                addEdge(v, nodeOf[current], offset, begin);
+            }
+        }
+
+        private void appendInterior(int cell) {
+            if (interiorCount == interiorCells.length) {
+                interiorCells = Arrays.copyOf(interiorCells, interiorCount * 2);
+            }
+            interiorCells[interiorCount++] = cell;
+        }
+
+        private void addEdge(int a, int b, int length, int begin) {
+            if (edgeCount == edgeA.length) {
+                int size = edgeCount * 2;
+                edgeA = Arrays.copyOf(edgeA, size);
+                edgeB = Arrays.copyOf(edgeB, size);
+                edgeLength = Arrays.copyOf(edgeLength, size);
+                interiorStart = Arrays.copyOf(interiorStart, size);
+            }
+            edgeA[edgeCount] = a;
+            edgeB[edgeCount] = b;
+            edgeLength[edgeCount] = length;
+            interiorStart[edgeCount] = begin;
+            edgeCount++;
+        }
+    }
+}
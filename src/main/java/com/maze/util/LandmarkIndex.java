@@ -0,0 +1,294 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ALT (A*, Landmarks, Triangle inequality) için landmark mesafe tabloları.
+ *
+ * Her landmark L için d(L, v) BFS mesafesi saklanır. Üçgen eşitsizliğinden
+ * her v, t için d(v, t) >= |d(L, t) - d(L, v)|; landmark'lar üzerindeki
+ * maksimum admissible ve consistent bir heuristic'tir. Labirentlerde
+ * koridorlar Manhattan mesafesini çok aşındırdığından bu sınır çok daha sıkıdır.
+ *
+ * Landmark seçimi (farthest-point):
+ *  1. Herhangi bir walkable hücreden en uzak hücre ilk landmark olur.
+ *  2. minDist[v] = seçilmiş landmark'lara en kısa mesafe; her yeni landmark
+ *     için sadece minDist'i düşüren hücrelere yayılan budanmış BFS ile güncellenir.
+ *  3. Sıradaki landmark minDist'i en büyük hücredir; hiç ulaşılmamış hücre
+ *     varsa (başka bileşen) önce o seçilir, böylece her bileşen landmark alır.
+ *
+ * Seçim tamamlandıktan sonra tam mesafe tabloları ForkJoinPool üzerinde
+ * landmark başına bir task ile paralel hesaplanır (her task kendi dizisine yazar).
+ *
+ * Tablolar Maze'in o anki haline aittir (getVersion); engel değişikliğinden
+ * sonra yeniden kurulmalıdır.
+ *
+ * Time Complexity: Kurulum O(k * V) (tablolar k task'a bölünür), sorgu O(k)
+ * Space Complexity: O(k * V)
+ */
+public final class LandmarkIndex {
+
+    /** Varsayılan landmark sayısı */
+    public static final int DEFAULT_LANDMARKS = 8;
+
+    /** Tabloda: landmark'tan erişilemeyen hücre */
+    public static final int UNREACHABLE = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int version;
+    private final int[] landmarks;      // landmark hücre index'leri
+    private final int[][] distances;    // distances[i][v] = d(landmarks[i], v)
+
+    private LandmarkIndex(Maze maze, int[] landmarks, int[][] distances) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.version = maze.getVersion();
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    /**
+     * Varsayılan landmark sayısı ve common pool ile kurar
+     */
+    public static LandmarkIndex build(Maze maze) {
+        return build(maze, DEFAULT_LANDMARKS, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param maze Labirent
+     * @param count İstenen landmark sayısı (walkable hücre sayısıyla sınırlanır)
+     * @param pool Tabloları hesaplayacak pool
+     */
+    public static LandmarkIndex build(Maze maze, int count, ForkJoinPool pool) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Landmark count must be positive: " + count);
+        }
+        Objects.requireNonNull(pool, "pool");
+
+        int[] selected = selectLandmarks(maze, count);
+        int[][] tables = new int[selected.length][];
+
+        // invoke() tamamlanınca task'ların yazdıkları bu thread'e görünür
+        pool.invoke(new BuildTables(maze, selected, tables));
+
+        return new LandmarkIndex(maze, selected, tables);
+    }
+
+    /**
+     * Farthest-point landmark seçimi (budanmış BFS'lerle)
+     */
+    private static int[] selectLandmarks(Maze maze, int count) {
+        int cellCount = maze.getCellCount();
+        int[] minDist = new int[cellCount];
+        int[] queue = new int[Math.max(1, maze.getWalkableCount())];
+        int[] neighbors = new int[4];
+
+        int seed = -1;
+        for (int cell = 0; cell < cellCount; cell++) {
+            if (maze.isWalkable(cell)) {
+                seed = cell;
+                break;
+            }
+        }
+        if (seed < 0) {
+            return new int[0];
+        }
+
+        // Seed'den en uzak hücre ilk landmark
+        Arrays.fill(minDist, Integer.MAX_VALUE);
+        relax(maze, seed, minDist, queue, neighbors);
+        int first = farthest(maze, minDist);
+
+        int[] selected = new int[Math.min(count, maze.getWalkableCount())];
+        int size = 0;
+        Arrays.fill(minDist, Integer.MAX_VALUE);
+
+        int next = first;
+        while (size < selected.length) {
+            selected[size++] = next;
+            relax(maze, next, minDist, queue, neighbors);
+
+            next = farthest(maze, minDist);
+            if (minDist[next] == 0) {
+                break;  // her walkable hücre zaten landmark
+            }
+        }
+
+        return size == selected.length ? selected : Arrays.copyOf(selected, size);
+    }
+
+    /**
+     * source'tan BFS; sadece minDist'i düşürdüğü hücrelere yayılır
+     */
+    private static void relax(Maze maze, int source, int[] minDist, int[] queue, int[] neighbors) {
+        int head = 0;
+        int tail = 0;
+        minDist[source] = 0;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int d = minDist[cell] + 1;
+            int found = maze.getWalkableNeighbors(cell, neighbors);
+            for (int i = 0; i < found; i++) {
+                int next = neighbors[i];
+                if (d < minDist[next]) {
+                    minDist[next] = d;
+                    queue[tail++] = next;
+                }
+            }
+        }
+    }
+
+    /**
+     * minDist'i en büyük walkable hücre (ulaşılmamış hücreler önce)
+     */
+    private static int farthest(Maze maze, int[] minDist) {
+        int best = -1;
+        int bestDistance = -1;
+        for (int cell = 0; cell < minDist.length; cell++) {
+            if (minDist[cell] > bestDistance && maze.isWalkable(cell)) {
+                best = cell;
+                bestDistance = minDist[cell];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Landmark başına bir BFS task'ı
+     */
+    private static final class BuildTables extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Maze maze;
+        private final int[] landmarks;
+        private final int[][] tables;
+
+        BuildTables(Maze maze, int[] landmarks, int[][] tables) {
+            this.maze = maze;
+            this.landmarks = landmarks;
+            this.tables = tables;
+        }
+
+        @Override
+        protected void compute() {
+            List<BuildTable> tasks = new ArrayList<>(landmarks.length);
+            for (int i = 0; i < landmarks.length; i++) {
+                tasks.add(new BuildTable(maze, landmarks[i], tables, i));
+            }
+            invokeAll(tasks);
+        }
+    }
+
+    private static final class BuildTable extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Maze maze;
+        private final int source;
+        private final int[][] tables;
+        private final int slot;
+
+        BuildTable(Maze maze, int source, int[][] tables, int slot) {
+            this.maze = maze;
+            this.source = source;
+            this.tables = tables;
+            this.slot = slot;
+        }
+
+        @Override
+        protected void compute() {
+            int[] dist = new int[maze.getCellCount()];
+            int[] queue = new int[maze.getWalkableCount()];
+            int[] neighbors = new int[4];
+            Arrays.fill(dist, UNREACHABLE);
+
+            int head = 0;
+            int tail = 0;
+            dist[source] = 0;
+            queue[tail++] = source;
+
+            while (head < tail) {
+                int cell = queue[head++];
+                int d = dist[cell] + 1;
+                int found = maze.getWalkableNeighbors(cell, neighbors);
+                for (int i = 0; i < found; i++) {
+                    int next = neighbors[i];
+                    if (dist[next] == UNREACHABLE) {
+                        dist[next] = d;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+
+            tables[slot] = dist;
+        }
+    }
+
+    /**
+     * Hedefin landmark mesafeleri; arama boyunca bir kez okunur
+     */
+    public int[] distancesTo(int target) {
+        int[] result = new int[distances.length];
+        for (int i = 0; i < distances.length; i++) {
+            result[i] = distances[i][target];
+        }
+        return result;
+    }
+
+    /**
+     * d(cell, target) için üçgen eşitsizliği alt sınırı
+     * @param targetDistances distancesTo(target) sonucu
+     * @return max_L |d(L, target) - d(L, cell)| (0: bilgi yok)
+     */
+    public int lowerBound(int cell, int[] targetDistances) {
+        int bound = 0;
+        for (int i = 0; i < targetDistances.length; i++) {
+            int a = distances[i][cell];
+            int b = targetDistances[i];
+            if (a != UNREACHABLE && b != UNREACHABLE) {
+                bound = Math.max(bound, Math.abs(a - b));
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * Bir landmark iki hücreden sadece birine ulaşabiliyorsa farklı
+     * bileşendedirler. Landmark alan bileşenler için kesindir; seçim
+     * ulaşılmamış bileşenleri önce aldığından k >= bileşen sayısında hep kesindir.
+     * @return false ise yol kesinlikle yok
+     */
+    public boolean mayBeConnected(int a, int b) {
+        for (int[] dist : distances) {
+            if ((dist[a] == UNREACHABLE) != (dist[b] == UNREACHABLE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Tablolar bu labirentin mevcut haline mi ait?
+     */
+    public boolean isCurrent(Maze maze) {
+        return maze != null && maze.getRows() == rows && maze.getCols() == cols
+                && maze.getVersion() == version;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * @return Landmark hücre index'leri (kopya)
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+}
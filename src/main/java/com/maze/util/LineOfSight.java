@@ -0,0 +1,140 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+
+/**
+ * Hücre merkezleri arasında görüş hattı (line-of-sight) kontrolü, sonuç cache'li.
+ *
+ * İki hücre merkezini birleştiren doğru parçasının geçtiği tüm hücreler
+ * tam sayı aritmetiğiyle (her adımda sadece yatay veya dikey geçiş) gezilir
+ * ve Maze'in paketlenmiş walkable bitset'inden okunur. Doğru tam bir grid
+ * köşesinden geçiyorsa köşe kesme yoktur: köşeye dokunan iki hücre de
+ * walkable olmalıdır (8-yönlü JPS / getNeighbors8 modeliyle aynı kural).
+ * Kontrol simetriktir; cache anahtarı (küçük, büyük) hücre çiftidir.
+ *
+ * Any-angle aramalar aynı (ebeveyn, hücre) çiftini tekrar tekrar sorar;
+ * sonuçlar LongIntHashMap'te tutulur ve MAX_CACHED girişte cache boşaltılır.
+ * Nesne Maze'in o anki haline aittir (getVersion); walkable yapısı değişince
+ * yeniden oluşturulmalıdır.
+ *
+ * Time Complexity: O(|dr| + |dc|) ilk sorgu, O(1) cache'li sorgu
+ * Space Complexity: O(cache boyutu)
+ */
+public final class LineOfSight {
+
+    /** Cache'te tutulan en fazla hücre çifti */
+    public static final int MAX_CACHED = 1 << 20;
+
+    private static final int BLOCKED = 0;
+    private static final int VISIBLE = 1;
+    private static final int UNKNOWN = -1;
+
+    private final Maze maze;
+    private final int version;
+    private final int cols;
+    private final long cellCount;
+    private final long[] walkable;
+    private final LongIntHashMap cache = new LongIntHashMap();
+
+    private long checks;
+    private long hits;
+
+    public LineOfSight(Maze maze) {
+        this.maze = maze;
+        this.version = maze.getVersion();
+        this.cols = maze.getCols();
+        this.cellCount = maze.getCellCount();
+        this.walkable = maze.getWalkableBits();
+    }
+
+    /**
+     * @return from ve to hücre merkezleri arasındaki doğru sadece walkable hücrelerden geçiyorsa true
+     */
+    public boolean visible(int from, int to) {
+        if (from == to) {
+            return isWalkable(from);
+        }
+
+        long key = from < to ? from * cellCount + to : to * cellCount + from;
+        int cached = cache.get(key, UNKNOWN);
+        if (cached != UNKNOWN) {
+            hits++;
+            return cached == VISIBLE;
+        }
+
+        checks++;
+        boolean result = trace(from, to);
+        if (cache.size() >= MAX_CACHED) {
+            cache.clear();
+        }
+        cache.put(key, result ? VISIBLE : BLOCKED);
+        return result;
+    }
+
+    /**
+     * Doğrunun geçtiği hücreleri sırayla gezer.
+     * Adım i (yatay) ve j (dikey) geçişleri, doğrunun bir sonraki dikey
+     * (1 + 2i) / (2 * |dc|) ve yatay (1 + 2j) / (2 * |dr|) grid çizgisine
+     * ulaştığı parametrelerin karşılaştırmasıyla sıralanır; eşitlik köşedir.
+     */
+    private boolean trace(int from, int to) {
+        int row = from / cols;
+        int col = from % cols;
+        int dr = to / cols - row;
+        int dc = to % cols - col;
+        int stepRow = Integer.signum(dr);
+        int stepCol = Integer.signum(dc);
+        long ar = Math.abs(dr);
+        long ac = Math.abs(dc);
+
+        if (!isWalkable(from)) {
+            return false;
+        }
+
+        for (long i = 0, j = 0; i < ac || j < ar; ) {
+            long decision = (1 + 2 * i) * ar - (1 + 2 * j) * ac;
+            if (decision == 0) {
+                // Köşe: iki yan hücre de açık olmalı
+                if (!isWalkable(row * cols + col + stepCol) || !isWalkable((row + stepRow) * cols + col)) {
+                    return false;
+                }
+                row += stepRow;
+                col += stepCol;
+                i++;
+                j++;
+            } else if (decision < 0) {
+                col += stepCol;
+                i++;
+            } else {
+                row += stepRow;
+                j++;
+            }
+            if (!isWalkable(row * cols + col)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isWalkable(int index) {
+        return (walkable[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Bu nesne labirentin mevcut hali için mi oluşturuldu?
+     */
+    public boolean isCurrent(Maze maze) {
+        return maze == this.maze && maze.getVersion() == version;
+    }
+
+    /**
+     * Cache'e düşmeyip doğru üzerinde yürünerek cevaplanan sorgu sayısı
+     */
+    public long getTraceCount() {
+        return checks;
+    }
+
+    public long getCacheHits() {
+        return hits;
+    }
+}
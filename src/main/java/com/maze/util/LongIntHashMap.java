@@ -0,0 +1,208 @@
+package com.maze.util;
+
+import java.util.Arrays;
+
+/**
+ * long -> int primitive hash map (open addressing, linear probing).
+ *
+ * HashMap&lt;Long, Integer&gt;'ın aksine anahtar/değer kutulanmaz (boxing yok);
+ * çok sayıda küçük kayıt tutan index yapıları içindir.
+ * Silme, geri kaydırma (backward shift) ile yapılır; mezar taşı (tombstone) bırakmaz.
+ */
+public final class LongIntHashMap {
+
+    private static final long FREE = 0L;  // boş slot işareti (0 anahtarı ayrıca tutulur)
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    public LongIntHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Beklenen kayıt sayısı
+     */
+    public LongIntHashMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    /**
+     * @return Anahtarın değeri (yoksa defaultValue)
+     */
+    public int get(long key, int defaultValue) {
+        if (key == FREE) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Değeri yazar (varsa üzerine)
+     */
+    public void put(long key, int value) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Anahtarı siler
+     * @return Silinen değer (yoksa defaultValue)
+     */
+    public int remove(long key, int defaultValue) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                return defaultValue;
+            }
+            hasZeroKey = false;
+            size--;
+            return zeroValue;
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                int old = values[slot];
+                shiftKeys(slot);
+                size--;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Boşalan slot'tan sonra gelen ve kendi yerinde olmayan kayıtları geri kaydırır
+     */
+    private void shiftKeys(int slot) {
+        while (true) {
+            int last = slot;
+            slot = (slot + 1) & mask;
+
+            long key;
+            while (true) {
+                key = keys[slot];
+                if (key == FREE) {
+                    keys[last] = FREE;
+                    return;
+                }
+                int ideal = hash(key) & mask;
+                // ideal, (last, slot] aralığında değilse kayıt last'a taşınabilir
+                if (last <= slot ? (last >= ideal || ideal > slot) : (last >= ideal && ideal > slot)) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            keys[last] = key;
+            values[last] = values[slot];
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LongIntHashMap{size=" + size + ", capacity=" + keys.length + "}";
+    }
+}
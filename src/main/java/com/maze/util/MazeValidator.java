@@ -23,10 +23,6 @@ public class MazeValidator {
             return false;
         }
 
-        if (maze.getGrid() == null) {
-            return false;
-        }
-
         return true;
     }
 
@@ -72,8 +68,8 @@ public class MazeValidator {
             return false;
         }
 
-        // Start ve end arasında path var mı kontrol et
-        return PathUtils.isConnected(maze, start);
+        // Start ve end aynı bağlı bileşende mi? (index önbellekte, O(1))
+        return maze.getComponentIndex().areConnected(start, end);
     }
 
     /**
@@ -101,8 +97,7 @@ public class MazeValidator {
             return false;
         }
 
-        Cell cell = maze.getCell(pos);
-        return cell != null && cell.isWalkable();
+        return maze.isWalkable(pos.getRow(), pos.getCol());
     }
 
     /**
@@ -139,9 +134,8 @@ public class MazeValidator {
     private static Position findFirstWalkablePosition(Maze maze) {
         for (int r = 0; r < maze.getRows(); r++) {
             for (int c = 0; c < maze.getCols(); c++) {
-                Cell cell = maze.getCell(r, c);
-                if (cell != null && cell.isWalkable()) {
-                    return cell.getPosition();
+                if (maze.isWalkable(r, c)) {
+                    return new Position(r, c);
                 }
             }
         }
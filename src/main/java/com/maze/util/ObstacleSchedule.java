@@ -0,0 +1,182 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+
+import java.util.*;
+
+/**
+ * Bilinen rotalarda devriye gezen (hareketli) engellerin zaman indeksli tablosu.
+ *
+ * Her rota döngüseldir: route[t mod L] engelin t. tick'teki hücresidir;
+ * ardışık hücreler (son -> ilk dahil) 4-komşu veya aynıdır (bekleme).
+ * Tüm tablo period = EKOK(rota uzunlukları) tick'te bir tekrar eder;
+ * space-time aramalar (hücre, tick mod period) ile tekrar eden durumları budar.
+ *
+ * Doluluk: aynı uzunluktaki rotalar bir LongIntHashMap'te toplanır,
+ * anahtar ((t mod L) << 32) | hücre, değer rota id. Sorgu farklı rota
+ * uzunluğu sayısı kadar hash okumasıdır.
+ *
+ * Time Complexity: Kurulum O(toplam rota uzunluğu), sorgu O(farklı uzunluk sayısı)
+ * Space Complexity: O(toplam rota uzunluğu)
+ */
+public final class ObstacleSchedule {
+
+    /** İzin verilen en büyük period (durum uzayı V * period) */
+    public static final int MAX_PERIOD = 1 << 20;
+
+    /** Hücre o tick'te boş */
+    public static final int FREE = -1;
+
+    private final int rows;
+    private final int cols;
+    private final int[][] routes;          // rota id -> tick başına hücre
+    private final int[] lengths;           // farklı rota uzunlukları
+    private final LongIntHashMap[] byLength;
+    private final int period;
+
+    /**
+     * @param maze Rotaların bulunduğu labirent (hücreler walkable olmalı)
+     * @param patrols Rotalar; her biri tick başına bir pozisyon
+     */
+    public ObstacleSchedule(Maze maze, List<List<Position>> patrols) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.routes = new int[patrols.size()][];
+
+        Map<Integer, LongIntHashMap> groups = new TreeMap<>();
+        long lcm = 1;
+
+        for (int r = 0; r < patrols.size(); r++) {
+            List<Position> patrol = patrols.get(r);
+            if (patrol == null || patrol.isEmpty()) {
+                throw new IllegalArgumentException("Empty patrol route: " + r);
+            }
+
+            int[] route = new int[patrol.size()];
+            for (int t = 0; t < route.length; t++) {
+                Position pos = patrol.get(t);
+                if (pos == null || !maze.isValid(pos) || !maze.isWalkable(pos.getRow(), pos.getCol())) {
+                    throw new IllegalArgumentException("Route " + r + " leaves walkable cells at tick " + t + ": " + pos);
+                }
+                route[t] = maze.toIndex(pos);
+            }
+            for (int t = 0; t < route.length; t++) {
+                int next = route[(t + 1) % route.length];
+                if (!isStep(route[t], next)) {
+                    throw new IllegalArgumentException("Route " + r + " jumps at tick " + t);
+                }
+            }
+            routes[r] = route;
+
+            LongIntHashMap group = groups.computeIfAbsent(route.length, k -> new LongIntHashMap());
+            for (int t = 0; t < route.length; t++) {
+                group.put(key(route[t], t), r);
+            }
+
+            lcm = lcm / gcd(lcm, route.length) * route.length;
+            if (lcm > MAX_PERIOD) {
+                throw new IllegalArgumentException("Schedule period (LCM of route lengths) exceeds " + MAX_PERIOD);
+            }
+        }
+
+        this.period = (int) lcm;
+        this.lengths = new int[groups.size()];
+        this.byLength = new LongIntHashMap[groups.size()];
+        int i = 0;
+        for (Map.Entry<Integer, LongIntHashMap> entry : groups.entrySet()) {
+            lengths[i] = entry.getKey();
+            byLength[i++] = entry.getValue();
+        }
+    }
+
+    private boolean isStep(int from, int to) {
+        int dr = Math.abs(from / cols - to / cols);
+        int dc = Math.abs(from % cols - to % cols);
+        return dr + dc <= 1;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static long key(int cell, int phase) {
+        return ((long) phase << 32) | cell;
+    }
+
+    /**
+     * @return Hücrede o tick'te bulunan rota id veya FREE
+     */
+    public int occupant(int cell, int tick) {
+        for (int i = 0; i < lengths.length; i++) {
+            int route = byLength[i].get(key(cell, tick % lengths[i]), FREE);
+            if (route != FREE) {
+                return route;
+            }
+        }
+        return FREE;
+    }
+
+    public boolean isOccupied(int cell, int tick) {
+        return occupant(cell, tick) != FREE;
+    }
+
+    /**
+     * from -> to hamlesi (tick -> tick + 1) bir engelle çakışıyor mu?
+     * Hedef hücre tick + 1'de dolu ise veya bir engel aynı anda ters yönde
+     * geçiyorsa (swap) çakışır. from == to bekleme demektir.
+     */
+    public boolean blocksMove(int from, int to, int tick) {
+        if (isOccupied(to, tick + 1)) {
+            return true;
+        }
+        if (from == to) {
+            return false;
+        }
+        int route = occupant(to, tick);
+        return route != FREE && cellOf(route, tick + 1) == from;
+    }
+
+    /**
+     * @return Rotanın o tick'teki hücresi
+     */
+    public int cellOf(int route, int tick) {
+        int[] cells = routes[route];
+        return cells[tick % cells.length];
+    }
+
+    /**
+     * O tick'te dolu pozisyonlar (çizim için)
+     */
+    public List<Position> getOccupied(int tick) {
+        List<Position> occupied = new ArrayList<>(routes.length);
+        for (int r = 0; r < routes.length; r++) {
+            int cell = cellOf(r, tick);
+            occupied.add(new Position(cell / cols, cell % cols));
+        }
+        return occupied;
+    }
+
+    /**
+     * Tablonun tekrar periyodu (rota uzunluklarının EKOK'u)
+     */
+    public int getPeriod() {
+        return period;
+    }
+
+    public int getRouteCount() {
+        return routes.length;
+    }
+
+    /**
+     * Tablo bu boyuttaki labirent için mi kuruldu?
+     */
+    public boolean fits(Maze maze) {
+        return maze != null && maze.getRows() == rows && maze.getCols() == cols;
+    }
+}
@@ -9,7 +9,8 @@ import java.util.*;
 public class PathUtils {
 
     /**
-     * Path'in geçerli olup olmadığını kontrol eder
+     * Path'in geçerli olup olmadığını kontrol eder (hücre hücre yol; waypoint
+     * yolları için isValidWaypointPath)
      * @param path Yol
      * @param maze Labirent
      * @return true ise geçerli
@@ -41,6 +42,35 @@ public class PathUtils {
         return true;
     }
 
+    /**
+     * Waypoint (any-angle) yolunu kontrol eder: ardışık waypoint'ler arasındaki
+     * doğru parçası sadece walkable hücrelerden geçmelidir
+     * @param path Yol (IPathFinder.returnsWaypoints() true olan finder'dan)
+     * @param maze Labirent
+     * @return true ise geçerli
+     */
+    public static boolean isValidWaypointPath(Path path, Maze maze) {
+        if (path == null || path.isEmpty() || maze == null) {
+            return false;
+        }
+
+        List<Position> positions = path.getPositions();
+        for (Position pos : positions) {
+            if (!MazeValidator.isWalkable(maze, pos)) {
+                return false;
+            }
+        }
+
+        LineOfSight lineOfSight = new LineOfSight(maze);
+        for (int i = 0; i < positions.size() - 1; i++) {
+            if (!lineOfSight.visible(maze.toIndex(positions.get(i)), maze.toIndex(positions.get(i + 1)))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * İki pozisyon komşu mu kontrol eder
      * @param a İlk pozisyon
@@ -137,6 +167,106 @@ public class PathUtils {
         return false;
     }
 
+    /**
+     * Tek hedefli bir aramanın segment çağrısı (greedyMultiTarget için)
+     */
+    @FunctionalInterface
+    public interface SegmentFinder {
+        /**
+         * @param elapsed Birleşik yolda from'a kadar atılmış adım sayısı
+         *                (zaman indeksli aramalar için; diğerleri yok sayar)
+         * @return from -> to yolu (yoksa boş)
+         */
+        Path find(Position from, Position to, int elapsed);
+    }
+
+    /**
+     * Sıradaki hedefi seçmek için mesafe tahmini (greedyMultiTarget için)
+     */
+    @FunctionalInterface
+    public interface TargetDistance {
+        /**
+         * @return from -> to mesafesi (negatif: ulaşılamaz)
+         */
+        int distance(Position from, Position to);
+    }
+
+    /**
+     * Çoklu hedef: her adımda Manhattan'a göre en yakın ziyaret edilmemiş
+     * hedefe segment arar ve segmentleri birleştirir (greedy, optimal değil).
+     * Maliyet ve süre segmentlerinkinin toplamıdır.
+     * @return Tüm hedefleri sırayla kapsayan yol (bir segment yoksa boş)
+     */
+    public static Path greedyMultiTarget(Maze maze, Position start, List<Position> targets,
+                                         SegmentFinder segmentFinder) {
+        return greedyMultiTarget(maze, start, targets, PathUtils::manhattanDistance, segmentFinder);
+    }
+
+    /**
+     * greedyMultiTarget, sıradaki hedef targetDistance'a göre en yakın olanı.
+     * Gerçek mesafeyi ucuza bilen aramalar (ör. contraction hierarchy) içindir.
+     * @return Tüm hedefleri sırayla kapsayan yol (bir hedef ulaşılamazsa boş)
+     */
+    public static Path greedyMultiTarget(Maze maze, Position start, List<Position> targets,
+                                         TargetDistance targetDistance, SegmentFinder segmentFinder) {
+        if (maze == null || start == null || targets == null || targets.isEmpty()) {
+            return new Path(new ArrayList<>());
+        }
+
+        List<Position> completePath = new ArrayList<>();
+        completePath.add(start);
+        double totalCost = 0;
+        long totalTime = 0;
+
+        Position current = start;
+        Set<Position> visited = new HashSet<>();
+
+        // Her adımda en yakın hedefe git (greedy)
+        while (visited.size() < targets.size()) {
+            Position nearest = null;
+            int minDistance = Integer.MAX_VALUE;
+            boolean pending = false;
+
+            for (Position target : targets) {
+                if (visited.contains(target)) {
+                    continue;
+                }
+                pending = true;
+                int distance = targetDistance.distance(current, target);
+                if (distance >= 0 && distance < minDistance) {
+                    minDistance = distance;
+                    nearest = target;
+                }
+            }
+
+            if (nearest == null) {
+                // Kalan hedeflerin hiçbirine ulaşılamıyor
+                if (pending) {
+                    return new Path(new ArrayList<>());
+                }
+                break;
+            }
+
+            Path segment = segmentFinder.find(current, nearest, completePath.size() - 1);
+
+            // Yol yoksa tüm çözüm başarısız
+            if (segment.isEmpty()) {
+                return new Path(new ArrayList<>());
+            }
+
+            // İlk pozisyonu (current) tekrar eklememek için subList
+            List<Position> segmentPositions = segment.getPositions();
+            completePath.addAll(segmentPositions.subList(1, segmentPositions.size()));
+            totalCost += segment.getCost();
+            totalTime += segment.getComputationTimeMs();
+
+            current = nearest;
+            visited.add(nearest);
+        }
+
+        return new Path(completePath, totalCost, totalTime);
+    }
+
     /**
      * Path'i ters çevirir
      * @param path Yol
@@ -165,9 +295,8 @@ public class PathUtils {
         // Tüm walkable hücreler için node oluştur
         for (int r = 0; r < maze.getRows(); r++) {
             for (int c = 0; c < maze.getCols(); c++) {
-                Cell cell = maze.getCell(r, c);
-                if (cell.isWalkable()) {
-                    Position pos = cell.getPosition();
+                if (maze.isWalkable(r, c)) {
+                    Position pos = new Position(r, c);
                     Node node = new Node(pos);
                     nodes.add(node);
                     nodeMap.put(positionKey(pos), node);
@@ -284,15 +413,7 @@ public class PathUtils {
      * @return Walkable hücre sayısı
      */
     public static int countWalkableCells(Maze maze) {
-        int count = 0;
-        for (int r = 0; r < maze.getRows(); r++) {
-            for (int c = 0; c < maze.getCols(); c++) {
-                if (maze.getCell(r, c).isWalkable()) {
-                    count++;
-                }
-            }
-        }
-        return count;
+        return maze.getWalkableCount();
     }
 
     /**
@@ -305,37 +426,17 @@ public class PathUtils {
     }
 
     /**
-     * Maze'in connected olup olmadığını kontrol eder (BFS ile)
+     * Maze'in connected olup olmadığını kontrol eder (kelime-paralel flood fill ile)
      * @param maze Labirent
      * @param start Başlangıç pozisyonu
      * @return true ise tüm walkable hücreler erişilebilir
      */
     public static boolean isConnected(Maze maze, Position start) {
-        if (!maze.isValid(start) || !maze.getCell(start).isWalkable()) {
+        if (!maze.isWalkable(start.getRow(), start.getCol())) {
             return false;
         }
 
-        int walkableCount = countWalkableCells(maze);
-        Set<Position> visited = new HashSet<>();
-        Queue<Position> queue = new LinkedList<>();
-
-        queue.offer(start);
-        visited.add(start);
-
-        while (!queue.isEmpty()) {
-            Position current = queue.poll();
-            List<Cell> neighbors = maze.getNeighbors(current);
-
-            for (Cell neighbor : neighbors) {
-                Position neighborPos = neighbor.getPosition();
-                if (neighbor.isWalkable() && !visited.contains(neighborPos)) {
-                    visited.add(neighborPos);
-                    queue.offer(neighborPos);
-                }
-            }
-        }
-
-        return visited.size() == walkableCount;
+        return FloodFill.reachableFrom(maze, start).getReachableCount() == maze.getWalkableCount();
     }
 
     /**
@@ -350,10 +451,8 @@ public class PathUtils {
         for (int i = 0; i < maxAttempts; i++) {
             int row = random.nextInt(maze.getRows());
             int col = random.nextInt(maze.getCols());
-            Cell cell = maze.getCell(row, col);
-
-            if (cell != null && cell.isWalkable()) {
-                return cell.getPosition();
+            if (maze.isWalkable(row, col)) {
+                return new Position(row, col);
             }
         }
 
@@ -0,0 +1,56 @@
+package com.maze.util;
+
+import com.maze.model.Position;
+
+/**
+ * Bir kaynaktan erişilebilen hücrelerin bit maskesi.
+ *
+ * Her satır kendi long kelimelerinde tutulur (satır başına ceil(cols / 64) kelime),
+ * böylece satır içi kaydırmalar kelime sınırında başka satıra taşmaz.
+ * Sorgular O(1)'dir.
+ */
+public final class ReachabilityMask {
+
+    private final int rows;
+    private final int cols;
+    private final int rowWords;
+    private final long[] bits;
+    private final int reachableCount;
+
+    ReachabilityMask(int rows, int cols, int rowWords, long[] bits, int reachableCount) {
+        this.rows = rows;
+        this.cols = cols;
+        this.rowWords = rowWords;
+        this.bits = bits;
+        this.reachableCount = reachableCount;
+    }
+
+    /**
+     * @return true ise hücre kaynaktan erişilebilir (sınır dışı ise false)
+     */
+    public boolean isReachable(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        return (bits[row * rowWords + (col >>> 6)] & (1L << col)) != 0;
+    }
+
+    public boolean isReachable(Position pos) {
+        return pos != null && isReachable(pos.getRow(), pos.getCol());
+    }
+
+    /**
+     * Erişilebilen hücre sayısı (kaynak dahil)
+     */
+    public int getReachableCount() {
+        return reachableCount;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+
+    @Override
+    public String toString() {
+        return "ReachabilityMask{" + rows + "x" + cols + ", reachable=" + reachableCount + "}";
+    }
+}
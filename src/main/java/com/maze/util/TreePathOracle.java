@@ -0,0 +1,216 @@
+package com.maze.util;
+
+import com.maze.model.Maze;
+import com.maze.model.Position;
+
+import java.util.*;
+
+/**
+ * Ağaç (perfect) labirentler için yol oracle'ı: LCA + binary lifting.
+ *
+ * Kruskal, Prim ve recursive backtracker engel eklenmeden önce spanning tree
+ * üretir; iki hücre arasındaki yol tektir. Walkable graf her bileşenden bir
+ * kökle BFS ile köklendirilir (derinlik, ebeveyn, bileşen), ardından
+ * up[k][v] = v'nin 2^k. atası tabloları düz bir int dizisinde kurulur.
+ *
+ *  - distance(a, b) = depth(a) + depth(b) - 2 * depth(lca), O(log n)
+ *  - path(a, b): a'dan ve b'den LCA'ya ebeveyn zinciri, O(uzunluk)
+ *
+ * Graf döngü içeriyorsa (ör. sonradan açılmış duvarlar) build null döner.
+ * Maze'in o anki haline aittir (getVersion).
+ *
+ * Time Complexity: Kurulum O(V log D), distance O(log D), path O(L) (D: en büyük derinlik)
+ * Space Complexity: O(V log D)
+ */
+public final class TreePathOracle {
+
+    public static final String ALGORITHM_NAME = "Tree Path Oracle (LCA)";
+
+    private final int rows;
+    private final int cols;
+    private final int version;
+    private final int[] nodeOf;     // hücre -> düğüm (-1: walkable değil)
+    private final int[] cellOf;     // düğüm -> hücre
+    private final int[] depth;
+    private final int[] component;
+    private final int[] up;         // up[k * n + v]: v'nin 2^k. atası (kökte kendisi)
+    private final int levels;
+
+    private TreePathOracle(Maze maze, int[] nodeOf, int[] cellOf, int[] depth,
+                           int[] component, int[] up, int levels) {
+        this.rows = maze.getRows();
+        this.cols = maze.getCols();
+        this.version = maze.getVersion();
+        this.nodeOf = nodeOf;
+        this.cellOf = cellOf;
+        this.depth = depth;
+        this.component = component;
+        this.up = up;
+        this.levels = levels;
+    }
+
+    /**
+     * Walkable graf bir orman ise oracle'ı kurar
+     * @param maze Labirent
+     * @return Oracle veya graf döngü içeriyorsa null
+     */
+    public static TreePathOracle build(Maze maze) {
+        int cellCount = maze.getCellCount();
+        int n = maze.getWalkableCount();
+
+        int[] nodeOf = new int[cellCount];
+        int[] cellOf = new int[n];
+        int[] parent = new int[n];
+        int[] depth = new int[n];
+        int[] component = new int[n];
+        Arrays.fill(nodeOf, -1);
+
+        int[] neighbors = new int[4];
+        int count = 0;
+        int components = 0;
+        int maxDepth = 0;
+
+        for (int root = 0; root < cellCount; root++) {
+            if (!maze.isWalkable(root) || nodeOf[root] >= 0) {
+                continue;
+            }
+
+            // BFS: düğüm id'leri ziyaret sırasıyla verilir, cellOf kuyruk olarak da kullanılır
+            int head = count;
+            nodeOf[root] = count;
+            cellOf[count] = root;
+            parent[count] = count;
+            component[count++] = components;
+
+            while (head < count) {
+                int v = head++;
+                int cell = cellOf[v];
+                int found = maze.getWalkableNeighbors(cell, neighbors);
+
+                for (int i = 0; i < found; i++) {
+                    int next = neighbors[i];
+                    int w = nodeOf[next];
+                    if (w >= 0) {
+                        if (w != parent[v]) {
+                            return null;  // ebeveyn dışında ziyaretli komşu: döngü
+                        }
+                        continue;
+                    }
+                    nodeOf[next] = count;
+                    cellOf[count] = next;
+                    parent[count] = v;
+                    depth[count] = depth[v] + 1;
+                    component[count] = components;
+                    maxDepth = Math.max(maxDepth, depth[count]);
+                    count++;
+                }
+            }
+            components++;
+        }
+
+        // Binary lifting tabloları
+        int levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(maxDepth));
+        int[] up = new int[levels * n];
+        System.arraycopy(parent, 0, up, 0, n);
+        for (int k = 1; k < levels; k++) {
+            int base = k * n;
+            int previous = (k - 1) * n;
+            for (int v = 0; v < n; v++) {
+                up[base + v] = up[previous + up[previous + v]];
+            }
+        }
+
+        return new TreePathOracle(maze, nodeOf, cellOf, depth, component, up, levels);
+    }
+
+    /**
+     * İki hücre arasındaki (tek) yolun uzunluğu
+     * @return Adım sayısı veya erişilemiyorsa -1
+     */
+    public int distance(Position a, Position b) {
+        int u = nodeAt(a);
+        int v = nodeAt(b);
+        if (u < 0 || v < 0 || component[u] != component[v]) {
+            return -1;
+        }
+        return depth[u] + depth[v] - 2 * depth[lca(u, v)];
+    }
+
+    /**
+     * İki hücre arasındaki (tek) yol
+     * @return a -> b pozisyonları (erişilemiyorsa boş)
+     */
+    public List<Position> path(Position a, Position b) {
+        int u = nodeAt(a);
+        int v = nodeAt(b);
+        if (u < 0 || v < 0 || component[u] != component[v]) {
+            return new ArrayList<>();
+        }
+
+        int ancestor = lca(u, v);
+        int length = depth[u] + depth[v] - 2 * depth[ancestor] + 1;
+        Position[] positions = new Position[length];
+
+        // a -> lca baştan, b -> lca sondan doldurulur
+        int index = 0;
+        for (int x = u; x != ancestor; x = up[x]) {
+            positions[index++] = toPosition(x);
+        }
+        positions[index] = toPosition(ancestor);
+        index = length - 1;
+        for (int x = v; x != ancestor; x = up[x]) {
+            positions[index--] = toPosition(x);
+        }
+
+        return new ArrayList<>(Arrays.asList(positions));
+    }
+
+    private int lca(int u, int v) {
+        int n = cellOf.length;
+        if (depth[u] < depth[v]) {
+            int swap = u;
+            u = v;
+            v = swap;
+        }
+
+        int diff = depth[u] - depth[v];
+        for (int k = 0; diff != 0; k++, diff >>>= 1) {
+            if ((diff & 1) != 0) {
+                u = up[k * n + u];
+            }
+        }
+        if (u == v) {
+            return u;
+        }
+
+        for (int k = levels - 1; k >= 0; k--) {
+            int base = k * n;
+            if (up[base + u] != up[base + v]) {
+                u = up[base + u];
+                v = up[base + v];
+            }
+        }
+        return up[u];
+    }
+
+    private int nodeAt(Position pos) {
+        if (pos == null || pos.getRow() < 0 || pos.getRow() >= rows
+                || pos.getCol() < 0 || pos.getCol() >= cols) {
+            return -1;
+        }
+        return nodeOf[pos.getRow() * cols + pos.getCol()];
+    }
+
+    private Position toPosition(int node) {
+        int cell = cellOf[node];
+        return new Position(cell / cols, cell % cols);
+    }
+
+    /**
+     * Oracle bu labirentin mevcut haline mi ait?
+     */
+    public boolean isCurrent(Maze maze) {
+        return maze != null && maze.getRows() == rows && maze.getCols() == cols
+                && maze.getVersion() == version;
+    }
+}